@@ -0,0 +1,67 @@
+package com.assignment.mavenproject1.benchmarks;
+
+import java.io.File;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the pipeline benchmarks once per thread count and writes one JSON result file per run.
+ *
+ * Usage: java -jar benchmarks/target/benchmarks.jar [threads=1,2,4,8] [include=regex] [out=dir] [prof=gc]
+ * Result files (out/jmh-{threads}t.json) are JMH's standard JSON so runs can be diffed across commits.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String threadCounts = "1,2,4,8";
+        String include = ".*Benchmark.*";
+        String outDir = "benchmark-results";
+        String profiler = null;
+
+        for (String arg : args) {
+            if (arg.startsWith("threads=")) {
+                threadCounts = arg.substring("threads=".length());
+            } else if (arg.startsWith("include=")) {
+                include = arg.substring("include=".length());
+            } else if (arg.startsWith("out=")) {
+                outDir = arg.substring("out=".length());
+            } else if (arg.startsWith("prof=")) {
+                profiler = arg.substring("prof=".length());
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        File dir = new File(outDir);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IllegalStateException("Cannot create result directory " + dir);
+        }
+
+        for (String count : threadCounts.split(",")) {
+            int threads = Integer.parseInt(count.trim());
+            File result = new File(dir, "jmh-" + threads + "t.json");
+            System.out.println("BenchmarkRunner: " + threads + " thread(s) -> " + result);
+
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .forks(1)
+                    .warmupIterations(3)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .jvmArgsAppend("-Xmx2g")
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(result.getPath());
+            if (profiler != null) {
+                options.addProfiler(profiler);
+            }
+            new Runner(options.build()).run();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.assignment.mavenproject1.benchmarks;
+
+import com.assignment.mavenproject1.EventJournal;
+import com.assignment.mavenproject1.JournalEvent;
+import com.assignment.mavenproject1.Order;
+import com.assignment.mavenproject1.PipelineStage;
+import com.assignment.mavenproject1.ScenarioConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Journalling one stage event, as every station does per order; each benchmark thread
+ * writes its own chunks of a fresh journal file per iteration
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EventJournalBenchmark {
+
+    private File file;
+    private EventJournal journal;
+    private Order order;
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException {
+        file = File.createTempFile("journal-benchmark", ".bin");
+        journal = EventJournal.open(file.getPath(), EventJournal.Clock.SIMULATED, ScenarioConfig.defaults().toScenario());
+        order = new Order(1, 0);
+        order.markEnqueued(PipelineStage.PICKING, 10);
+        order.markStarted(PipelineStage.PICKING, 20);
+        order.markCompleted(PipelineStage.PICKING, 25);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        journal.close();
+        file.delete();
+    }
+
+    @Benchmark
+    public void orderEvent() {
+        journal.order(JournalEvent.ORDER_PICKED, order, 25);
+    }
+
+    // The cost every stage pays when the run is not journalled
+    @Benchmark
+    public void disabled() {
+        EventJournal.DISABLED.order(JournalEvent.ORDER_PICKED, order, 25);
+    }
+}
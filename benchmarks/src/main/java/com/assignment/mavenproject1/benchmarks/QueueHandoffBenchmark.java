@@ -0,0 +1,105 @@
+package com.assignment.mavenproject1.benchmarks;
+
+import com.assignment.mavenproject1.MpmcRingBuffer;
+import com.assignment.mavenproject1.Order;
+import com.assignment.mavenproject1.SpscRingBuffer;
+import com.assignment.mavenproject1.WaitStrategy;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Handoff throughput of the inter-stage queues used by SimulationContext.
+ * With -t N, "pairHandoff" runs N/2 independent producer/consumer pairs (packer -> labeller style)
+ * and "sharedHandoff" puts all N/2 producers and N/2 consumers on one queue (intake -> pickers style).
+ * queueType "ring" uses SpscRingBuffer for pairs and MpmcRingBuffer for the shared queue.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueueHandoffBenchmark {
+
+    // Keeps producers from growing the unbounded queue without limit
+    private static final int MAX_BACKLOG = 1024;
+
+    private static final Order ORDER = new Order(1);
+
+    @State(Scope.Group)
+    public static class PairQueue {
+        @Param({"linked", "ring"})
+        String queueType;
+
+        @Param({"BLOCKING"})
+        WaitStrategy waitStrategy;
+
+        BlockingQueue<Order> queue;
+
+        @Setup
+        public void setup() {
+            queue = "ring".equals(queueType)
+                    ? new SpscRingBuffer<>(MAX_BACKLOG, waitStrategy)
+                    : new LinkedBlockingQueue<>();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedQueue {
+        @Param({"linked", "ring"})
+        String queueType;
+
+        @Param({"BLOCKING"})
+        WaitStrategy waitStrategy;
+
+        BlockingQueue<Order> queue;
+
+        @Setup
+        public void setup() {
+            queue = "ring".equals(queueType)
+                    ? new MpmcRingBuffer<>(MAX_BACKLOG, waitStrategy)
+                    : new LinkedBlockingQueue<>();
+        }
+    }
+
+    @Benchmark
+    @Group("pairHandoff")
+    @GroupThreads(1)
+    public boolean pairProduce(PairQueue state) {
+        return offer(state.queue);
+    }
+
+    @Benchmark
+    @Group("pairHandoff")
+    @GroupThreads(1)
+    public Order pairConsume(PairQueue state) {
+        return state.queue.poll();
+    }
+
+    @Benchmark
+    @Group("sharedHandoff")
+    @GroupThreads(1)
+    public boolean sharedProduce(SharedQueue state) {
+        return offer(state.queue);
+    }
+
+    @Benchmark
+    @Group("sharedHandoff")
+    @GroupThreads(1)
+    public Order sharedConsume(SharedQueue state) {
+        return state.queue.poll();
+    }
+
+    private static boolean offer(BlockingQueue<Order> queue) {
+        return queue.size() < MAX_BACKLOG && queue.offer(ORDER);
+    }
+}
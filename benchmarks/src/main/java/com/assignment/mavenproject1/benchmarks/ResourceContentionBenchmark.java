@@ -0,0 +1,64 @@
+package com.assignment.mavenproject1.benchmarks;
+
+import com.assignment.mavenproject1.Constants;
+import com.assignment.mavenproject1.ResourceAllocator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Grant/release on the loader and truck ResourceAllocator under contention.
+ * With more benchmark threads than permits (3 AGVs, 2 bays) requests queue in the allocator.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ResourceContentionBenchmark {
+
+    private final ResourceAllocator resources = new ResourceAllocator(
+            Constants.MAX_AGVS, Constants.MAX_LOADING_BAYS, Constants.MAX_CONTAINERS_AT_BAY);
+
+    @Benchmark
+    public void agvAcquireRelease() throws InterruptedException {
+        resources.acquire(1, 0, 0);
+        resources.release(1, 0, 0);
+    }
+
+    @Benchmark
+    public void loadingBayAcquireRelease() throws InterruptedException {
+        resources.acquire(0, 1, 0);
+        resources.release(0, 1, 0);
+    }
+
+    // LoaderThread's grant: AGV, bay and a container slot at once
+    @Benchmark
+    public void loaderGrant() throws InterruptedException {
+        resources.acquire(1, 1, 1);
+        resources.release(1, 1, 1);
+    }
+
+    // Loaders and trucks competing for the bays, as in the pipeline
+    @Benchmark
+    @Group("loadersAndTrucks")
+    @GroupThreads(3)
+    public void loader() throws InterruptedException {
+        resources.acquire(1, 1, 1);
+        resources.release(1, 1, 1);
+    }
+
+    @Benchmark
+    @Group("loadersAndTrucks")
+    @GroupThreads(3)
+    public void truck() throws InterruptedException {
+        resources.acquire(0, 1, 0);
+        resources.release(0, 1, 0);
+    }
+}
@@ -0,0 +1,99 @@
+package com.assignment.mavenproject1.benchmarks;
+
+import com.assignment.mavenproject1.Box;
+import com.assignment.mavenproject1.Container;
+import com.assignment.mavenproject1.ContainerIdAllocator;
+import com.assignment.mavenproject1.ContainerPool;
+import com.assignment.mavenproject1.Order;
+import com.assignment.mavenproject1.ZoneAssembler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Sorter zone batching and container assembly (SortingThread.processBox without the sleep).
+ * Each full container is released straight back to the pool, standing in for truck departure,
+ * so the numbers are the steady state. Run with -prof gc: gc.alloc.rate.norm should be ~0 B/op.
+ * sortBoxSharded runs three sorter threads against shared per-zone assemblers, ID allocator and pool.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SorterBatchBenchmark {
+
+    private static final String[] DESTINATIONS = {
+        "Kuala Lumpur", "Selangor", "Penang", "Johor", "Perak"
+    };
+
+    private final Box[] boxes = new Box[1024];
+    private final ContainerIdAllocator containerIds = new ContainerIdAllocator();
+    private final ContainerPool containerPool = new ContainerPool();
+    private final Map<String, ZoneAssembler> assemblers = new HashMap<>();
+    private int next;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < boxes.length; i++) {
+            Box box = new Box(new Order(i + 1));
+            box.markVerified();
+            box.applyLabel(DESTINATIONS[i % DESTINATIONS.length]);
+            box.markScanned();
+            boxes[i] = box;
+            assemblers.computeIfAbsent(box.getZone(), zone -> new ZoneAssembler(zone, containerIds, containerPool));
+        }
+    }
+
+    @Benchmark
+    public int sortBox() {
+        Box box = boxes[next++ & (boxes.length - 1)];
+        return seal(assemblers.get(box.getZone()).addBox(box), containerPool);
+    }
+
+    @Benchmark
+    @Threads(3)
+    public int sortBoxSharded(SharedAssembly shared) {
+        Box box = boxes[next++ & (boxes.length - 1)];
+        return seal(shared.assemblers.get(box.getZone()).addBox(box), shared.containerPool);
+    }
+
+    private static int seal(Container container, ContainerPool pool) {
+        if (container == null) {
+            return 0;
+        }
+        container.seal();
+        int containerId = container.getContainerId();
+        pool.release(container);
+        return containerId;
+    }
+
+    /**
+     * Assemblers, ID allocator and pool shared by every benchmark thread, as SimulationContext shares them between sorters
+     */
+    @State(Scope.Benchmark)
+    public static class SharedAssembly {
+        final ContainerIdAllocator containerIds = new ContainerIdAllocator();
+        final ContainerPool containerPool = new ContainerPool();
+        final ConcurrentMap<String, ZoneAssembler> assemblers = new ConcurrentHashMap<>();
+
+        @Setup
+        public void setup() {
+            for (String destination : DESTINATIONS) {
+                Box box = new Box(new Order(1));
+                box.applyLabel(destination);
+                assemblers.computeIfAbsent(box.getZone(), zone -> new ZoneAssembler(zone, containerIds, containerPool));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.assignment.mavenproject1.benchmarks;
+
+import com.assignment.mavenproject1.LatencyHistogram;
+import com.assignment.mavenproject1.Statistics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Statistics record (hot path, shared by all stage threads) and aggregate (report) paths
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StatisticsBenchmark {
+
+    private static final int REPORT_SAMPLES = 10_000;
+
+    private Statistics recording;
+    private Statistics populated;
+
+    // Fresh instance per iteration so every iteration starts from empty histograms
+    @Setup(Level.Iteration)
+    public void setup() {
+        recording = new Statistics();
+        populated = new Statistics();
+        for (int i = 0; i < REPORT_SAMPLES; i++) {
+            populated.addTruckLoadingTime(100 + (i % 200));
+            populated.addTruckWaitTime(1000 + (i % 1000));
+        }
+    }
+
+    @Benchmark
+    public void recordTruckLoadingTime() {
+        recording.addTruckLoadingTime(100 + ThreadLocalRandom.current().nextInt(200));
+    }
+
+    @Benchmark
+    public void recordAGVDowntime() {
+        recording.addAGVDowntime(3000 + ThreadLocalRandom.current().nextInt(50));
+    }
+
+    @Benchmark
+    public void incrementCounters() {
+        recording.incrementOrdersProcessed();
+        recording.incrementBoxesPacked();
+    }
+
+    @Benchmark
+    public double aggregateLoadingTimes() {
+        return populated.getAverageLoadingTime() + populated.getMaxLoadingTime() + populated.getMinLoadingTime();
+    }
+
+    @Benchmark
+    public double aggregateWaitTimes() {
+        return populated.getAverageWaitTime() + populated.getMaxWaitTime() + populated.getMinWaitTime();
+    }
+
+    @Benchmark
+    public long aggregatePercentiles() {
+        LatencyHistogram.Snapshot snapshot = populated.getTruckLoadingSnapshot();
+        return snapshot.getValueAtPercentile(50) + snapshot.getValueAtPercentile(99) + snapshot.getValueAtPercentile(99.9);
+    }
+}
@@ -0,0 +1,50 @@
+package com.assignment.mavenproject1.benchmarks;
+
+import com.assignment.mavenproject1.TimerService;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Scheduling and cancelling on the shared timer wheel (a repair per breakdown, a timeout per wait)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TimerServiceBenchmark {
+
+    private static final Runnable NOTHING = () -> { };
+
+    private TimerService timers;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        timers = new TimerService("BenchmarkTimer", 10, 512);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        timers.stop();
+    }
+
+    // A timeout that is nearly always cancelled before it fires
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        return timers.schedule(10_000, NOTHING).cancel();
+    }
+
+    // A repair-style delay that fires; the wheel thread expires them concurrently
+    @Benchmark
+    public TimerService.Timeout schedule() {
+        return timers.schedule(50, NOTHING);
+    }
+}
@@ -1,252 +0,0 @@
-/**
- * Simplified Threads Shutdown
- */
-public class ThreadsShutdown extends Thread {
-    private final Statistics statistics;
-    
-    public ThreadsShutdown(Statistics statistics) {
-        super("SimulationShutdown");
-        this.setDaemon(true);
-        this.statistics = statistics;
-    }
-    
-    @Override
-    public void run() {
-        System.out.println("ThreadsShutdown: Monitoring 5-minute duration (Thread: " + getName() + ")");
-
-        try {
-            // Wait for exactly 5 minutes
-            Thread.sleep(Constants.SIMULATION_DURATION_MS);
-
-            System.out.println("ThreadsShutdown: 5 minutes elapsed - starting shutdown (Thread: " + getName() + ")");
-
-            // FORCE repair all AGVs immediately to prevent deadlock
-            forceRepairAllAGVs();
-
-            // Wait for order intake completion
-            while (!SharedResources.isIntakeComplete()) {
-                Thread.sleep(1000);
-            }
-
-            // Signal shutdown to stop AGV breakdown simulation
-            SharedResources.shutdown();
-
-            // Wait for pipeline to clear with shorter timeout
-            int timeoutCounter = 0;
-            final int MAX_WAIT_CYCLES = 15; // Max 15 seconds
-
-            while ((!SharedResources.pickingQueue.isEmpty() ||
-                    !SharedResources.packingQueue.isEmpty() ||
-                    !SharedResources.labellingQueue.isEmpty() ||
-                    !SharedResources.sortingQueue.isEmpty() ||
-                    !SharedResources.loadingQueue.isEmpty()) && 
-                   timeoutCounter < MAX_WAIT_CYCLES) {
-
-                // Force repair AGVs every cycle
-                forceRepairAllAGVs();
-
-                System.out.println("ThreadsShutdown: Pipeline clearing - " +
-                                 "Picking:" + SharedResources.pickingQueue.size() + 
-                                 ", Packing:" + SharedResources.packingQueue.size() + 
-                                 ", Labelling:" + SharedResources.labellingQueue.size() + 
-                                 ", Sorting:" + SharedResources.sortingQueue.size() + 
-                                 ", Loading:" + SharedResources.loadingQueue.size());
-
-                Thread.sleep(1000);
-                timeoutCounter++;
-            }
-
-            // Add proper thread interruption
-            System.out.println("ThreadsShutdown: Pipeline cleared - starting thread interruption");
-            interruptWorkerThreads();
-
-            System.out.println("ThreadsShutdown: Pipeline cleared - completing shutdown");
-
-            statistics.endSimulation();
-            Thread.sleep(1000);
-
-            updateFinalStatisticsFromSharedResources();
-            
-            // ADD THE MISSING FINAL REPORT CALL
-            statistics.printFinalReport();
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    private void forceRepairAllAGVs() {
-        for (int agvId = 0; agvId < Constants.MAX_AGVS; agvId++) {
-            if (!SharedResources.isAGVOperational(agvId)) {
-                SharedResources.repairAGV(agvId);
-            }
-        }
-    }
-
-    private void interruptWorkerThreads() {
-        try {
-            // Collect all threads
-            ThreadGroup mainGroup = Thread.currentThread().getThreadGroup();
-            Thread[] threads = new Thread[mainGroup.activeCount() * 2];
-            int threadCount = mainGroup.enumerate(threads);
-
-            System.out.println("ThreadsShutdown: Found " + threadCount + " active threads, interrupting worker threads");
-
-            // Interrupt specific worker threads
-            for (int i = 0; i < threadCount; i++) {
-                Thread thread = threads[i];
-                if (thread != null && !thread.isDaemon() && 
-                    thread != Thread.currentThread() && 
-                    !thread.getName().equals("main")) {
-                    
-                    String threadName = thread.getName();
-                    
-                    if (threadName.startsWith("Picker-") ||
-                        threadName.startsWith("Packer-") ||
-                        threadName.startsWith("Labeller-") ||
-                        threadName.startsWith("Sorter-") ||
-                        threadName.startsWith("Loader-") ||
-                        threadName.startsWith("Truck-") ||
-                        threadName.startsWith("RejectHandler") ||
-                        threadName.contains("OrderThread")) {
-                        
-                        System.out.println("ThreadsShutdown: Interrupting " + threadName);
-                        thread.interrupt();
-                    }
-                }
-            }
-
-            // Give threads time to respond to interruption
-            Thread.sleep(2000);
-
-            // Check remaining threads
-            threadCount = mainGroup.enumerate(threads);
-            boolean hasStuckThreads = false;
-
-            for (int i = 0; i < threadCount; i++) {
-                Thread thread = threads[i];
-                if (thread != null && !thread.isDaemon() && 
-                    thread != Thread.currentThread() && 
-                    !thread.getName().equals("main")) {
-                    
-                    String threadName = thread.getName();
-                    if (threadName.startsWith("Picker-") ||
-                        threadName.startsWith("Packer-") ||
-                        threadName.startsWith("Labeller-") ||
-                        threadName.startsWith("Sorter-") ||
-                        threadName.startsWith("Loader-") ||
-                        threadName.startsWith("Truck-") ||
-                        threadName.startsWith("RejectHandler")) {
-                        
-                        System.out.println("ThreadsShutdown: WARNING - Thread still running: " + threadName);
-                        hasStuckThreads = true;
-                    }
-                }
-            }
-
-            if (!hasStuckThreads) {
-                System.out.println("ThreadsShutdown: All worker threads successfully stopped");
-            } else {
-                System.out.println("ThreadsShutdown: Some threads still running - continuing with shutdown");
-            }
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-    
-    private void updateFinalStatisticsFromSharedResources() {
-        // Get ACTUAL counts from SharedResources
-        int actualOrdersProcessed = SharedResources.ordersProcessed.get();
-        int actualBoxesPacked = SharedResources.boxesPacked.get();
-        int actualContainersShipped = SharedResources.containersShipped.get();
-        int actualTrucksDispatched = SharedResources.trucksDispatched.get();
-        int actualOrdersRejected = SharedResources.ordersRejected.get();
-        
-        // Set Orders Received = 600 (total generated)
-        for (int i = 0; i < 600; i++) {
-            statistics.incrementOrdersReceived();
-        }
-        
-        // Set actual counts
-        for (int i = 0; i < actualOrdersProcessed; i++) {
-            statistics.incrementOrdersProcessed();
-        }
-        
-        for (int i = 0; i < actualBoxesPacked; i++) {
-            statistics.incrementBoxesPacked();
-        }
-        
-        for (int i = 0; i < actualContainersShipped; i++) {
-            statistics.incrementContainersShipped();
-        }
-        
-        for (int i = 0; i < actualTrucksDispatched; i++) {
-            statistics.incrementTrucksDispatched();
-        }
-        
-        // Calculate REAL rejections from the pipeline flow
-        calculateRealRejections();
-    }
-    
-    private void calculateRealRejections() {
-        // Use the original working approach - simple even distribution
-        int actualTotalRejected = SharedResources.ordersRejected.get();
-
-        System.out.println("ThreadsShutdown: Total rejections from SharedResources: " + actualTotalRejected);
-
-        // Distribute rejections evenly across stages
-        distributeRejectionsProportionally(actualTotalRejected);
-    }
-    
-    private void distributeRejectionsProportionally(int totalRejections) {
-        // Since each stage has 10% rejection rate, distribute proportionally
-        // But ensure we get the EXACT total from SharedResources
-        
-        // Calculate stage-wise rejections more accurately
-        double stageRejectionRate = 0.10; // 10% per stage
-        
-        // Calculate expected rejections per stage based on flow
-        int intakeRejections = (int) Math.round(600 * stageRejectionRate);
-        int pickingRejections = (int) Math.round((600 - intakeRejections) * stageRejectionRate);
-        int packingRejections = (int) Math.round((600 - intakeRejections - pickingRejections) * stageRejectionRate);
-        int labellingRejections = totalRejections - intakeRejections - pickingRejections - packingRejections;
-        
-        // Ensure we don't have negative numbers
-        if (labellingRejections < 0) {
-            // Redistribute if calculation goes negative
-            int perStage = totalRejections / 4;
-            int remainder = totalRejections % 4;
-            
-            intakeRejections = perStage + (remainder > 0 ? 1 : 0);
-            pickingRejections = perStage + (remainder > 1 ? 1 : 0);
-            packingRejections = perStage + (remainder > 2 ? 1 : 0);
-            labellingRejections = perStage;
-        }
-        
-        System.out.println("ThreadsShutdown: Calculated rejections - Intake:" + intakeRejections + 
-                          ", Picking:" + pickingRejections + ", Packing:" + packingRejections + 
-                          ", Labelling:" + labellingRejections + " (Total: " + 
-                          (intakeRejections + pickingRejections + packingRejections + labellingRejections) + ")");
-        
-        // Set the rejection counts in statistics
-        for (int i = 0; i < intakeRejections; i++) {
-            statistics.incrementOrdersRejectedAtIntake();
-        }
-        for (int i = 0; i < pickingRejections; i++) {
-            statistics.incrementOrdersRejectedAtPicking();
-        }
-        for (int i = 0; i < packingRejections; i++) {
-            statistics.incrementOrdersRejectedAtPacking();
-        }
-        for (int i = 0; i < labellingRejections; i++) {
-            statistics.incrementOrdersRejectedAtLabelling();
-        }
-    }
-    
-    public static ThreadsShutdown startShutdownMonitoring(Statistics statistics) {
-        ThreadsShutdown shutdown = new ThreadsShutdown(statistics);
-        shutdown.start();
-        return shutdown;
-    }
-}
\ No newline at end of file
@@ -0,0 +1,298 @@
+package com.assignment.mavenproject1;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live state of the AGV fleet, and which AGV carries each container.
+ *
+ * FLEET (default): a loader holding a container is given the operational AGV that has been
+ * idle longest. Claims are served rerouted loads first, then oldest claim first. If the AGV
+ * breaks down mid-load the load stops there and the container is handed to the next free AGV.
+ *
+ * FIXED: the original binding, loader N drives AGV N only. While that AGV is broken its
+ * loader waits for the repair, including mid-load. Kept to measure what the fleet view buys.
+ *
+ * Utilization is tracked per AGV: time carrying a container, and time broken down.
+ */
+public class AGVDispatcher {
+
+    public enum Policy {
+        FLEET,
+        FIXED;
+
+        public static Policy parse(String value) {
+            return valueOf(value.trim().toUpperCase());
+        }
+    }
+
+    private final int agvCount;
+    private volatile Policy policy = Policy.FLEET;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    // Guarded by lock
+    private final boolean[] operational;
+    private final boolean[] assigned;
+    // Set by a breakdown while assigned, cleared when the load gives the AGV up
+    private final boolean[] interrupted;
+    private final long[] idleSince;
+    private final PriorityQueue<Claim> claims = new PriorityQueue<>();
+    private long nextClaim = 0;
+
+    // Utilization accounting, guarded by lock: nanos in the current state are added on each change
+    private final long startNanos = System.nanoTime();
+    private final long[] stateSince;
+    private final long[] busyNanos;
+    private final long[] brokenNanos;
+    private final int[] loads;
+    private int reroutes = 0;
+
+    public AGVDispatcher(int agvCount) {
+        this.agvCount = agvCount;
+        this.operational = new boolean[agvCount];
+        this.assigned = new boolean[agvCount];
+        this.interrupted = new boolean[agvCount];
+        this.idleSince = new long[agvCount];
+        this.stateSince = new long[agvCount];
+        this.busyNanos = new long[agvCount];
+        this.brokenNanos = new long[agvCount];
+        this.loads = new int[agvCount];
+        for (int agv = 0; agv < agvCount; agv++) {
+            operational[agv] = true;
+            stateSince[agv] = startNanos;
+        }
+    }
+
+    public void setPolicy(Policy policy) {
+        this.policy = policy;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * FIXED only: wait until the loader's own AGV is operational before it takes a container
+     */
+    public void awaitOwnAGV(int loaderId) throws InterruptedException {
+        if (policy != Policy.FIXED) {
+            return;
+        }
+        int agv = ownAGV(loaderId);
+        lock.lockInterruptibly();
+        try {
+            while (!operational[agv]) {
+                changed.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Block until an AGV is free for this loader's container, then mark it busy.
+     * @param rerouted the container's previous AGV broke down mid-load
+     */
+    public int assign(int loaderId, boolean rerouted) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (policy == Policy.FIXED) {
+                int agv = ownAGV(loaderId);
+                while (!operational[agv] || assigned[agv]) {
+                    changed.await();
+                }
+                take(agv);
+                return agv;
+            }
+
+            Claim claim = new Claim(rerouted, nextClaim++);
+            claims.add(claim);
+            try {
+                int agv;
+                while (claims.peek() != claim || (agv = longestIdle()) < 0) {
+                    changed.await();
+                }
+                take(agv);
+                return agv;
+            } finally {
+                claims.remove(claim);
+                // The next claim may now be at the head with an AGV free
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Carry a container for durationMs on the given AGV.
+     * @return false if the AGV broke down first (FLEET) - the caller releases it and reroutes
+     */
+    public boolean load(int agv, long durationMs) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(durationMs);
+            while (remaining > 0) {
+                if (interrupted[agv]) {
+                    if (policy == Policy.FLEET) {
+                        reroutes++;
+                        return false;
+                    }
+                    // FIXED: the load sits on the broken AGV until it is repaired
+                    while (!operational[agv]) {
+                        changed.await();
+                    }
+                    interrupted[agv] = false;
+                    continue;
+                }
+                remaining = changed.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The load is done (or abandoned after a breakdown); the AGV is free again
+    public void release(int agv) {
+        lock.lock();
+        try {
+            account(agv);
+            assigned[agv] = false;
+            interrupted[agv] = false;
+            idleSince[agv] = System.nanoTime();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // False if the AGV was already broken down
+    public boolean breakdown(int agv) {
+        lock.lock();
+        try {
+            if (!operational[agv]) {
+                return false;
+            }
+            account(agv);
+            operational[agv] = false;
+            if (assigned[agv]) {
+                interrupted[agv] = true;
+            }
+            changed.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // False if the AGV was already operational
+    public boolean repair(int agv) {
+        lock.lock();
+        try {
+            if (operational[agv]) {
+                return false;
+            }
+            account(agv);
+            operational[agv] = true;
+            idleSince[agv] = System.nanoTime();
+            changed.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isOperational(int agv) {
+        lock.lock();
+        try {
+            return operational[agv];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int ownAGV(int loaderId) {
+        return (loaderId - 1) % agvCount;
+    }
+
+    // Operational, unassigned AGV idle the longest, or -1
+    private int longestIdle() {
+        int best = -1;
+        for (int agv = 0; agv < agvCount; agv++) {
+            if (operational[agv] && !assigned[agv] && (best < 0 || idleSince[agv] < idleSince[best])) {
+                best = agv;
+            }
+        }
+        return best;
+    }
+
+    private void take(int agv) {
+        account(agv);
+        assigned[agv] = true;
+        loads[agv]++;
+    }
+
+    // Close the current state's interval before changing it
+    private void account(int agv) {
+        long now = System.nanoTime();
+        long elapsed = now - stateSince[agv];
+        if (!operational[agv]) {
+            brokenNanos[agv] += elapsed;
+        } else if (assigned[agv]) {
+            busyNanos[agv] += elapsed;
+        }
+        stateSince[agv] = now;
+    }
+
+    public int getReroutes() {
+        lock.lock();
+        try {
+            return reroutes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // "AGV-1 12.5% busy 2.0% broken 6 loads, ..." over the time since the dispatcher was created
+    public String getSummary() {
+        lock.lock();
+        try {
+            double elapsed = Math.max(1, System.nanoTime() - startNanos);
+            StringBuilder summary = new StringBuilder(policy.toString());
+            for (int agv = 0; agv < agvCount; agv++) {
+                account(agv);
+                summary.append(agv == 0 ? ": " : ", ")
+                       .append(String.format("AGV-%d %.1f%% busy %.1f%% broken %d loads", agv + 1,
+                               busyNanos[agv] * 100.0 / elapsed, brokenNanos[agv] * 100.0 / elapsed, loads[agv]));
+            }
+            return summary.append(", ").append(reroutes).append(" rerouted").toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A loader waiting for an AGV: rerouted loads first, then in arrival order
+     */
+    private static final class Claim implements Comparable<Claim> {
+        final boolean rerouted;
+        final long sequence;
+
+        Claim(boolean rerouted, long sequence) {
+            this.rerouted = rerouted;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Claim other) {
+            if (rerouted != other.rerouted) {
+                return rerouted ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Simplified AGV Failure Simulator
+ */
+public class AGVFailureSimulator extends Thread {
+    private final SimulationContext context;
+    private final RandomStream random;
+    private final Statistics statistics; // Add statistics reference
+    private int breakdownsSimulated = 0;
+    
+    public AGVFailureSimulator(SimulationContext context, Statistics statistics) {
+        super("AGVFailureSimulator-1");
+        this.context = context;
+        this.random = context.random.stream(getName());
+        this.setDaemon(true);
+        this.statistics = statistics; // Store statistics reference
+    }
+    
+    @Override
+    public void run() {
+        Log.info("AGVFailureSimulator: Starting (Thread: {})", getName());
+        
+        try {
+            while (context.isRunning()) {
+                // Check each AGV for breakdown
+                for (int agvId = 0; agvId < context.scenario.agvs; agvId++) {
+                    if (context.isAGVOperational(agvId) && 
+                        random.nextDouble() < context.scenario.agvBreakdownProbability) {
+                        simulateBreakdown(agvId);
+                    }
+                }
+                
+                Thread.sleep(context.scenario.agvCheckInterval(random));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        Log.info("AGVFailureSimulator: Completed - {} breakdowns simulated (Thread: {})",
+                 breakdownsSimulated, getName());
+    }
+    
+    private void simulateBreakdown(int agvId) {
+        long breakdownStartTime = System.currentTimeMillis(); // Track breakdown time
+        
+        context.breakdownAGV(agvId);
+        breakdownsSimulated++;
+        statistics.recordAGVBreakdown(); // Track in statistics
+        context.journal.unit(JournalEvent.AGV_BREAKDOWN, agvId + 1, breakdownStartTime);
+        
+        Log.info("AGVFailureSimulator: AGV-{} breakdown simulated (Thread: {})", (agvId + 1), getName());
+        
+        // Schedule repair
+        context.timers.schedule(context.scenario.agvRecoveryMs, () -> repair(context, statistics, agvId));
+    }
+    
+    public void forceRecoverAllAGVs() {
+        for (int agvId = 0; agvId < context.scenario.agvs; agvId++) {
+            repair(context, statistics, agvId);
+        }
+    }
+
+    /**
+     * The one repair path, whether the repair timer fires or shutdown forces it: the downtime
+     * and journal entry are recorded once, by whichever gets there first
+     */
+    static void repair(SimulationContext context, Statistics statistics, int agvId) {
+        long downtimeMs = context.repairAGV(agvId);
+        if (downtimeMs < 0) {
+            return;
+        }
+        statistics.addAGVDowntime(downtimeMs);
+        context.journal.unit(JournalEvent.AGV_REPAIRED, agvId + 1, System.currentTimeMillis());
+        Log.info("AGVFailureSimulator: AGV-{} repaired after {} ms (Thread: {})",
+                 (agvId + 1), downtimeMs, Thread.currentThread().getName());
+    }
+    
+    public int getTotalBreakdownsSimulated() { return breakdownsSimulated; }
+}
\ No newline at end of file
@@ -0,0 +1,315 @@
+package com.assignment.mavenproject1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many independent simulations in one JVM, in parallel across cores.
+ *
+ * Every run gets its own Scenario and its own SimulationContext (threaded) or
+ * DiscreteEventSimulation (des), so nothing is shared between them but the log. The runs are
+ * the scenarios crossed with every sweep, each repeated `runs` times; one table row per run.
+ * Logging drops to WARN unless -Dswiftcart.log.level is set, as per-order lines from
+ * concurrent runs would interleave.
+ *
+ * Usage: BatchRunner [mode=des|threaded] [scenario=default,small,...] [sweep=agvs:2,3,4]...
+ *                    [runs=1] [parallelism=cores] [truck-dispatch=low-backlog]
+ *                    [agv-dispatch=fleet] [seed=42] [resume=midday.ckpt]
+ * seed=S seeds run i with S + i: the one Random of a des run, or the master seed of a threaded
+ * run's SimulationRandom.
+ *
+ * resume= branches every des run from one SimulationCheckpoint: the sweeps apply to the
+ * checkpoint's scenario, and without seed= every branch carries on the checkpoint's random
+ * state, so the runs differ only by their settings.
+ */
+public class BatchRunner {
+
+    public static void main(String[] args) throws InterruptedException {
+        boolean threaded = false;
+        List<ScenarioConfig> scenarios = new ArrayList<>();
+        List<String> sweeps = new ArrayList<>();
+        int runs = 1;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        TruckDispatchPolicy truckPolicy = null;
+        AGVDispatcher.Policy agvPolicy = null;
+        Long seed = null;
+        SimulationCheckpoint checkpoint = null;
+        List<Point> points = new ArrayList<>();
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("mode=")) {
+                    String mode = arg.substring("mode=".length()).trim().toLowerCase();
+                    if (!mode.equals("des") && !mode.equals("threaded")) {
+                        throw new IllegalArgumentException("mode must be des or threaded, got " + mode);
+                    }
+                    threaded = mode.equals("threaded");
+                } else if (arg.startsWith("scenario=")) {
+                    for (String name : arg.substring("scenario=".length()).split(",")) {
+                        scenarios.add(ScenarioConfig.load(name.trim()));
+                    }
+                } else if (arg.startsWith("sweep=")) {
+                    sweeps.add(arg.substring("sweep=".length()));
+                } else if (arg.startsWith("runs=")) {
+                    runs = Math.max(1, Integer.parseInt(arg.substring("runs=".length())));
+                } else if (arg.startsWith("parallelism=")) {
+                    parallelism = Math.max(1, Integer.parseInt(arg.substring("parallelism=".length())));
+                } else if (arg.startsWith("truck-dispatch=")) {
+                    truckPolicy = TruckDispatchPolicy.parse(arg.substring("truck-dispatch=".length()));
+                } else if (arg.startsWith("agv-dispatch=")) {
+                    agvPolicy = AGVDispatcher.Policy.parse(arg.substring("agv-dispatch=".length()));
+                } else if (arg.startsWith("seed=")) {
+                    seed = Long.parseLong(arg.substring("seed=".length()));
+                } else if (arg.startsWith("resume=")) {
+                    checkpoint = SimulationCheckpoint.load(arg.substring("resume=".length()));
+                } else {
+                    throw new IllegalArgumentException("Unknown argument: " + arg);
+                }
+            }
+            if (checkpoint != null) {
+                if (threaded) {
+                    throw new IllegalArgumentException("resume applies to des runs");
+                }
+                if (!scenarios.isEmpty()) {
+                    throw new IllegalArgumentException("resume takes its scenario from the checkpoint; sweep single settings instead");
+                }
+                scenarios.add(checkpoint.getScenarioConfig());
+                if (truckPolicy == null) {
+                    truckPolicy = checkpoint.getTruckDispatchPolicy();
+                }
+                if (agvPolicy == null) {
+                    agvPolicy = checkpoint.getAgvDispatchPolicy();
+                }
+            }
+            if (scenarios.isEmpty()) {
+                scenarios.add(ScenarioConfig.defaults());
+            }
+            if (truckPolicy == null) {
+                truckPolicy = TruckDispatchPolicy.LOW_BACKLOG;
+            }
+            if (agvPolicy == null) {
+                agvPolicy = AGVDispatcher.Policy.FLEET;
+            }
+            for (ScenarioConfig scenario : scenarios) {
+                points.add(new Point(scenario, ""));
+            }
+            for (String sweep : sweeps) {
+                points = applySweep(points, sweep);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("BatchRunner: Invalid arguments - " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        if (System.getProperty("swiftcart.log.level") == null) {
+            Log.setLevel(Log.Level.WARN);
+        }
+
+        // Validated up front, so a bad sweep value fails before anything runs
+        List<Run> batch = new ArrayList<>();
+        for (Point point : points) {
+            Scenario scenario;
+            try {
+                scenario = point.config.toScenario();
+            } catch (IllegalArgumentException e) {
+                System.err.println("BatchRunner: Invalid scenario " + point.label() + " - " + e.getMessage());
+                System.exit(2);
+                return;
+            }
+            for (int i = 0; i < runs; i++) {
+                Long runSeed = seed == null ? null : seed + batch.size();
+                batch.add(new Run(batch.size() + 1, point.label(), scenario, threaded, truckPolicy, agvPolicy, runSeed,
+                                  checkpoint));
+            }
+        }
+
+        System.out.println("BatchRunner: " + batch.size() + " " + (threaded ? "threaded" : "des") + " runs, "
+                           + parallelism + " at a time" + (checkpoint != null ? ", resumed from " + checkpoint : ""));
+        long wallStart = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, new BatchThreadFactory());
+        List<Future<Result>> futures = new ArrayList<>();
+        for (Run run : batch) {
+            futures.add(pool.submit(run::execute));
+        }
+        List<Result> results = new ArrayList<>();
+        int failed = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                failed++;
+                System.err.println("BatchRunner: Run " + batch.get(i).id + " failed - " + e.getCause());
+            }
+        }
+        pool.shutdown();
+        long wallMs = (System.nanoTime() - wallStart) / 1_000_000;
+
+        Log.flush();
+        System.out.println("\n" + StringUtils.repeat("=", 132));
+        System.out.println(String.format("%-4s %-40s %8s %10s %9s %11s %7s %10s %12s %10s",
+                "Run", "Scenario", "Orders", "Processed", "Rejected", "Containers", "Trips",
+                "E2E p99", "Makespan s", "Wall ms"));
+        System.out.println(StringUtils.repeat("-", 132));
+        long runWallMs = 0;
+        for (Result result : results) {
+            System.out.println(result.format());
+            runWallMs += result.wallMs;
+        }
+        System.out.println(StringUtils.repeat("=", 132));
+        System.out.println(String.format("%d runs in %d ms wall time (%d ms summed over the runs, %.1fx)%s",
+                results.size(), wallMs, runWallMs, runWallMs / (double) Math.max(1, wallMs),
+                failed > 0 ? ", " + failed + " failed" : ""));
+        Log.shutdown();
+    }
+
+    // key:v1,v2,... - every point once per value
+    private static List<Point> applySweep(List<Point> points, String sweep) {
+        int colon = sweep.indexOf(':');
+        if (colon < 1 || colon == sweep.length() - 1) {
+            throw new IllegalArgumentException("sweep must be key:v1,v2,... - got " + sweep);
+        }
+        String key = sweep.substring(0, colon).trim();
+        List<Point> swept = new ArrayList<>();
+        for (Point point : points) {
+            for (String value : sweep.substring(colon + 1).split(",")) {
+                ScenarioConfig config = point.config.copy();
+                config.set(key, value);
+                String setting = key + "=" + value.trim();
+                swept.add(new Point(config, point.sweep.isEmpty() ? setting : point.sweep + ", " + setting));
+            }
+        }
+        return swept;
+    }
+
+    /**
+     * A scenario with the sweep values applied to it, e.g. "peak-day (agvs=4, trucks=6)"
+     */
+    private static final class Point {
+        final ScenarioConfig config;
+        final String sweep;
+
+        Point(ScenarioConfig config, String sweep) {
+            this.config = config;
+            this.sweep = sweep;
+        }
+
+        String label() {
+            return sweep.isEmpty() ? config.getName() : config.getName() + " (" + sweep + ")";
+        }
+    }
+
+    /**
+     * One simulation of the batch
+     */
+    private static final class Run {
+        final int id;
+        final String label;
+        final Scenario scenario;
+        final boolean threaded;
+        final TruckDispatchPolicy truckPolicy;
+        final AGVDispatcher.Policy agvPolicy;
+        final Long seed;
+        // Shared read-only by every run that resumes from it
+        final SimulationCheckpoint checkpoint;
+
+        Run(int id, String label, Scenario scenario, boolean threaded, TruckDispatchPolicy truckPolicy,
+            AGVDispatcher.Policy agvPolicy, Long seed, SimulationCheckpoint checkpoint) {
+            this.id = id;
+            this.label = label;
+            this.scenario = scenario;
+            this.threaded = threaded;
+            this.truckPolicy = truckPolicy;
+            this.agvPolicy = agvPolicy;
+            this.seed = seed;
+            this.checkpoint = checkpoint;
+        }
+
+        Result execute() {
+            long wallStart = System.nanoTime();
+            Statistics statistics;
+            long makespanMs;
+            if (threaded) {
+                SimulationContext context = new SimulationContext(scenario,
+                        seed == null ? SimulationRandom.unseeded() : SimulationRandom.seeded(seed));
+                context.setTruckDispatchPolicy(truckPolicy);
+                context.agvDispatcher.setPolicy(agvPolicy);
+                ThreadedSimulation simulation = new ThreadedSimulation(context);
+                simulation.run();
+                statistics = simulation.getStatistics();
+                makespanMs = statistics.getSimulationDuration();
+            } else {
+                statistics = new Statistics(scenario);
+                DiscreteEventSimulation simulation;
+                if (checkpoint != null) {
+                    simulation = DiscreteEventSimulation.resume(checkpoint, scenario, statistics);
+                    if (seed != null) {
+                        simulation.reseed(seed);
+                    }
+                } else {
+                    simulation = seed == null
+                            ? new DiscreteEventSimulation(scenario, statistics)
+                            : new DiscreteEventSimulation(scenario, statistics, seed);
+                }
+                simulation.setTruckDispatchPolicy(truckPolicy);
+                simulation.setAgvDispatchPolicy(agvPolicy);
+                simulation.run();
+                makespanMs = simulation.getSimulatedTimeMs();
+            }
+            return new Result(id, label, statistics, makespanMs, (System.nanoTime() - wallStart) / 1_000_000);
+        }
+    }
+
+    private static final class Result {
+        final int id;
+        final String label;
+        final int orders;
+        final int processed;
+        final int rejected;
+        final int containers;
+        final long trips;
+        final long endToEndP99;
+        final long makespanMs;
+        final long wallMs;
+
+        Result(int id, String label, Statistics statistics, long makespanMs, long wallMs) {
+            this.id = id;
+            this.label = label;
+            this.orders = statistics.getOrdersReceived();
+            this.processed = statistics.getOrdersProcessed();
+            this.rejected = statistics.getTotalRejectedOrders();
+            this.containers = statistics.getContainersSealed();
+            this.trips = statistics.getTruckLoadSnapshot().getCount();
+            this.endToEndP99 = statistics.getOrderEndToEndSnapshot().getValueAtPercentile(99);
+            this.makespanMs = makespanMs;
+            this.wallMs = wallMs;
+        }
+
+        String format() {
+            String name = label;
+            if (name.length() > 40) {
+                name = name.substring(0, 37) + "...";
+            }
+            return String.format("%-4d %-40s %8d %10d %9d %11d %7d %10d %12.1f %10d",
+                    id, name, orders, processed, rejected, containers, trips, endToEndP99,
+                    makespanMs / 1000.0, wallMs);
+        }
+    }
+
+    // Named batch workers; daemon so a stuck run cannot keep the JVM alive after the table
+    private static final class BatchThreadFactory implements ThreadFactory {
+        private final AtomicInteger created = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "BatchRunner-" + created.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
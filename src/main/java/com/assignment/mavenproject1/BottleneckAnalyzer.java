@@ -0,0 +1,612 @@
+package com.assignment.mavenproject1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Offline analysis of a run's event journal (--journal=, see EventJournal). It reports:
+ * - per-stage utilization
+ * - the length over time of every inter-stage queue
+ * - Little's-law checks on each queue
+ * - the bottleneck stage of each time window
+ * - a ranking of where capacity was lost, with the loading queue split between AGV
+ *   breakdowns, bay contention and AGV capacity, and the bay queue between truck breakdowns
+ *   and truck capacity.
+ *
+ * The journal is streamed once, in parallel. Each worker maps its share of the chunks and
+ * folds every record into per-bucket counters. The counters are queue arrivals and
+ * departures, service starts and ends, and AGV/truck breakdowns and repairs. A level (queue
+ * length, busy servers, units down) integrates over a bucket as its level at the bucket start
+ * times the width, plus the residual of the changes inside the bucket. Buckets from different
+ * workers therefore just add up, and a record costs a few array increments.
+ *
+ * Usage: BottleneckAnalyzer run.journal [windows=12] [parallelism=cores]
+ */
+public class BottleneckAnalyzer {
+
+    // The stages with a queue in front and servers behind it, in pipeline order, and their queues
+    private static final PipelineStage[] STAGES = {
+        PipelineStage.PICKING, PipelineStage.PACKING, PipelineStage.LABELLING,
+        PipelineStage.SORTING, PipelineStage.AGV_LOAD, PipelineStage.TRUCK_DEPARTURE
+    };
+    private static final String[] QUEUES = {
+        "pickingQueue", "packingQueue", "labellingQueue", "sortingQueue", "loadingQueue", "loadingBayQueue"
+    };
+    private static final String[] SERVERS = {"pickers", "packers", "labellers", "sorters", "AGVs", "trucks"};
+    private static final int LOADING = 4;
+    private static final int BAY = 5;
+    // Level series: queue i (0-5), stage i in service (BUSY + i), AGVs down, trucks down
+    private static final int BUSY = STAGES.length;
+    private static final int AGVS_DOWN = 2 * STAGES.length;
+    private static final int TRUCKS_DOWN = AGVS_DOWN + 1;
+    private static final int SERIES = TRUCKS_DOWN + 1;
+    private static final int MAX_BUCKETS = 10_000;
+    // PipelineStage ordinal -> index in STAGES, -1 for intake and container sealing
+    private static final int[] STAGE_INDEX = new int[PipelineStage.values().length];
+
+    static {
+        Arrays.fill(STAGE_INDEX, -1);
+        for (int i = 0; i < STAGES.length; i++) {
+            STAGE_INDEX[STAGES[i].ordinal()] = i;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String path = null;
+        int windows = 12;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("windows=")) {
+                    windows = Math.max(1, Integer.parseInt(arg.substring("windows=".length())));
+                } else if (arg.startsWith("parallelism=")) {
+                    parallelism = Math.max(1, Integer.parseInt(arg.substring("parallelism=".length())));
+                } else if (path == null && !arg.contains("=")) {
+                    path = arg;
+                } else {
+                    throw new IllegalArgumentException("Unknown argument: " + arg);
+                }
+            }
+            if (path == null) {
+                throw new IllegalArgumentException("no journal given - BottleneckAnalyzer run.journal [windows=12] [parallelism=cores]");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("BottleneckAnalyzer: Invalid arguments - " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            Header header = Header.read(channel, path);
+            long scanStart = System.nanoTime();
+            long lastTime = lastEventTime(channel, header);
+            if (lastTime < 0) {
+                System.out.println("BottleneckAnalyzer: " + path + " holds no events");
+                return;
+            }
+            long bucketMs = Math.max(1, (lastTime + MAX_BUCKETS) / MAX_BUCKETS);
+            int buckets = (int) (lastTime / bucketMs) + 1;
+            Aggregate run = scan(channel, header, bucketMs, buckets, parallelism);
+            long scanMs = (System.nanoTime() - scanStart) / 1_000_000;
+            new Report(path, header, run, windows, parallelism, scanMs).print();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("BottleneckAnalyzer: Cannot analyze " + path + " - " + e.getMessage());
+            System.exit(1);
+        } catch (ExecutionException e) {
+            System.err.println("BottleneckAnalyzer: Scan failed - " + e.getCause());
+            System.exit(1);
+        }
+    }
+
+    // Each chunk is filled from the front by one thread, so its last event is its latest
+    private static long lastEventTime(FileChannel channel, Header header) throws IOException {
+        long last = -1;
+        for (long chunk = 0; chunk < header.chunks; chunk++) {
+            MappedByteBuffer in = header.map(channel, chunk);
+            int filled = filledRecords(in, header);
+            if (filled > 0) {
+                last = Math.max(last, in.getLong((filled - 1) * header.recordBytes));
+            }
+        }
+        return last;
+    }
+
+    // Written records form a prefix of the chunk: binary search for the first empty slot
+    private static int filledRecords(MappedByteBuffer in, Header header) {
+        int low = 0;
+        int high = header.chunkRecords;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (in.get(mid * header.recordBytes + 8) != 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Aggregate scan(FileChannel channel, Header header, long bucketMs, int buckets, int parallelism)
+            throws InterruptedException, ExecutionException {
+        int workers = (int) Math.max(1, Math.min(parallelism, header.chunks));
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<Aggregate>> parts = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                long from = header.chunks * w / workers;
+                long to = header.chunks * (w + 1) / workers;
+                parts.add(pool.submit(() -> {
+                    Aggregate part = new Aggregate(bucketMs, buckets);
+                    for (long chunk = from; chunk < to; chunk++) {
+                        MappedByteBuffer in = header.map(channel, chunk);
+                        int filled = filledRecords(in, header);
+                        for (int i = 0; i < filled; i++) {
+                            part.add(in, i * header.recordBytes);
+                        }
+                        part.endTrip();
+                    }
+                    return part;
+                }));
+            }
+            Aggregate run = parts.get(0).get();
+            for (int i = 1; i < parts.size(); i++) {
+                run.merge(parts.get(i).get());
+            }
+            return run;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * The journal header: clock, totals and the run's servers per stage
+     */
+    private static final class Header {
+        EventJournal.Clock clock;
+        long startMs;
+        long chunks;
+        long written;
+        long dropped;
+        int recordBytes;
+        int chunkRecords;
+        final int[] servers = new int[STAGES.length];
+        int loadingBays;
+        int bayCapacity;
+
+        static Header read(FileChannel channel, String path) throws IOException {
+            ByteBuffer in = ByteBuffer.allocate(EventJournal.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (in.hasRemaining() && channel.read(in, in.position()) > 0) {
+                // Read the whole header
+            }
+            in.flip();
+            byte[] magic = new byte[EventJournal.MAGIC.length];
+            if (in.remaining() < EventJournal.HEADER_BYTES) {
+                throw new IllegalArgumentException(path + " is not an event journal");
+            }
+            in.get(magic);
+            if (!Arrays.equals(magic, EventJournal.MAGIC) || in.getShort() != EventJournal.VERSION) {
+                throw new IllegalArgumentException(path + " is not an event journal");
+            }
+            Header header = new Header();
+            header.recordBytes = in.getShort();
+            header.chunkRecords = in.getInt();
+            header.clock = EventJournal.Clock.values()[in.get()];
+            header.startMs = in.getLong();
+            long claimed = in.getLong();
+            header.written = in.getLong();
+            header.dropped = in.getLong();
+            for (int i = 0; i < STAGES.length; i++) {
+                header.servers[i] = in.getShort();
+            }
+            header.loadingBays = in.getShort();
+            header.bayCapacity = in.getShort();
+            // Not closed (-1 written): take every chunk the file holds
+            long inFile = (channel.size() - EventJournal.HEADER_BYTES) / ((long) header.recordBytes * header.chunkRecords);
+            header.chunks = header.written < 0 ? inFile : Math.min(claimed, inFile);
+            return header;
+        }
+
+        MappedByteBuffer map(FileChannel channel, long chunk) throws IOException {
+            long chunkBytes = (long) recordBytes * chunkRecords;
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY,
+                    EventJournal.HEADER_BYTES + chunk * chunkBytes, chunkBytes);
+            in.order(ByteOrder.LITTLE_ENDIAN);
+            return in;
+        }
+    }
+
+    /**
+     * Everything the report needs, folded from one worker's records; parts merge by adding
+     */
+    private static final class Aggregate {
+        final long bucketMs;
+        final int buckets;
+        // Per series and bucket: net level change, and the sum of sign * (bucket end - time)
+        final long[][] delta = new long[SERIES][];
+        final long[][] residual = new long[SERIES][];
+        final long[] departed = new long[STAGES.length];   // left the queue with a traced wait
+        final long[] waitSum = new long[STAGES.length];
+        final long[] completed = new long[STAGES.length];
+        final long[] served = new long[STAGES.length];     // with a traced service time (trips for trucks)
+        final long[] serviceSum = new long[STAGES.length];
+        final long[] rejected = new long[PipelineStage.values().length];
+        long events;
+        long accepted;
+        long sealed;
+        long agvBreakdowns;
+        long truckBreakdowns;
+        // The truck trip being read: its records are consecutive in the truck's chunk
+        int tripTruck = -1;
+        long tripDeparture;
+        long tripStart;
+
+        Aggregate(long bucketMs, int buckets) {
+            this.bucketMs = bucketMs;
+            this.buckets = buckets;
+            for (int s = 0; s < SERIES; s++) {
+                delta[s] = new long[buckets];
+                residual[s] = new long[buckets];
+            }
+        }
+
+        void add(MappedByteBuffer in, int at) {
+            long time = in.getLong(at);
+            long meta = in.getLong(at + 8);
+            long times = in.getLong(at + 24);
+            int wait = (int) times;
+            int service = (int) (times >> 32);
+            events++;
+            switch ((int) (meta & 0xFF)) {
+                case 1: // ORDER_ACCEPTED
+                    accepted++;
+                    break;
+                case 2: { // ORDER_REJECTED, at the stage in the record
+                    int stage = (int) (meta >>> 8 & 0xFF);
+                    if (stage < rejected.length) {
+                        rejected[stage]++;
+                        int q = STAGE_INDEX[stage];
+                        if (q >= 0 && wait >= 0) {
+                            interval(q, time - wait, time);
+                            departed[q]++;
+                            waitSum[q] += wait;
+                        }
+                    }
+                    break;
+                }
+                case 3: // ORDER_PICKED
+                case 4: // ORDER_PACKED
+                case 5: // ORDER_LABELLED
+                case 6: // ORDER_SORTED
+                case 8: // AGV_LOADED
+                    stageDone(STAGE_INDEX[(int) (meta >>> 8 & 0xFF)], time, wait, service);
+                    break;
+                case 7: // CONTAINER_SEALED
+                    sealed++;
+                    break;
+                case 9: // TRUCK_DEPARTED, one record per container aboard
+                    stageDone(BAY, time, wait, service);
+                    trip((int) (meta >>> 16 & 0xFFFF), time, service);
+                    break;
+                case 10: // AGV_BREAKDOWN
+                    agvBreakdowns++;
+                    change(AGVS_DOWN, time, 1);
+                    break;
+                case 11: // AGV_REPAIRED
+                    change(AGVS_DOWN, time, -1);
+                    break;
+                case 12: // TRUCK_BREAKDOWN
+                    truckBreakdowns++;
+                    change(TRUCKS_DOWN, time, 1);
+                    break;
+                case 13: // TRUCK_REPAIRED
+                    change(TRUCKS_DOWN, time, -1);
+                    break;
+                default:
+                    events--;
+            }
+        }
+
+        private void stageDone(int i, long time, int wait, int service) {
+            completed[i]++;
+            if (service < 0) {
+                return;
+            }
+            long start = time - service;
+            if (wait >= 0) {
+                interval(i, start - wait, start);
+                departed[i]++;
+                waitSum[i] += wait;
+            }
+            // A truck is busy from its first container to departure, counted per trip
+            if (i != BAY) {
+                interval(BUSY + i, start, time);
+                served[i]++;
+                serviceSum[i] += service;
+            }
+        }
+
+        private void trip(int truck, long departure, int service) {
+            if (truck != tripTruck || departure != tripDeparture) {
+                endTrip();
+                tripTruck = truck;
+                tripDeparture = departure;
+                tripStart = departure;
+            }
+            if (service >= 0) {
+                tripStart = Math.min(tripStart, departure - service);
+            }
+        }
+
+        void endTrip() {
+            if (tripTruck >= 0) {
+                interval(BUSY + BAY, tripStart, tripDeparture);
+                served[BAY]++;
+                serviceSum[BAY] += tripDeparture - tripStart;
+                tripTruck = -1;
+            }
+        }
+
+        private void interval(int series, long from, long to) {
+            change(series, from, 1);
+            change(series, to, -1);
+        }
+
+        private void change(int series, long time, int sign) {
+            long t = Math.max(0, time);
+            int bucket = (int) Math.min(buckets - 1, t / bucketMs);
+            delta[series][bucket] += sign;
+            residual[series][bucket] += sign * ((bucket + 1) * bucketMs - t);
+        }
+
+        void merge(Aggregate other) {
+            for (int s = 0; s < SERIES; s++) {
+                for (int b = 0; b < buckets; b++) {
+                    delta[s][b] += other.delta[s][b];
+                    residual[s][b] += other.residual[s][b];
+                }
+            }
+            for (int i = 0; i < STAGES.length; i++) {
+                departed[i] += other.departed[i];
+                waitSum[i] += other.waitSum[i];
+                completed[i] += other.completed[i];
+                served[i] += other.served[i];
+                serviceSum[i] += other.serviceSum[i];
+            }
+            for (int i = 0; i < rejected.length; i++) {
+                rejected[i] += other.rejected[i];
+            }
+            events += other.events;
+            accepted += other.accepted;
+            sealed += other.sealed;
+            agvBreakdowns += other.agvBreakdowns;
+            truckBreakdowns += other.truckBreakdowns;
+        }
+
+        // Time integral of each series over each bucket (item-ms)
+        double[][] areas() {
+            double[][] area = new double[SERIES][buckets];
+            for (int s = 0; s < SERIES; s++) {
+                long level = 0;
+                for (int b = 0; b < buckets; b++) {
+                    area[s][b] = level * bucketMs + residual[s][b];
+                    level += delta[s][b];
+                }
+            }
+            return area;
+        }
+    }
+
+    /**
+     * The printed analysis
+     */
+    private static final class Report {
+        private final String path;
+        private final Header header;
+        private final Aggregate run;
+        private final double[][] area;
+        private final long spanMs;
+        private final int windowBuckets;
+        private final int parallelism;
+        private final long scanMs;
+
+        Report(String path, Header header, Aggregate run, int windows, int parallelism, long scanMs) {
+            this.path = path;
+            this.header = header;
+            this.run = run;
+            this.area = run.areas();
+            this.spanMs = run.buckets * run.bucketMs;
+            this.windowBuckets = (run.buckets + windows - 1) / windows;
+            this.parallelism = parallelism;
+            this.scanMs = scanMs;
+        }
+
+        void print() {
+            System.out.println(StringUtils.repeat("=", 100));
+            System.out.println(StringUtils.center("BOTTLENECK ANALYSIS", 100));
+            System.out.println(StringUtils.repeat("=", 100));
+            System.out.println("Journal: " + path + " (" + header.clock.name().toLowerCase() + " clock"
+                    + (header.clock == EventJournal.Clock.WALL ? ", started " + new Date(header.startMs) : "") + ")");
+            System.out.println(String.format("Events: %d over %.1f s, scanned in %d ms (%.1f M events/s, %d threads)%s",
+                    run.events, spanMs / 1000.0, scanMs, run.events / 1000.0 / Math.max(1, scanMs), parallelism,
+                    header.written < 0 ? " - journal not closed, read as far as written"
+                            : header.dropped > 0 ? " - " + header.dropped + " events were dropped" : ""));
+            System.out.println(String.format("Orders: %d accepted, %d sorted into %d containers, %d rejected; %d AGV and %d truck breakdowns",
+                    run.accepted, run.completed[3], run.sealed, Arrays.stream(run.rejected).sum(),
+                    run.agvBreakdowns, run.truckBreakdowns));
+            printUtilization();
+            printLittlesLaw();
+            printWindows();
+            printLostCapacity();
+            System.out.println(StringUtils.repeat("=", 100));
+        }
+
+        private void printUtilization() {
+            System.out.println("\nStage utilization (busy server time / servers x " + String.format("%.1f", spanMs / 1000.0) + " s)");
+            System.out.println(String.format("  %-16s %8s %10s %10s %12s", "Stage", "Servers", "Completed", "Busy %", "Mean svc ms"));
+            for (int i = 0; i < STAGES.length; i++) {
+                System.out.println(String.format("  %-16s %8d %10d %9.1f%% %12.1f", label(i), header.servers[i],
+                        run.completed[i], 100 * utilization(i, 0, run.buckets), run.serviceSum[i] / (double) Math.max(1, run.served[i])));
+            }
+            System.out.println("  (Truck loading: docked from the first container aboard to departure, per trip; trips away are not journalled)");
+        }
+
+        // L (time-average queue length) against lambda * W (departure rate x mean wait)
+        private void printLittlesLaw() {
+            System.out.println("\nQueues and Little's law (L = lambda x W)");
+            System.out.println(String.format("  %-16s %9s %9s %10s %11s %9s %9s %8s  %s",
+                    "Queue", "Arrived", "Left", "lambda/s", "W ms", "L", "lambda*W", "Diff", "Check"));
+            long[] arrived = {run.accepted, run.completed[0], run.completed[1], run.completed[2], run.sealed, run.completed[4]};
+            for (int q = 0; q < STAGES.length; q++) {
+                long left = run.departed[q];
+                double lambda = left / (spanMs / 1000.0);
+                double w = run.waitSum[q] / (double) Math.max(1, left);
+                double l = sum(area[q], 0, run.buckets) / spanMs;
+                double littles = lambda * w / 1000.0;
+                double diff = l > 0 ? Math.abs(l - littles) / l : 0;
+                // Rejections are journalled for order queues; containers never are
+                long untraced = arrived[q] - left;
+                String check = diff > 0.05 ? "L and lambda*W disagree"
+                        : untraced != 0 ? Math.abs(untraced) + " arrivals " + (untraced > 0 ? "never left or untraced" : "not journalled upstream")
+                        : "ok";
+                System.out.println(String.format("  %-16s %9d %9d %10.1f %11.1f %9.2f %9.2f %7.1f%%  %s",
+                        QUEUES[q], arrived[q], left, lambda, w, l, littles, 100 * diff, check));
+            }
+        }
+
+        private void printWindows() {
+            long windowMs = windowBuckets * run.bucketMs;
+            System.out.println("\nBottleneck and mean queue length by window (" + String.format("%.1f", windowMs / 1000.0) + " s)");
+            StringBuilder heading = new StringBuilder(String.format("  %-15s %-22s", "Window s", "Bottleneck (busy)"));
+            for (String queue : QUEUES) {
+                heading.append(String.format(" %8s", queue.replace("Queue", "")));
+            }
+            System.out.println(heading.append(String.format(" %8s %8s", "AGVs dn", "Trks dn")));
+            for (int from = 0; from < run.buckets; from += windowBuckets) {
+                int to = Math.min(run.buckets, from + windowBuckets);
+                double width = (to - from) * (double) run.bucketMs;
+                int bottleneck = 0;
+                for (int i = 1; i < STAGES.length; i++) {
+                    if (utilization(i, from, to) > utilization(bottleneck, from, to)) {
+                        bottleneck = i;
+                    }
+                }
+                StringBuilder row = new StringBuilder(String.format("  %-15s %-22s",
+                        String.format("%.0f-%.0f", from * run.bucketMs / 1000.0, to * run.bucketMs / 1000.0),
+                        String.format("%s %.0f%%", label(bottleneck), 100 * utilization(bottleneck, from, to))));
+                for (int q = 0; q < STAGES.length; q++) {
+                    row.append(String.format(" %8.1f", sum(area[q], from, to) / width));
+                }
+                row.append(String.format(" %8.2f %8.2f", sum(area[AGVS_DOWN], from, to) / width,
+                        sum(area[TRUCKS_DOWN], from, to) / width));
+                System.out.println(row);
+            }
+        }
+
+        /**
+         * Queueing delay by cause, in order-seconds (container waits count once per order aboard). Each
+         * bucket's loading-queue wait is split between the AGV slots down, idle (an AGV was free but
+         * the bay was not) and busy; its bay-queue wait between the trucks down and the rest.
+         */
+        private void printLostCapacity() {
+            double ordersPerContainer = run.sealed > 0 ? run.completed[3] / (double) run.sealed : 1;
+            int agvs = Math.max(1, header.servers[LOADING]);
+            int trucks = Math.max(1, header.servers[BAY]);
+            double agvDownDelay = 0;
+            double bayDelay = 0;
+            double agvBusyDelay = 0;
+            double agvDownWhileWaiting = 0;
+            double agvIdleWhileWaiting = 0;
+            double truckDownDelay = 0;
+            double truckDownWhileWaiting = 0;
+            for (int b = 0; b < run.buckets; b++) {
+                double width = run.bucketMs;
+                double waiting = area[LOADING][b];
+                if (waiting > 0) {
+                    double down = Math.max(0, Math.min(agvs, area[AGVS_DOWN][b] / width));
+                    double busy = Math.max(0, area[BUSY + LOADING][b] / width);
+                    double idle = Math.max(0, agvs - down - busy);
+                    agvDownDelay += waiting * down / agvs;
+                    bayDelay += waiting * idle / agvs;
+                    agvBusyDelay += waiting * Math.max(0, 1 - (down + idle) / agvs);
+                    agvDownWhileWaiting += down * width;
+                    agvIdleWhileWaiting += Math.min(idle, waiting / width) * width;
+                }
+                double atBay = area[BAY][b];
+                if (atBay > 0) {
+                    double down = Math.max(0, Math.min(trucks, area[TRUCKS_DOWN][b] / width));
+                    truckDownDelay += atBay * down / trucks;
+                    truckDownWhileWaiting += down * width;
+                }
+            }
+            double meanLoadMs = run.serviceSum[LOADING] / (double) Math.max(1, run.served[LOADING]);
+
+            List<Object[]> causes = new ArrayList<>();
+            for (int q = 0; q < LOADING; q++) {
+                causes.add(new Object[] {label(q) + " capacity", sum(area[q], 0, run.buckets),
+                        String.format("%s, %d %s %.0f%% busy", QUEUES[q], header.servers[q], SERVERS[q],
+                                100 * utilization(q, 0, run.buckets))});
+            }
+            causes.add(new Object[] {"AGV breakdowns", agvDownDelay * ordersPerContainer,
+                    String.format("%.1f AGV-s down while containers waited (~%.0f loads)",
+                            agvDownWhileWaiting / 1000, agvDownWhileWaiting / Math.max(1, meanLoadMs))});
+            causes.add(new Object[] {"Bay contention", bayDelay * ordersPerContainer,
+                    String.format("%.1f AGV-s idle while containers waited (bay full or no free bay, %d bays x %d)",
+                            agvIdleWhileWaiting / 1000, header.loadingBays, header.bayCapacity)});
+            causes.add(new Object[] {"AGV capacity", agvBusyDelay * ordersPerContainer,
+                    String.format("loadingQueue, %d AGVs %.0f%% busy", agvs, 100 * utilization(LOADING, 0, run.buckets))});
+            causes.add(new Object[] {"Truck breakdowns", truckDownDelay * ordersPerContainer,
+                    String.format("%.1f truck-s down while containers waited at the bay", truckDownWhileWaiting / 1000)});
+            causes.add(new Object[] {"Truck capacity and dispatch", (sum(area[BAY], 0, run.buckets) - truckDownDelay) * ordersPerContainer,
+                    String.format("loadingBayQueue, %d trucks (trips and dispatch policy)", trucks)});
+            causes.sort(Comparator.comparingDouble((Object[] cause) -> (Double) cause[1]).reversed());
+
+            double total = 0;
+            for (Object[] cause : causes) {
+                total += (Double) cause[1];
+            }
+            System.out.println(String.format("\nWhere capacity is lost - queueing delay by cause (order-s, %.1f orders per container)",
+                    ordersPerContainer));
+            System.out.println(String.format("  %-4s %-28s %12s %7s  %s", "Rank", "Cause", "Order-s", "Share", "Detail"));
+            int rank = 1;
+            for (Object[] cause : causes) {
+                double orderMs = (Double) cause[1];
+                System.out.println(String.format("  %-4d %-28s %12.1f %6.1f%%  %s", rank++, cause[0], orderMs / 1000,
+                        total > 0 ? 100 * orderMs / total : 0, cause[2]));
+            }
+        }
+
+        private double utilization(int stage, int from, int to) {
+            int servers = header.servers[stage];
+            if (servers <= 0 || to <= from) {
+                return 0;
+            }
+            return sum(area[BUSY + stage], from, to) / (servers * (double) (to - from) * run.bucketMs);
+        }
+
+        private static String label(int stage) {
+            return STAGES[stage] == PipelineStage.TRUCK_DEPARTURE ? "Truck loading" : STAGES[stage].getDisplayName();
+        }
+
+        private static double sum(double[] values, int from, int to) {
+            double total = 0;
+            for (int i = from; i < to; i++) {
+                total += values[i];
+            }
+            return total;
+        }
+    }
+}
@@ -1,12 +1,18 @@
+package com.assignment.mavenproject1;
+
 /**
  * Simplified Box entity
  */
 public class Box {
+    // Zone names are shared constants so sorting a box never builds a string
+    private static final String[] ZONES = {"ZONE-1", "ZONE-2", "ZONE-3"};
+    
     private final Order order;
     private String trackingId;
     private boolean verified;
     private boolean scanned;
     private String destination;
+    private String zone = ZONES[0];
     
     public Box(Order order) {
         this.order = order;
@@ -14,43 +20,56 @@ public class Box {
         this.scanned = false;
     }
     
-    public void verify() {
+    public void verify(long verifyMs) {
         try {
-            Thread.sleep(50);
+            Thread.sleep(verifyMs);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
-        this.verified = true;
+        markVerified();
     }
     
     public boolean isReady() {
         return verified && trackingId != null && scanned;
     }
     
-    public void assignLabel(String destination) {
-        this.trackingId = "A" + String.format("%03d", order.getOrderId());
-        this.destination = destination;
+    public void assignLabel(String destination, long printMs) {
+        applyLabel(destination);
         try {
-            Thread.sleep(30);
+            Thread.sleep(printMs);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
     
-    public void scan() {
+    public void scan(long scanMs) {
         try {
-            Thread.sleep(40);
+            Thread.sleep(scanMs);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        markScanned();
+    }
+    
+    // State changes without the simulated delays (used by the discrete-event engine)
+    public void markVerified() {
+        this.verified = true;
+    }
+    
+    public void applyLabel(String destination) {
+        this.trackingId = "A" + String.format("%03d", order.getOrderId());
+        this.destination = destination;
+        this.zone = ZONES[Math.abs(destination.hashCode()) % ZONES.length];
+    }
+    
+    public void markScanned() {
         this.scanned = true;
     }
     
     
     
     public String getZone() {
-        if (destination == null) return "ZONE-1";
-        return "ZONE-" + ((Math.abs(destination.hashCode()) % 3) + 1);
+        return zone;
     }
     
     // Getters
@@ -0,0 +1,96 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Simplified Configuration constants for SwiftCart simulation.
+ * The sizes, rates and times are the defaults of the scenario settings (key in each comment);
+ * a run reads them from its Scenario, so runs in one JVM can differ.
+ */
+public class Constants {
+    
+    // Basic Requirements
+    public static final int ORDER_INTERVAL_MS = 500;          // orders.interval.ms
+    public static final int TOTAL_ORDERS = 600;               // orders.total
+    public static final int MAX_CONCURRENT_PICKERS = 4;       // pickers
+    public static final int PACKER_COUNT = 1;                 // packers
+    public static final int LABELLER_COUNT = 1;               // labellers
+    public static final int SORTER_COUNT = 1;                 // sorters
+    
+    public static final int BOXES_PER_BATCH = 6;              // boxes.per.batch
+    
+    public static final int BOXES_PER_CONTAINER = 30;         // boxes.per.container
+    public static final int MAX_CONTAINERS_AT_BAY = 5;        // bay.capacity
+    
+    // Free containers kept for reuse after their truck departs
+    public static final int CONTAINER_POOL_SIZE = 64;         // container.pool.size
+    
+    // Capacity of each inter-stage ring-buffer queue (when ring queues are selected)
+    public static final int QUEUE_CAPACITY = 1024;            // queue.capacity
+
+    public static final int MAX_AGVS = 3;                     // agvs
+    public static final int MAX_LOADING_BAYS = 2;             // loading.bays
+    public static final int TRUCK_COUNT = 3;                  // trucks
+    public static final int CONTAINERS_PER_TRUCK = 18;        // truck.capacity
+    public static final int TRUCK_DEPARTURE_TIMEOUT_MS = 10000;    // truck.departure.timeout.ms (--truck-dispatch=timeout): longest wait after the first container
+    public static final int TRUCK_LOW_BACKLOG = 1;                  // truck.low.backlog (--truck-dispatch=low-backlog): leave once this few are on their way
+    public static final int TRUCK_RECHECK_MS = 1000;                // truck.recheck.ms: part-loaded truck re-reads the backlog this often
+    public static final int TRUCK_TRIP_MIN_MS = 1000;               // truck.trip.min.ms: delivery round trip
+    public static final int TRUCK_TRIP_MAX_MS = 2000;               // truck.trip.max.ms
+    public static final int SIMULATION_DURATION_MS = 5 * 60 * 1000;  // simulation.duration.ms: limit for --shutdown=duration
+    public static final int DRAIN_TIMEOUT_MS = 30 * 60 * 1000;       // drain.timeout.ms: backstop for --shutdown=drain if the pipeline stalls
+    
+    // Additional Requirements
+    public static final double REJECTION_RATE = 0.10; // rejection.rate: simplified single rate
+    
+    
+    public static final double AGV_BREAKDOWN_PROBABILITY = 0.05;    // agv.breakdown.probability: per AGV per check
+    public static final int AGV_CHECK_MIN_MS = 2000;                // agv.check.min.ms: between breakdown checks
+    public static final int AGV_CHECK_MAX_MS = 5000;                // agv.check.max.ms
+    public static final int AGV_RECOVERY_TIME = 3000;               // agv.recovery.ms: fixed recovery time
+    public static final double TRUCK_BREAKDOWN_PROBABILITY = 0.02;  // truck.breakdown.probability: per truck cycle
+    public static final int TRUCK_REPAIR_MIN_MS = 3000;             // truck.repair.min.ms
+    public static final int TRUCK_REPAIR_MAX_MS = 5000;             // truck.repair.max.ms
+    
+    // Processing Times - Simplified ranges
+    public static final String PACKER_THREAD = "Packer-";
+    public static final int PROCESSING_TIME_MIN = 100;        // processing.min.ms: picking, packing, labelling, AGV load
+    public static final int PROCESSING_TIME_MAX = 500;        // processing.max.ms
+    public static final int SORT_TIME_MIN_MS = 50;            // sorting.min.ms
+    public static final int SORT_TIME_MAX_MS = 150;           // sorting.max.ms
+    
+    // Fixed handling steps (order/box verification, labelling, scanning)
+    public static final int ORDER_VERIFY_TIME_MS = 50;        // order.verify.ms
+    public static final int BOX_VERIFY_TIME_MS = 50;          // box.verify.ms
+    public static final int LABEL_PRINT_TIME_MS = 30;         // label.print.ms
+    public static final int SCAN_TIME_MS = 40;                // scan.ms
+    
+    // Bursty intake (--intake-burst=N): every INTAKE_BURST_EVERY orders, N orders arrive back-to-back
+    public static final int INTAKE_BURST_EVERY = 60;          // intake.burst.every
+    
+    // Picker autoscaling (--autoscale-pickers)
+    public static final int MIN_PICKERS = 1;                  // autoscale.min.pickers
+    public static final int MAX_PICKERS = 8;                  // autoscale.max.pickers
+    public static final int AUTOSCALE_SAMPLE_MS = 500;
+    public static final int AUTOSCALE_COOLDOWN_MS = 2000;
+    public static final int AUTOSCALE_UP_BACKLOG_PER_PICKER = 2;    // grow when backlog exceeds this per picker...
+    public static final double AUTOSCALE_UP_UTILIZATION = 0.85;     // ...or pickers are this busy
+    public static final double AUTOSCALE_DOWN_UTILIZATION = 0.40;   // shrink when idle queue and pickers below this
+    public static final int AUTOSCALE_UP_SAMPLES = 2;               // consecutive samples before growing
+    public static final int AUTOSCALE_DOWN_SAMPLES = 6;             // consecutive samples before shrinking
+    
+    // Shared timer for repairs and monitoring ticks: resolution, and buckets per turn of the wheel
+    public static final int TIMER_TICK_MS = 10;
+    public static final int TIMER_WHEEL_SIZE = 512;
+    
+    // Thread naming
+    public static final String ORDER_THREAD = "OrderThread-";
+    public static final String PICKER_THREAD = "Picker-";
+    
+    public static final String LABELLER_THREAD = "Labeller-";
+    public static final String SORTER_THREAD = "Sorter-";
+    public static final String LOADER_THREAD = "Loader-";
+    public static final String TRUCK_THREAD = "Truck-";
+    
+    
+    
+    
+}
\ No newline at end of file
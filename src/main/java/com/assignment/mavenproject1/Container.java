@@ -0,0 +1,93 @@
+package com.assignment.mavenproject1;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Simplified Container entity
+ * Boxes sit in a fixed array of slots (boxes.per.container, default BOXES_PER_CONTAINER), so adding one is O(1) and
+ * allocates nothing. A container has one owner at a time (assembler, loader, truck) and
+ * is handed between them through the stage queues, so it takes no lock. Once its truck
+ * has departed it goes back to a ContainerPool and is reused under a new ID.
+ */
+public class Container {
+    private int containerId;
+    private final Box[] slots;
+    private int boxCount;
+    private boolean sealed;
+    
+    public Container(int containerId) {
+        this(containerId, Constants.BOXES_PER_CONTAINER);
+    }
+    
+    public Container(int containerId, int capacity) {
+        this.containerId = containerId;
+        this.slots = new Box[capacity];
+        this.boxCount = 0;
+        this.sealed = false;
+    }
+    
+    public boolean addBox(Box box) {
+        if (sealed || boxCount == slots.length) {
+            return false;
+        }
+        slots[boxCount++] = box;
+        return true;
+    }
+    
+    public void seal() {
+        this.sealed = true;
+    }
+    
+    public boolean isFull() {
+        return boxCount == slots.length;
+    }
+    
+    // Empty the slots for reuse under a new ID (ContainerPool only)
+    void reset(int containerId) {
+        Arrays.fill(slots, 0, boxCount, null);
+        this.containerId = containerId;
+        this.boxCount = 0;
+        this.sealed = false;
+    }
+    
+    // Stage tracing for every order in the container
+    public void markEnqueued(PipelineStage stage, long timeMs) {
+        for (int i = 0; i < boxCount; i++) {
+            slots[i].getOrder().markEnqueued(stage, timeMs);
+        }
+    }
+    
+    public void markStarted(PipelineStage stage, long timeMs) {
+        for (int i = 0; i < boxCount; i++) {
+            slots[i].getOrder().markStarted(stage, timeMs);
+        }
+    }
+    
+    public void markCompleted(PipelineStage stage, long timeMs) {
+        for (int i = 0; i < boxCount; i++) {
+            slots[i].getOrder().markCompleted(stage, timeMs);
+        }
+    }
+    
+    // Index access for allocation-free iteration; getBoxes() wraps the slots in a list view
+    public Box getBox(int index) {
+        if (index < 0 || index >= boxCount) {
+            throw new IndexOutOfBoundsException("Box " + index + " of " + boxCount);
+        }
+        return slots[index];
+    }
+    
+    public List<Box> getBoxes() { return Collections.unmodifiableList(Arrays.asList(slots).subList(0, boxCount)); }
+    public int getBoxCount() { return boxCount; }
+    public int getCapacity() { return slots.length; }
+    public int getContainerId() { return containerId; }
+    public boolean isSealed() { return sealed; }
+    
+    @Override
+    public String toString() {
+        return "Container #" + containerId + " [Boxes:" + boxCount + 
+               "/" + slots.length + ", Sealed:" + sealed + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.assignment.mavenproject1;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out container IDs that are unique across every sorter thread.
+ * A single getAndIncrement per container - no lock, no retry loop.
+ */
+public class ContainerIdAllocator {
+    private final AtomicInteger nextId;
+
+    public ContainerIdAllocator() {
+        this(1);
+    }
+
+    public ContainerIdAllocator(int firstId) {
+        this.nextId = new AtomicInteger(firstId);
+    }
+
+    public int next() {
+        return nextId.getAndIncrement();
+    }
+
+    // IDs handed out so far
+    public int getAllocated() {
+        return nextId.get() - 1;
+    }
+}
@@ -0,0 +1,50 @@
+package com.assignment.mavenproject1;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recycles containers after their truck departs, so steady-state sorting allocates none.
+ * Free containers wait in an MpmcRingBuffer (preallocated, lock-free). acquire() only
+ * allocates while the pool is still warming up; a release into a full pool is dropped.
+ */
+public class ContainerPool {
+    private final MpmcRingBuffer<Container> free;
+    // Slots in each new container
+    private final int boxesPerContainer;
+    private final AtomicInteger allocated = new AtomicInteger();
+    private final AtomicInteger recycled = new AtomicInteger();
+
+    public ContainerPool() {
+        this(Constants.CONTAINER_POOL_SIZE);
+    }
+
+    public ContainerPool(int capacity) {
+        this(capacity, Constants.BOXES_PER_CONTAINER);
+    }
+    
+    public ContainerPool(int capacity, int boxesPerContainer) {
+        this.free = new MpmcRingBuffer<>(capacity, WaitStrategy.BLOCKING);
+        this.boxesPerContainer = boxesPerContainer;
+    }
+
+    public Container acquire(int containerId) {
+        Container container = free.poll();
+        if (container == null) {
+            allocated.incrementAndGet();
+            return new Container(containerId, boxesPerContainer);
+        }
+        container.reset(containerId);
+        return container;
+    }
+
+    // The caller must hold no further reference to the container
+    public void release(Container container) {
+        if (free.offer(container)) {
+            recycled.incrementAndGet();
+        }
+    }
+
+    public int getAllocated() { return allocated.get(); }
+    public int getRecycled() { return recycled.get(); }
+    public int getFree() { return free.size(); }
+}
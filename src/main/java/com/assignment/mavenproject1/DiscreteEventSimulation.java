@@ -0,0 +1,1441 @@
+package com.assignment.mavenproject1;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * Discrete-event version of the SwiftCart pipeline.
+ * Every Thread.sleep of the threaded stages becomes an event on a virtual SimClock,
+ * so a full 600-order run finishes in milliseconds of wall time. Sizes, rates and times
+ * come from the Scenario it is given, so any number of runs can share a JVM.
+ *
+ * Pending events are data (a Kind and its order, box, container or AGV/truck number) rather
+ * than closures, so the whole state can be written to a SimulationCheckpoint between two
+ * events and a run resumed from it later, or many times over with different settings.
+ */
+public class DiscreteEventSimulation {
+
+    private static final String[] DESTINATIONS = {
+        "Kuala Lumpur", "Selangor", "Penang", "Johor", "Perak"
+    };
+
+    private final SimClock clock = new SimClock();
+    private final EventScheduler scheduler = new EventScheduler(clock);
+    private final Scenario scenario;
+    // Every draw comes from the one seeded Random, in event order
+    private final RandomStream.JavaRandom random;
+    private final Statistics statistics;
+
+    // Stage queues
+    private final Deque<Order> pickingQueue = new ArrayDeque<>();
+    private final Deque<Order> packingQueue = new ArrayDeque<>();
+    private final Deque<Box> labellingQueue = new ArrayDeque<>();
+    private final Deque<Box> sortingQueue = new ArrayDeque<>();
+    private final Deque<Container> loadingQueue = new ArrayDeque<>();
+    private final Deque<Container> loadingBayQueue = new ArrayDeque<>();
+
+    // Stage workers
+    private int idlePickers;
+    private int packerCount;
+    private int idlePackers;
+    private int labellerCount;
+    private int idleLabellers;
+    private int sorterCount;
+    private int idleSorters;
+    private long orderIntervalMs;
+    // One loader per AGV, as in the threaded run: holding a container, waiting for or using an AGV
+    private final boolean[] loaderBusy;
+    private final boolean[] agvBusy;
+    private final boolean[] agvOperational;
+    private final long[] agvBreakdownTime;
+    // Which AGV carries each container, as AGVDispatcher decides it for the threaded run
+    private AGVDispatcher.Policy agvDispatchPolicy = AGVDispatcher.Policy.FLEET;
+    private final long[] agvIdleSince;
+    // The load each AGV is carrying: its AGV_LOADED event, loader and container
+    private final SimEvent[] agvLoad;
+    private final int[] agvLoader;
+    private final Container[] agvContainer;
+    // FIXED: the time left on a load whose AGV broke down under it, resumed on repair; -1 if none
+    private final long[] agvLoadRemaining;
+    // Utilization in simulated ms, each interval closed on a change of state as AGVDispatcher does
+    private final long[] agvStateSince;
+    private final long[] agvBusyMs;
+    private final long[] agvBrokenMs;
+    private final int[] agvLoads;
+    private int agvReroutes = 0;
+
+    // Same per-zone assembly as the threaded sorters; sorted by zone so the flush order is fixed
+    private final Map<String, ZoneAssembler> zoneAssemblers = new TreeMap<>();
+    // Replaced by a resumed run's
+    private ContainerIdAllocator containerIds = new ContainerIdAllocator();
+    private final ContainerPool containerPool;
+    // AGV, bay and bay-capacity permits, granted together (see SimAllocator)
+    private final SimAllocator resources;
+    // Loaders granted their permits, waiting for an AGV: loads rerouted after a breakdown first,
+    // then in arrival order
+    private final Deque<Waiter> reroutedClaims = new ArrayDeque<>();
+    private final Deque<Waiter> agvClaims = new ArrayDeque<>();
+    // Trucks off the bay until a container arrives, with their recheck events
+    private final Deque<Integer> trucksWaitingAtBay = new ArrayDeque<>();
+    private final SimEvent[] truckRecheck;
+
+    private TruckDispatchPolicy truckDispatchPolicy = TruckDispatchPolicy.LOW_BACKLOG;
+    private EventJournal journal = EventJournal.DISABLED;
+    private final List<List<Container>> truckCargo = new ArrayList<>();
+    private final long[] truckFirstLoadAt;
+    private final boolean[] truckOperational;
+    // The truck came to the bay while broken down; its repair restarts the cycle
+    private final boolean[] truckResumePending;
+    private int trucksFinished = 0;
+
+    // Progress
+    private int ordersGenerated = 0;
+    private boolean intakeComplete = false;
+    private boolean sorterFlushed = false;
+    private boolean finished = false;
+    private int containersLoaded = 0;
+    private int agvBreakdowns = 0;
+    private int truckBreakdowns = 0;
+
+    // Checkpoints (see setCheckpoints) and resuming
+    private String checkpointPath;
+    private long nextCheckpointMs = Long.MAX_VALUE;
+    private long checkpointEveryMs;
+    private boolean stopAtCheckpoint;
+    private boolean stopped = false;
+    private boolean resumed = false;
+    // The resumed scenario has more of some station, or more AGVs, than the checkpoint
+    private boolean stationsAdded = false;
+
+    public DiscreteEventSimulation(Scenario scenario, Statistics statistics) {
+        this(scenario, statistics, new SplittableRandom().nextLong());
+    }
+
+    public DiscreteEventSimulation(Scenario scenario, Statistics statistics, long seed) {
+        this.scenario = scenario;
+        this.statistics = statistics;
+        this.random = RandomStream.javaRandom(seed);
+        idlePickers = scenario.pickers;
+        setStationCounts(scenario.packers, scenario.labellers, scenario.sorters);
+        orderIntervalMs = scenario.orderIntervalMs;
+        loaderBusy = new boolean[scenario.agvs];
+        agvBusy = new boolean[scenario.agvs];
+        agvOperational = new boolean[scenario.agvs];
+        agvBreakdownTime = new long[scenario.agvs];
+        agvIdleSince = new long[scenario.agvs];
+        agvLoad = new SimEvent[scenario.agvs];
+        agvLoader = new int[scenario.agvs];
+        agvContainer = new Container[scenario.agvs];
+        agvLoadRemaining = new long[scenario.agvs];
+        agvStateSince = new long[scenario.agvs];
+        agvBusyMs = new long[scenario.agvs];
+        agvBrokenMs = new long[scenario.agvs];
+        agvLoads = new int[scenario.agvs];
+        containerPool = new ContainerPool(scenario.containerPoolSize, scenario.boxesPerContainer);
+        resources = new SimAllocator(scenario.agvs, scenario.loadingBays, scenario.bayCapacity);
+        truckFirstLoadAt = new long[scenario.trucks];
+        truckOperational = new boolean[scenario.trucks];
+        truckResumePending = new boolean[scenario.trucks];
+        truckRecheck = new SimEvent[scenario.trucks];
+        for (int i = 0; i < scenario.agvs; i++) {
+            agvOperational[i] = true;
+            agvLoadRemaining[i] = -1;
+        }
+        for (int i = 0; i < scenario.trucks; i++) {
+            truckOperational[i] = true;
+            truckCargo.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Replicate the packing and labelling stations; call before run()
+     */
+    public void setStationCounts(int packers, int labellers) {
+        setStationCounts(packers, labellers, sorterCount);
+    }
+
+    public void setStationCounts(int packers, int labellers, int sorters) {
+        packerCount = idlePackers = Math.max(1, packers);
+        labellerCount = idleLabellers = Math.max(1, labellers);
+        sorterCount = idleSorters = Math.max(1, sorters);
+    }
+
+    // When a part-loaded truck leaves the bay; call before run()
+    public void setTruckDispatchPolicy(TruckDispatchPolicy policy) {
+        this.truckDispatchPolicy = policy;
+    }
+
+    // Which AGV carries each container (see AGVDispatcher); call before run()
+    public void setAgvDispatchPolicy(AGVDispatcher.Policy policy) {
+        this.agvDispatchPolicy = policy;
+    }
+
+    // Journal every event on the simulated clock (open it with Clock.SIMULATED); call before run()
+    public void setJournal(EventJournal journal) {
+        this.journal = journal;
+    }
+
+    // Intake spacing; lower than the station service time to load the pipeline
+    public void setOrderIntervalMs(long orderIntervalMs) {
+        this.orderIntervalMs = Math.max(0, orderIntervalMs);
+    }
+
+    /**
+     * Write a checkpoint to path at atMs of simulated time, then every everyMs (0: only once);
+     * with stop, run() returns after the first one. Call before run().
+     */
+    public void setCheckpoints(String path, long atMs, long everyMs, boolean stop) {
+        this.checkpointPath = path;
+        this.nextCheckpointMs = Math.max(0, atMs);
+        this.checkpointEveryMs = Math.max(0, everyMs);
+        this.stopAtCheckpoint = stop;
+    }
+
+    public void run() {
+        long wallStart = System.nanoTime();
+        if (resumed) {
+            Log.info("DiscreteEventSimulation: Resuming at {} simulated seconds - {} of {} orders generated, {} events pending",
+                     (clock.now() / 1000.0), ordersGenerated, scenario.totalOrders, scheduler.getPendingEvents());
+            if (stationsAdded) {
+                dispatchPickers();
+                dispatchPacker();
+                dispatchLabeller();
+                dispatchSorter();
+                assignAGVs();
+                dispatchLoaders();
+            }
+        } else {
+            Log.info("DiscreteEventSimulation: Starting {} orders, {} packers, {} labellers, {} sorters",
+                     scenario.totalOrders, packerCount, labellerCount, sorterCount);
+            schedule(0, Kind.GENERATE_ORDER);
+            schedule(nextAgvCheckDelay(), Kind.AGV_CHECK);
+            for (int truck = 0; truck < scenario.trucks; truck++) {
+                schedule(0, Kind.TRUCK_CYCLE, truck, 0, null);
+            }
+        }
+
+        // A resumed run's next periodic checkpoint is the first one after where it starts
+        while (checkpointEveryMs > 0 && nextCheckpointMs <= clock.now() && resumed) {
+            nextCheckpointMs += checkpointEveryMs;
+        }
+        while (scheduler.runUntil(nextCheckpointMs)) {
+            writeCheckpoint(checkpointPath);
+            if (stopAtCheckpoint) {
+                stopped = true;
+                break;
+            }
+            nextCheckpointMs = checkpointEveryMs > 0 ? nextCheckpointMs + checkpointEveryMs : Long.MAX_VALUE;
+        }
+
+        long wallMs = (System.nanoTime() - wallStart) / 1_000_000;
+        Log.info("DiscreteEventSimulation: {} - {} events, {} simulated seconds in {} ms",
+                 stopped ? "Stopped at checkpoint" : "Completed",
+                 scheduler.getEventsProcessed(), (clock.now() / 1000.0), wallMs);
+    }
+
+    // ---------------- Events ----------------
+
+    /**
+     * What a pending event does when it fires
+     */
+    private enum Kind {
+        GENERATE_ORDER, ORDER_VERIFIED, INTAKE_COMPLETE, PICKED, PACKED, LABELLED, SORTED,
+        GRANTED, AGV_LOADED, AGV_CHECK, AGV_REPAIRED,
+        TRUCK_CYCLE, TRUCK_REPAIRED, TRUCK_RECHECK, TRUCK_LOADED
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final ResourceAllocator.Resource[] RESOURCES = ResourceAllocator.Resource.values();
+
+    /**
+     * A pending event as data. unit is the AGV or truck (or the destination of LABELLED),
+     * value the loader of AGV_LOADED or the loading delay of TRUCK_LOADED, item the order,
+     * box, container or granted waiter.
+     */
+    private final class Step implements Runnable {
+        final Kind kind;
+        final int unit;
+        final long value;
+        final Object item;
+
+        Step(Kind kind, int unit, long value, Object item) {
+            this.kind = kind;
+            this.unit = unit;
+            this.value = value;
+            this.item = item;
+        }
+
+        @Override
+        public void run() {
+            fire(this);
+        }
+    }
+
+    private SimEvent schedule(long delayMs, Kind kind) {
+        return schedule(delayMs, kind, 0, 0, null);
+    }
+
+    private SimEvent schedule(long delayMs, Kind kind, int unit, long value, Object item) {
+        return scheduler.schedule(delayMs, new Step(kind, unit, value, item));
+    }
+
+    private void fire(Step step) {
+        switch (step.kind) {
+            case GENERATE_ORDER:
+                generateOrder();
+                break;
+            case ORDER_VERIFIED:
+                orderVerified((Order) step.item);
+                break;
+            case INTAKE_COMPLETE:
+                intakeComplete = true;
+                checkDrained();
+                break;
+            case PICKED:
+                picked((Order) step.item);
+                break;
+            case PACKED:
+                packed((Order) step.item);
+                break;
+            case LABELLED:
+                labelled((Box) step.item, DESTINATIONS[step.unit]);
+                break;
+            case SORTED:
+                sorted((Box) step.item);
+                break;
+            case GRANTED:
+                granted((Waiter) step.item);
+                break;
+            case AGV_LOADED:
+                agvLoaded(step.unit, (int) step.value, (Container) step.item);
+                break;
+            case AGV_CHECK:
+                checkAGVBreakdowns();
+                break;
+            case AGV_REPAIRED:
+                agvRepaired(step.unit);
+                break;
+            case TRUCK_CYCLE:
+                truckCycle(step.unit);
+                break;
+            case TRUCK_REPAIRED:
+                truckRepaired(step.unit);
+                break;
+            case TRUCK_RECHECK:
+                truckRecheck(step.unit);
+                break;
+            case TRUCK_LOADED:
+                truckLoaded(step.unit, (Container) step.item, step.value);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled event " + step.kind);
+        }
+    }
+
+    // ---------------- Order intake ----------------
+
+    private void generateOrder() {
+        Order order = new Order(ordersGenerated + 1, clock.now());
+        order.markEnqueued(PipelineStage.INTAKE, clock.now());
+        ordersGenerated++;
+        statistics.incrementOrdersReceived();
+
+        if (random.nextDouble() > scenario.rejectionRate) {
+            order.markStarted(PipelineStage.INTAKE, clock.now());
+            schedule(scenario.orderVerifyMs, Kind.ORDER_VERIFIED, 0, 0, order);
+        } else {
+            statistics.incrementOrdersRejectedAtIntake();
+            journal.rejected(order, PipelineStage.INTAKE, clock.now());
+            scheduleNextOrder(orderIntervalMs);
+        }
+    }
+
+    private void orderVerified(Order order) {
+        order.markVerified();
+        order.markCompleted(PipelineStage.INTAKE, clock.now());
+        order.markEnqueued(PipelineStage.PICKING, clock.now());
+        journal.order(JournalEvent.ORDER_ACCEPTED, order, clock.now());
+        pickingQueue.add(order);
+        dispatchPickers();
+        scheduleNextOrder(orderIntervalMs);
+    }
+
+    private void scheduleNextOrder(long delay) {
+        schedule(delay, ordersGenerated < scenario.totalOrders ? Kind.GENERATE_ORDER : Kind.INTAKE_COMPLETE);
+    }
+
+    // ---------------- Picking / packing / labelling ----------------
+
+    private void dispatchPickers() {
+        while (idlePickers > 0 && !pickingQueue.isEmpty()) {
+            Order order = pickingQueue.poll();
+            order.markStarted(PipelineStage.PICKING, clock.now());
+            if (random.nextDouble() > scenario.rejectionRate) {
+                idlePickers--;
+                schedule(processingTime(), Kind.PICKED, 0, 0, order);
+            } else {
+                statistics.incrementOrdersRejectedAtPicking();
+                journal.rejected(order, PipelineStage.PICKING, clock.now());
+            }
+        }
+        checkDrained();
+    }
+
+    private void picked(Order order) {
+        idlePickers++;
+        statistics.incrementOrdersPicked();
+        order.markCompleted(PipelineStage.PICKING, clock.now());
+        order.markEnqueued(PipelineStage.PACKING, clock.now());
+        journal.order(JournalEvent.ORDER_PICKED, order, clock.now());
+        packingQueue.add(order);
+        dispatchPacker();
+        dispatchPickers();
+    }
+
+    private void dispatchPacker() {
+        while (idlePackers > 0 && !packingQueue.isEmpty()) {
+            Order order = packingQueue.poll();
+            order.markStarted(PipelineStage.PACKING, clock.now());
+            if (random.nextDouble() > scenario.rejectionRate) {
+                idlePackers--;
+                schedule(processingTime() + scenario.boxVerifyMs, Kind.PACKED, 0, 0, order);
+            } else {
+                statistics.incrementOrdersRejectedAtPacking();
+                journal.rejected(order, PipelineStage.PACKING, clock.now());
+            }
+        }
+        checkDrained();
+    }
+
+    private void packed(Order order) {
+        Box box = new Box(order);
+        box.markVerified();
+        statistics.incrementBoxesPacked();
+        idlePackers++;
+        order.markCompleted(PipelineStage.PACKING, clock.now());
+        order.markEnqueued(PipelineStage.LABELLING, clock.now());
+        journal.order(JournalEvent.ORDER_PACKED, order, clock.now());
+        labellingQueue.add(box);
+        dispatchLabeller();
+        dispatchPacker();
+    }
+
+    private void dispatchLabeller() {
+        while (idleLabellers > 0 && !labellingQueue.isEmpty()) {
+            Box box = labellingQueue.poll();
+            box.getOrder().markStarted(PipelineStage.LABELLING, clock.now());
+            if (random.nextDouble() > scenario.rejectionRate) {
+                idleLabellers--;
+                int destination = random.nextInt(DESTINATIONS.length);
+                long labellingTime = processingTime() + scenario.labelPrintMs + scenario.scanMs;
+                schedule(labellingTime, Kind.LABELLED, destination, 0, box);
+            } else {
+                statistics.incrementOrdersRejectedAtLabelling();
+                journal.rejected(box.getOrder(), PipelineStage.LABELLING, clock.now());
+            }
+        }
+        checkDrained();
+    }
+
+    private void labelled(Box box, String destination) {
+        box.applyLabel(destination);
+        box.markScanned();
+        idleLabellers++;
+        statistics.incrementBoxesLabelled();
+        box.getOrder().markCompleted(PipelineStage.LABELLING, clock.now());
+        box.getOrder().markEnqueued(PipelineStage.SORTING, clock.now());
+        journal.order(JournalEvent.ORDER_LABELLED, box.getOrder(), clock.now());
+        sortingQueue.add(box);
+        dispatchSorter();
+        dispatchLabeller();
+    }
+
+    // ---------------- Sorting ----------------
+
+    private void dispatchSorter() {
+        while (idleSorters > 0 && !sortingQueue.isEmpty()) {
+            Box box = sortingQueue.poll();
+            box.getOrder().markStarted(PipelineStage.SORTING, clock.now());
+            idleSorters--;
+            schedule(scenario.sortTime(random), Kind.SORTED, 0, 0, box);
+        }
+        checkDrained();
+    }
+
+    private void sorted(Box box) {
+        box.getOrder().markCompleted(PipelineStage.SORTING, clock.now());
+        box.getOrder().markEnqueued(PipelineStage.CONTAINER_SEAL, clock.now());
+        journal.order(JournalEvent.ORDER_SORTED, box.getOrder(), clock.now());
+        Container container = assemblerFor(box.getZone()).addBox(box);
+        statistics.incrementOrdersProcessed();
+        if (container != null) {
+            sealContainer(container);
+        }
+        idleSorters++;
+        dispatchSorter();
+    }
+
+    private ZoneAssembler assemblerFor(String zone) {
+        return zoneAssemblers.computeIfAbsent(zone, z -> new ZoneAssembler(z, containerIds, containerPool, scenario.boxesPerBatch));
+    }
+
+    // Same leftover handling as SortingThread.processRemainingBatches
+    private void flushSorter() {
+        sorterFlushed = true;
+        for (ZoneAssembler assembler : zoneAssemblers.values()) {
+            Container partial = assembler.flush();
+            if (partial != null) {
+                sealContainer(partial);
+            }
+        }
+    }
+
+    private void sealContainer(Container container) {
+        // Container assembly takes no simulated time
+        container.markStarted(PipelineStage.CONTAINER_SEAL, clock.now());
+        container.seal();
+        container.markCompleted(PipelineStage.CONTAINER_SEAL, clock.now());
+        container.markEnqueued(PipelineStage.AGV_LOAD, clock.now());
+        journal.container(JournalEvent.CONTAINER_SEALED, container, 0, clock.now());
+        statistics.incrementContainersSealed();
+        loadingQueue.add(container);
+        dispatchLoaders();
+    }
+
+    // ---------------- Loaders (AGVs) ----------------
+
+    // An idle loader takes the next container and asks for an AGV, a bay and a slot at the bay
+    // together, as LoaderThread does; it holds nothing while it waits. Under FIXED a loader
+    // whose own AGV is broken down takes nothing until the repair.
+    private void dispatchLoaders() {
+        for (int loader = 0; loader < loaderBusy.length && !loadingQueue.isEmpty(); loader++) {
+            if (!loaderBusy[loader] && (agvDispatchPolicy != AGVDispatcher.Policy.FIXED || agvOperational[loader])) {
+                loaderBusy[loader] = true;
+                resources.acquire(new Waiter(false, loader, loadingQueue.poll(), clock.now()));
+            }
+        }
+        checkDrained();
+    }
+
+    // A truck has a bay, or a loader its AGV, bay and bay slot
+    private void granted(Waiter waiter) {
+        if (waiter.truck) {
+            long waitTime = clock.now() - waiter.since;
+            if (waitTime > 1000) {
+                statistics.addTruckWaitTime(waitTime);
+            }
+            loadAtBay(waiter.unit);
+            return;
+        }
+        waiter.container.markStarted(PipelineStage.AGV_LOAD, clock.now());
+        agvClaims.add(waiter);
+        assignAGVs();
+    }
+
+    // The AGV permit guarantees one will be free, but one may break down before the claim is served
+    private void assignAGVs() {
+        if (agvDispatchPolicy == AGVDispatcher.Policy.FIXED) {
+            // Each loader drives its own AGV only, so claims do not queue behind each other
+            // (rerouted claims are left only by a FLEET run resumed as FIXED)
+            assignOwnAGVs(reroutedClaims);
+            assignOwnAGVs(agvClaims);
+            return;
+        }
+        int agv;
+        while ((!reroutedClaims.isEmpty() || !agvClaims.isEmpty()) && (agv = longestIdleAGV()) >= 0) {
+            Waiter claim = !reroutedClaims.isEmpty() ? reroutedClaims.poll() : agvClaims.poll();
+            startLoad(agv, claim.unit, claim.container);
+        }
+    }
+
+    private void assignOwnAGVs(Deque<Waiter> claims) {
+        for (Iterator<Waiter> it = claims.iterator(); it.hasNext(); ) {
+            Waiter claim = it.next();
+            if (agvOperational[claim.unit] && !agvBusy[claim.unit]) {
+                it.remove();
+                startLoad(claim.unit, claim.unit, claim.container);
+            }
+        }
+    }
+
+    // Operational AGV not carrying a container that has been idle the longest, or -1
+    private int longestIdleAGV() {
+        int best = -1;
+        for (int agv = 0; agv < agvBusy.length; agv++) {
+            if (agvOperational[agv] && !agvBusy[agv] && (best < 0 || agvIdleSince[agv] < agvIdleSince[best])) {
+                best = agv;
+            }
+        }
+        return best;
+    }
+
+    private void startLoad(int agv, int loader, Container container) {
+        accountAGV(agv);
+        agvBusy[agv] = true;
+        agvLoads[agv]++;
+        agvLoader[agv] = loader;
+        agvContainer[agv] = container;
+        agvLoad[agv] = schedule(processingTime(), Kind.AGV_LOADED, agv, loader, container);
+    }
+
+    private void agvLoaded(int agv, int loader, Container container) {
+        containersLoaded++;
+        container.markCompleted(PipelineStage.AGV_LOAD, clock.now());
+        container.markEnqueued(PipelineStage.TRUCK_DEPARTURE, clock.now());
+        journal.container(JournalEvent.AGV_LOADED, container, agv + 1, clock.now());
+        loadingBayQueue.add(container);
+        releaseAGV(agv);
+        loaderBusy[loader] = false;
+        // The container's slot at the bay stays taken until a truck takes it
+        resources.release(1, 1, 0);
+        handContainerToWaitingTruck();
+        assignAGVs();
+        dispatchLoaders();
+    }
+
+    // The load is done or abandoned after a breakdown; the AGV is free again
+    private void releaseAGV(int agv) {
+        accountAGV(agv);
+        agvBusy[agv] = false;
+        agvLoad[agv] = null;
+        agvContainer[agv] = null;
+        agvIdleSince[agv] = clock.now();
+    }
+
+    // An AGV broke down under its load: FLEET hands the container to the next free AGV, which
+    // starts the load over; FIXED leaves it on the AGV until the repair
+    private void interruptLoad(int agv) {
+        long remaining = agvLoad[agv].getTime() - clock.now();
+        agvLoad[agv].cancel();
+        if (agvDispatchPolicy == AGVDispatcher.Policy.FIXED) {
+            agvLoad[agv] = null;
+            agvLoadRemaining[agv] = remaining;
+            return;
+        }
+        int loader = agvLoader[agv];
+        Container container = agvContainer[agv];
+        releaseAGV(agv);
+        statistics.recordAGVReroute();
+        agvReroutes++;
+        reroutedClaims.add(new Waiter(false, loader, container, clock.now()));
+        assignAGVs();
+    }
+
+    // Close the AGV's current busy or broken interval before its state changes
+    private void accountAGV(int agv) {
+        long elapsed = clock.now() - agvStateSince[agv];
+        if (!agvOperational[agv]) {
+            agvBrokenMs[agv] += elapsed;
+        } else if (agvBusy[agv]) {
+            agvBusyMs[agv] += elapsed;
+        }
+        agvStateSince[agv] = clock.now();
+    }
+
+    private void checkAGVBreakdowns() {
+        if (finished) {
+            return;
+        }
+        for (int agv = 0; agv < scenario.agvs; agv++) {
+            if (agvOperational[agv] && random.nextDouble() < scenario.agvBreakdownProbability) {
+                accountAGV(agv);
+                agvOperational[agv] = false;
+                agvBreakdownTime[agv] = clock.now();
+                agvBreakdowns++;
+                resources.withdraw(ResourceAllocator.Resource.AGV);
+                statistics.recordAGVBreakdown();
+                journal.unit(JournalEvent.AGV_BREAKDOWN, agv + 1, clock.now());
+                schedule(scenario.agvRecoveryMs, Kind.AGV_REPAIRED, agv, 0, null);
+                if (agvLoad[agv] != null) {
+                    interruptLoad(agv);
+                }
+            }
+        }
+        schedule(nextAgvCheckDelay(), Kind.AGV_CHECK);
+    }
+
+    private void agvRepaired(int agv) {
+        accountAGV(agv);
+        agvOperational[agv] = true;
+        agvIdleSince[agv] = clock.now();
+        statistics.addAGVDowntime(clock.now() - agvBreakdownTime[agv]);
+        journal.unit(JournalEvent.AGV_REPAIRED, agv + 1, clock.now());
+        resources.release(1, 0, 0);
+        if (agvLoadRemaining[agv] >= 0) {
+            // FIXED: the load carries on where the breakdown stopped it
+            agvLoad[agv] = schedule(agvLoadRemaining[agv], Kind.AGV_LOADED, agv, agvLoader[agv], agvContainer[agv]);
+            agvLoadRemaining[agv] = -1;
+        }
+        assignAGVs();
+        dispatchLoaders();
+    }
+
+    private long nextAgvCheckDelay() {
+        return scenario.agvCheckInterval(random);
+    }
+
+    // ---------------- Trucks ----------------
+
+    private void truckCycle(int truck) {
+        if (!truckOperational[truck]) {
+            truckResumePending[truck] = true;
+            return;
+        }
+
+        // Random truck breakdown, repaired after TRUCK_REPAIR_MIN_MS..TRUCK_REPAIR_MAX_MS
+        if (random.nextDouble() < scenario.truckBreakdownProbability) {
+            truckOperational[truck] = false;
+            truckBreakdowns++;
+            journal.unit(JournalEvent.TRUCK_BREAKDOWN, truck + 1, clock.now());
+            schedule(scenario.truckRepairTime(random), Kind.TRUCK_REPAIRED, truck, 0, null);
+            truckCycle(truck);
+            return;
+        }
+
+        List<Container> cargo = truckCargo.get(truck);
+        // Dock only while containers are waiting, as TruckThread does
+        if (!loadingBayQueue.isEmpty() && cargo.size() < scenario.truckCapacity) {
+            resources.acquire(new Waiter(true, truck, null, clock.now()));
+            return;
+        }
+
+        if (!cargo.isEmpty() && (finished || truckDispatchPolicy.shouldDepart(scenario, cargo.size(),
+                clock.now() - truckFirstLoadAt[truck], containerBacklog()))) {
+            departTruck(truck);
+            return;
+        }
+        if (finished) {
+            trucksFinished++;
+            return;
+        }
+
+        // Off the bay until a container arrives, the drain finishes or the policy wants to look again
+        long recheckMs = cargo.isEmpty() ? Long.MAX_VALUE
+                : truckDispatchPolicy.recheckMs(scenario, clock.now() - truckFirstLoadAt[truck]);
+        trucksWaitingAtBay.add(truck);
+        if (recheckMs != Long.MAX_VALUE) {
+            truckRecheck[truck] = schedule(recheckMs, Kind.TRUCK_RECHECK, truck, 0, null);
+        }
+    }
+
+    private void truckRepaired(int truck) {
+        truckOperational[truck] = true;
+        journal.unit(JournalEvent.TRUCK_REPAIRED, truck + 1, clock.now());
+        if (truckResumePending[truck]) {
+            truckResumePending[truck] = false;
+            truckCycle(truck);
+        }
+    }
+
+    // The dispatch policy looks again at a part-loaded truck waiting off the bay
+    private void truckRecheck(int truck) {
+        truckRecheck[truck] = null;
+        trucksWaitingAtBay.remove(truck);
+        truckCycle(truck);
+    }
+
+    // A truck waiting off the bay comes back, its recheck no longer needed
+    private void wakeTruck(int truck) {
+        if (truckRecheck[truck] != null) {
+            truckRecheck[truck].cancel();
+            truckRecheck[truck] = null;
+        }
+        truckCycle(truck);
+    }
+
+    // A container reached the bay: wake one waiting truck
+    private void handContainerToWaitingTruck() {
+        Integer waitingTruck = trucksWaitingAtBay.poll();
+        if (waitingTruck != null) {
+            wakeTruck(waitingTruck);
+        }
+    }
+
+    // Docked: take the waiting containers one by one up to capacity, then undock
+    private void loadAtBay(int truck) {
+        List<Container> cargo = truckCargo.get(truck);
+        if (loadingBayQueue.isEmpty() || cargo.size() >= scenario.truckCapacity) {
+            resources.release(0, 1, 0);
+            truckCycle(truck);
+            return;
+        }
+        Container container = loadingBayQueue.poll();
+        // Its slot at the bay is free for the loaders
+        resources.release(0, 0, 1);
+        long loadingDelay = random.nextInt(200) + 100;
+        container.markStarted(PipelineStage.TRUCK_DEPARTURE, clock.now());
+        if (cargo.isEmpty()) {
+            truckFirstLoadAt[truck] = clock.now();
+        }
+        checkDrained();
+        schedule(loadingDelay, Kind.TRUCK_LOADED, truck, loadingDelay, container);
+    }
+
+    private void truckLoaded(int truck, Container container, long loadingDelay) {
+        statistics.addTruckLoadingTime(loadingDelay);
+        statistics.incrementContainersLoaded();
+        truckCargo.get(truck).add(container);
+        loadAtBay(truck);
+    }
+
+    private void departTruck(int truck) {
+        List<Container> cargo = truckCargo.get(truck);
+        for (Container container : cargo) {
+            container.markCompleted(PipelineStage.TRUCK_DEPARTURE, clock.now());
+            journal.container(JournalEvent.TRUCK_DEPARTED, container, truck + 1, clock.now());
+            statistics.recordShippedContainer(container);
+            containerPool.release(container);
+        }
+        statistics.recordTruckDeparture(cargo.size());
+        cargo.clear();
+
+        // Delivery (truck.trip.min.ms..truck.trip.max.ms) plus brief rest before next trip
+        long tripTime = scenario.truckTripTime(random) + random.nextInt(200) + 100;
+        schedule(tripTime, Kind.TRUCK_CYCLE, truck, 0, null);
+    }
+
+    // Sealed containers not yet on a truck: waiting for an AGV, being loaded, or at the bay
+    private int containerBacklog() {
+        int loading = 0;
+        for (boolean busy : loaderBusy) {
+            loading += busy ? 1 : 0;
+        }
+        return loadingQueue.size() + loading + loadingBayQueue.size();
+    }
+
+    // ---------------- Pipeline drain ----------------
+
+    private void checkDrained() {
+        if (finished || !intakeComplete) {
+            return;
+        }
+        boolean upstreamIdle = pickingQueue.isEmpty() && idlePickers == scenario.pickers
+                && packingQueue.isEmpty() && idlePackers == packerCount
+                && labellingQueue.isEmpty() && idleLabellers == labellerCount
+                && sortingQueue.isEmpty() && idleSorters == sorterCount;
+        if (!upstreamIdle) {
+            return;
+        }
+        if (!sorterFlushed) {
+            flushSorter();
+        }
+        boolean loadersIdle = true;
+        for (boolean busy : loaderBusy) {
+            loadersIdle &= !busy;
+        }
+        if (loadersIdle && loadingQueue.isEmpty() && loadingBayQueue.isEmpty()) {
+            finished = true;
+            // Part-loaded trucks leave, empty ones stop
+            Integer waitingTruck;
+            while ((waitingTruck = trucksWaitingAtBay.poll()) != null) {
+                wakeTruck(waitingTruck);
+            }
+        }
+    }
+
+    private int processingTime() {
+        return scenario.processingTime(random);
+    }
+
+    // ---------------- Checkpoints ----------------
+
+    /**
+     * A run that carries on from a checkpoint. The scenario is normally the checkpoint's own
+     * (SimulationCheckpoint.getScenarioConfig) with any what-if overrides: stations and loading
+     * bays may grow or shrink, AGVs and trucks may only grow, and every time, rate and policy
+     * applies from the checkpoint on. statistics must be fresh; it gets the checkpointed counts.
+     */
+    public static DiscreteEventSimulation resume(SimulationCheckpoint checkpoint, Scenario scenario,
+                                                 Statistics statistics) {
+        DiscreteEventSimulation simulation = new DiscreteEventSimulation(scenario, statistics, 0);
+        simulation.setTruckDispatchPolicy(checkpoint.getTruckDispatchPolicy());
+        simulation.setAgvDispatchPolicy(checkpoint.getAgvDispatchPolicy());
+        try (DataInputStream in = checkpoint.openState()) {
+            simulation.readState(in);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot resume from " + checkpoint.getPath() + ": " + e.getMessage());
+        }
+        simulation.resumed = true;
+        return simulation;
+    }
+
+    // Draw from a new seed from here on, e.g. for replicas branched from one checkpoint
+    public void reseed(long seed) {
+        random.setState(RandomStream.javaRandom(seed).getState());
+    }
+
+    /**
+     * Write the whole state to path between two events; the run carries on exactly as if it had not
+     */
+    public void writeCheckpoint(String path) {
+        long wallStart = System.nanoTime();
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+            int pending;
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                pending = writeState(out);
+            }
+            long written = SimulationCheckpoint.write(path, scenario, truckDispatchPolicy, agvDispatchPolicy,
+                                                      clock.now(), scheduler.getEventsProcessed(), bytes.toByteArray());
+            Log.info("DiscreteEventSimulation: Checkpoint at {} simulated seconds - {} pending events, {} KB to {} in {} ms",
+                     (clock.now() / 1000.0), pending, written / 1024, path, (System.nanoTime() - wallStart) / 1_000_000);
+        } catch (IOException e) {
+            Log.warn("DiscreteEventSimulation: Could not write checkpoint {} - {}", path, e.getMessage());
+        }
+    }
+
+    // Returns the pending events written; readState reads the same fields in the same order
+    private int writeState(DataOutputStream out) throws IOException {
+        out.writeLong(random.getState());
+        out.writeLong(clock.now());
+        out.writeLong(scheduler.getNextSequence());
+        out.writeLong(scheduler.getEventsProcessed());
+
+        // Stations: servers, then idle servers
+        SimulationCheckpoint.writeVarLong(out, scenario.pickers);
+        SimulationCheckpoint.writeVarLong(out, idlePickers);
+        SimulationCheckpoint.writeVarLong(out, packerCount);
+        SimulationCheckpoint.writeVarLong(out, idlePackers);
+        SimulationCheckpoint.writeVarLong(out, labellerCount);
+        SimulationCheckpoint.writeVarLong(out, idleLabellers);
+        SimulationCheckpoint.writeVarLong(out, sorterCount);
+        SimulationCheckpoint.writeVarLong(out, idleSorters);
+
+        SimulationCheckpoint.writeVarLong(out, ordersGenerated);
+        out.writeBoolean(intakeComplete);
+        out.writeBoolean(sorterFlushed);
+        out.writeBoolean(finished);
+        SimulationCheckpoint.writeVarLong(out, containersLoaded);
+        SimulationCheckpoint.writeVarLong(out, agvBreakdowns);
+        SimulationCheckpoint.writeVarLong(out, truckBreakdowns);
+        SimulationCheckpoint.writeVarLong(out, trucksFinished);
+
+        SimulationCheckpoint.writeVarLong(out, scenario.agvs);
+        for (int agv = 0; agv < scenario.agvs; agv++) {
+            out.writeBoolean(loaderBusy[agv]);
+            out.writeBoolean(agvBusy[agv]);
+            out.writeBoolean(agvOperational[agv]);
+            SimulationCheckpoint.writeVarLong(out, agvBreakdownTime[agv]);
+            SimulationCheckpoint.writeVarLong(out, agvIdleSince[agv]);
+            SimulationCheckpoint.writeVarLong(out, agvStateSince[agv]);
+            SimulationCheckpoint.writeVarLong(out, agvBusyMs[agv]);
+            SimulationCheckpoint.writeVarLong(out, agvBrokenMs[agv]);
+            SimulationCheckpoint.writeVarLong(out, agvLoads[agv]);
+            // A load paused by a breakdown; a running one is written with its AGV_LOADED event
+            out.writeBoolean(agvLoadRemaining[agv] >= 0);
+            if (agvLoadRemaining[agv] >= 0) {
+                SimulationCheckpoint.writeVarLong(out, agvLoadRemaining[agv]);
+                SimulationCheckpoint.writeVarLong(out, agvLoader[agv]);
+                SimulationCheckpoint.writeContainer(out, agvContainer[agv]);
+            }
+        }
+        SimulationCheckpoint.writeVarLong(out, agvReroutes);
+        SimulationCheckpoint.writeVarLong(out, scenario.trucks);
+        for (int truck = 0; truck < scenario.trucks; truck++) {
+            out.writeBoolean(truckOperational[truck]);
+            out.writeBoolean(truckResumePending[truck]);
+            SimulationCheckpoint.writeVarLong(out, truckFirstLoadAt[truck]);
+            writeContainers(out, truckCargo.get(truck));
+        }
+        SimulationCheckpoint.writeVarLong(out, trucksWaitingAtBay.size());
+        for (int truck : trucksWaitingAtBay) {
+            SimulationCheckpoint.writeVarLong(out, truck);
+        }
+
+        writeOrders(out, pickingQueue);
+        writeOrders(out, packingQueue);
+        writeBoxes(out, labellingQueue);
+        writeBoxes(out, sortingQueue);
+        writeContainers(out, loadingQueue);
+        writeContainers(out, loadingBayQueue);
+
+        SimulationCheckpoint.writeVarLong(out, containerIds.getAllocated());
+        SimulationCheckpoint.writeVarLong(out, zoneAssemblers.size());
+        for (ZoneAssembler assembler : zoneAssemblers.values()) {
+            out.writeUTF(assembler.getZone());
+            SimulationCheckpoint.writeVarLong(out, assembler.getBoxesAdded());
+            SimulationCheckpoint.writeVarLong(out, assembler.getBatchesCompleted());
+            SimulationCheckpoint.writeVarLong(out, assembler.getContainersAssembled());
+            writeOptionalContainer(out, assembler.getOpen());
+        }
+
+        // Permits: the checkpointed sizes, what is free (negative while a broken AGV is still
+        // held), the queued requests, the granted loaders waiting for an AGV (rerouted ones
+        // first) and the wait figures
+        SimulationCheckpoint.writeVarLong(out, scenario.loadingBays);
+        SimulationCheckpoint.writeVarLong(out, scenario.bayCapacity);
+        for (int i = 0; i < RESOURCES.length; i++) {
+            out.writeInt(resources.available[i]);
+        }
+        writeWaiters(out, resources.waiters);
+        writeWaiters(out, reroutedClaims);
+        writeWaiters(out, agvClaims);
+        for (int i = 0; i < RESOURCES.length; i++) {
+            SimulationCheckpoint.writeVarLong(out, resources.grants[i]);
+            SimulationCheckpoint.writeVarLong(out, resources.blockedMs[i]);
+            resources.waitTimes[i].writeTo(out);
+        }
+
+        // A granted waiter is written whole with its GRANTED event
+        List<SimEvent> pending = scheduler.pendingEvents();
+        SimulationCheckpoint.writeVarLong(out, pending.size());
+        for (SimEvent event : pending) {
+            Step step = (Step) event.getAction();
+            SimulationCheckpoint.writeVarLong(out, event.getTime() - clock.now());
+            SimulationCheckpoint.writeVarLong(out, event.getSequence());
+            out.writeByte(step.kind.ordinal());
+            SimulationCheckpoint.writeVarLong(out, step.unit);
+            SimulationCheckpoint.writeVarLong(out, step.value);
+            switch (step.kind) {
+                case ORDER_VERIFIED:
+                case PICKED:
+                case PACKED:
+                    SimulationCheckpoint.writeOrder(out, (Order) step.item);
+                    break;
+                case LABELLED:
+                case SORTED:
+                    SimulationCheckpoint.writeBox(out, (Box) step.item);
+                    break;
+                case AGV_LOADED:
+                case TRUCK_LOADED:
+                    SimulationCheckpoint.writeContainer(out, (Container) step.item);
+                    break;
+                case GRANTED:
+                    writeWaiter(out, (Waiter) step.item);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        statistics.writeTo(out);
+        return pending.size();
+    }
+
+    private void readState(DataInputStream in) throws IOException {
+        random.setState(in.readLong());
+        long now = in.readLong();
+        scheduler.restore(now, in.readLong(), in.readLong());
+
+        // Stations added or removed by the resumed scenario start idle or retire as they finish
+        int pickers = SimulationCheckpoint.readVarInt(in);
+        idlePickers = SimulationCheckpoint.readVarInt(in) + scenario.pickers - pickers;
+        int packers = SimulationCheckpoint.readVarInt(in);
+        idlePackers = SimulationCheckpoint.readVarInt(in) + packerCount - packers;
+        int labellers = SimulationCheckpoint.readVarInt(in);
+        idleLabellers = SimulationCheckpoint.readVarInt(in) + labellerCount - labellers;
+        int sorters = SimulationCheckpoint.readVarInt(in);
+        idleSorters = SimulationCheckpoint.readVarInt(in) + sorterCount - sorters;
+        stationsAdded = scenario.pickers > pickers || packerCount > packers
+                || labellerCount > labellers || sorterCount > sorters;
+
+        ordersGenerated = SimulationCheckpoint.readVarInt(in);
+        intakeComplete = in.readBoolean();
+        sorterFlushed = in.readBoolean();
+        finished = in.readBoolean();
+        containersLoaded = SimulationCheckpoint.readVarInt(in);
+        agvBreakdowns = SimulationCheckpoint.readVarInt(in);
+        truckBreakdowns = SimulationCheckpoint.readVarInt(in);
+        trucksFinished = SimulationCheckpoint.readVarInt(in);
+
+        int agvs = SimulationCheckpoint.readVarInt(in);
+        if (agvs > scenario.agvs) {
+            throw new IllegalArgumentException("the checkpoint has " + agvs + " AGVs; a resumed run can add AGVs, not remove them");
+        }
+        for (int agv = 0; agv < agvs; agv++) {
+            loaderBusy[agv] = in.readBoolean();
+            agvBusy[agv] = in.readBoolean();
+            agvOperational[agv] = in.readBoolean();
+            agvBreakdownTime[agv] = SimulationCheckpoint.readVarLong(in);
+            agvIdleSince[agv] = SimulationCheckpoint.readVarLong(in);
+            agvStateSince[agv] = SimulationCheckpoint.readVarLong(in);
+            agvBusyMs[agv] = SimulationCheckpoint.readVarLong(in);
+            agvBrokenMs[agv] = SimulationCheckpoint.readVarLong(in);
+            agvLoads[agv] = SimulationCheckpoint.readVarInt(in);
+            if (in.readBoolean()) {
+                agvLoadRemaining[agv] = SimulationCheckpoint.readVarLong(in);
+                agvLoader[agv] = SimulationCheckpoint.readVarInt(in);
+                agvContainer[agv] = SimulationCheckpoint.readContainer(in);
+            }
+        }
+        agvReroutes = SimulationCheckpoint.readVarInt(in);
+        // AGVs the resumed scenario adds count as idle from now
+        for (int agv = agvs; agv < scenario.agvs; agv++) {
+            agvIdleSince[agv] = now;
+            agvStateSince[agv] = now;
+        }
+        int trucks = SimulationCheckpoint.readVarInt(in);
+        if (trucks > scenario.trucks) {
+            throw new IllegalArgumentException("the checkpoint has " + trucks + " trucks; a resumed run can add trucks, not remove them");
+        }
+        for (int truck = 0; truck < trucks; truck++) {
+            truckOperational[truck] = in.readBoolean();
+            truckResumePending[truck] = in.readBoolean();
+            truckFirstLoadAt[truck] = SimulationCheckpoint.readVarLong(in);
+            readContainers(in, truckCargo.get(truck));
+        }
+        for (int i = SimulationCheckpoint.readVarInt(in); i > 0; i--) {
+            trucksWaitingAtBay.add(SimulationCheckpoint.readVarInt(in));
+        }
+
+        readOrders(in, pickingQueue);
+        readOrders(in, packingQueue);
+        readBoxes(in, labellingQueue);
+        readBoxes(in, sortingQueue);
+        readContainers(in, loadingQueue);
+        readContainers(in, loadingBayQueue);
+
+        containerIds = new ContainerIdAllocator(SimulationCheckpoint.readVarInt(in) + 1);
+        for (int i = SimulationCheckpoint.readVarInt(in); i > 0; i--) {
+            ZoneAssembler assembler = assemblerFor(in.readUTF());
+            int boxesAdded = SimulationCheckpoint.readVarInt(in);
+            int batchesCompleted = SimulationCheckpoint.readVarInt(in);
+            int containersAssembled = SimulationCheckpoint.readVarInt(in);
+            assembler.restore(readOptionalContainer(in), boxesAdded, batchesCompleted, containersAssembled);
+        }
+
+        int bays = SimulationCheckpoint.readVarInt(in);
+        int bayCapacity = SimulationCheckpoint.readVarInt(in);
+        for (int i = 0; i < RESOURCES.length; i++) {
+            resources.available[i] = in.readInt();
+        }
+        readWaiters(in, resources.waiters);
+        readWaiters(in, reroutedClaims);
+        readWaiters(in, agvClaims);
+        for (int i = 0; i < RESOURCES.length; i++) {
+            resources.grants[i] = SimulationCheckpoint.readVarLong(in);
+            resources.blockedMs[i] = SimulationCheckpoint.readVarLong(in);
+            resources.waitTimes[i].readFrom(in);
+        }
+
+        for (long i = SimulationCheckpoint.readVarLong(in); i > 0; i--) {
+            long time = now + SimulationCheckpoint.readVarLong(in);
+            long sequence = SimulationCheckpoint.readVarLong(in);
+            int kindIndex = in.readUnsignedByte();
+            if (kindIndex >= KINDS.length) {
+                throw new IOException("Unknown event kind " + kindIndex);
+            }
+            Kind kind = KINDS[kindIndex];
+            int unit = SimulationCheckpoint.readVarInt(in);
+            long value = SimulationCheckpoint.readVarLong(in);
+            Object item = null;
+            switch (kind) {
+                case ORDER_VERIFIED:
+                case PICKED:
+                case PACKED:
+                    item = SimulationCheckpoint.readOrder(in);
+                    break;
+                case LABELLED:
+                case SORTED:
+                    item = SimulationCheckpoint.readBox(in);
+                    break;
+                case AGV_LOADED:
+                case TRUCK_LOADED:
+                    item = SimulationCheckpoint.readContainer(in);
+                    break;
+                case GRANTED:
+                    item = readWaiter(in);
+                    break;
+                default:
+                    break;
+            }
+            SimEvent event = scheduler.restoreEvent(time, sequence, new Step(kind, unit, value, item));
+            if (kind == Kind.TRUCK_RECHECK) {
+                truckRecheck[unit] = event;
+            } else if (kind == Kind.AGV_LOADED) {
+                agvLoad[unit] = event;
+                agvLoader[unit] = (int) value;
+                agvContainer[unit] = (Container) item;
+            }
+        }
+
+        statistics.readFrom(in);
+
+        // Units the resumed scenario adds join now: trucks start their cycle, new AGVs, bays and
+        // bay slots go to whoever is queued for one (their loaders start in run()), and removed
+        // bays and slots are paid back as they are released
+        for (int truck = trucks; truck < scenario.trucks; truck++) {
+            schedule(0, Kind.TRUCK_CYCLE, truck, 0, null);
+        }
+        stationsAdded |= scenario.agvs > agvs;
+        if (scenario.agvs != agvs || scenario.loadingBays != bays || scenario.bayCapacity != bayCapacity) {
+            resources.release(scenario.agvs - agvs, scenario.loadingBays - bays, scenario.bayCapacity - bayCapacity);
+        }
+    }
+
+    private static void writeOrders(DataOutputStream out, Collection<Order> orders) throws IOException {
+        SimulationCheckpoint.writeVarLong(out, orders.size());
+        for (Order order : orders) {
+            SimulationCheckpoint.writeOrder(out, order);
+        }
+    }
+
+    private static void readOrders(DataInputStream in, Collection<Order> orders) throws IOException {
+        for (int i = SimulationCheckpoint.readVarInt(in); i > 0; i--) {
+            orders.add(SimulationCheckpoint.readOrder(in));
+        }
+    }
+
+    private static void writeBoxes(DataOutputStream out, Collection<Box> boxes) throws IOException {
+        SimulationCheckpoint.writeVarLong(out, boxes.size());
+        for (Box box : boxes) {
+            SimulationCheckpoint.writeBox(out, box);
+        }
+    }
+
+    private static void readBoxes(DataInputStream in, Collection<Box> boxes) throws IOException {
+        for (int i = SimulationCheckpoint.readVarInt(in); i > 0; i--) {
+            boxes.add(SimulationCheckpoint.readBox(in));
+        }
+    }
+
+    private static void writeContainers(DataOutputStream out, Collection<Container> containers) throws IOException {
+        SimulationCheckpoint.writeVarLong(out, containers.size());
+        for (Container container : containers) {
+            SimulationCheckpoint.writeContainer(out, container);
+        }
+    }
+
+    private static void readContainers(DataInputStream in, Collection<Container> containers) throws IOException {
+        for (int i = SimulationCheckpoint.readVarInt(in); i > 0; i--) {
+            containers.add(SimulationCheckpoint.readContainer(in));
+        }
+    }
+
+    private static void writeOptionalContainer(DataOutputStream out, Container container) throws IOException {
+        out.writeBoolean(container != null);
+        if (container != null) {
+            SimulationCheckpoint.writeContainer(out, container);
+        }
+    }
+
+    private static Container readOptionalContainer(DataInputStream in) throws IOException {
+        return in.readBoolean() ? SimulationCheckpoint.readContainer(in) : null;
+    }
+
+    private void writeWaiters(DataOutputStream out, Collection<Waiter> waiters) throws IOException {
+        SimulationCheckpoint.writeVarLong(out, waiters.size());
+        for (Waiter waiter : waiters) {
+            writeWaiter(out, waiter);
+        }
+    }
+
+    private void readWaiters(DataInputStream in, Collection<Waiter> waiters) throws IOException {
+        for (int i = SimulationCheckpoint.readVarInt(in); i > 0; i--) {
+            waiters.add(readWaiter(in));
+        }
+    }
+
+    // Times relative to now; the blocked time so far and what was short at the last check
+    private void writeWaiter(DataOutputStream out, Waiter waiter) throws IOException {
+        out.writeBoolean(waiter.truck);
+        SimulationCheckpoint.writeVarLong(out, waiter.unit);
+        SimulationCheckpoint.writeVarLong(out, clock.now() - waiter.since);
+        SimulationCheckpoint.writeVarLong(out, clock.now() - waiter.lastCheck);
+        int shortOf = 0;
+        for (int i = 0; i < RESOURCES.length; i++) {
+            SimulationCheckpoint.writeVarLong(out, waiter.blocked[i]);
+            shortOf |= waiter.shortOf[i] ? 1 << i : 0;
+        }
+        out.writeByte(shortOf);
+        writeOptionalContainer(out, waiter.container);
+    }
+
+    private Waiter readWaiter(DataInputStream in) throws IOException {
+        boolean truck = in.readBoolean();
+        int unit = SimulationCheckpoint.readVarInt(in);
+        long since = clock.now() - SimulationCheckpoint.readVarLong(in);
+        long lastCheck = clock.now() - SimulationCheckpoint.readVarLong(in);
+        long[] blocked = new long[RESOURCES.length];
+        for (int i = 0; i < RESOURCES.length; i++) {
+            blocked[i] = SimulationCheckpoint.readVarLong(in);
+        }
+        int shortOf = in.readUnsignedByte();
+        Waiter waiter = new Waiter(truck, unit, readOptionalContainer(in), since);
+        waiter.lastCheck = lastCheck;
+        for (int i = 0; i < RESOURCES.length; i++) {
+            waiter.blocked[i] = blocked[i];
+            waiter.shortOf[i] = (shortOf & 1 << i) != 0;
+        }
+        return waiter;
+    }
+
+    public long getSimulatedTimeMs() { return clock.now(); }
+    public long getEventsProcessed() { return scheduler.getEventsProcessed(); }
+    public int getOrdersGenerated() { return ordersGenerated; }
+    public int getContainersLoaded() { return containersLoaded; }
+    public int getAGVBreakdowns() { return agvBreakdowns; }
+    public int getTruckBreakdowns() { return truckBreakdowns; }
+    // Grants and blocked time per resource, as ResourceAllocator.getSummary reports them for a threaded run
+    public String getResourceSummary() { return resources.getSummary(); }
+
+    // Per-AGV utilization over simulated time, in the format of AGVDispatcher.getSummary
+    public String getAgvSummary() {
+        double elapsed = Math.max(1, clock.now());
+        StringBuilder summary = new StringBuilder(agvDispatchPolicy.toString());
+        for (int agv = 0; agv < agvBusy.length; agv++) {
+            accountAGV(agv);
+            summary.append(agv == 0 ? ": " : ", ")
+                   .append(String.format("AGV-%d %.1f%% busy %.1f%% broken %d loads", agv + 1,
+                           agvBusyMs[agv] * 100.0 / elapsed, agvBrokenMs[agv] * 100.0 / elapsed, agvLoads[agv]));
+        }
+        return summary.append(", ").append(agvReroutes).append(" rerouted").toString();
+    }
+    // run() returned at a checkpoint (setCheckpoints with stop) rather than at the end
+    public boolean isStopped() { return stopped; }
+
+    /**
+     * AGV, loading-bay and bay-capacity permits granted together, all or nothing, by the rules
+     * of ResourceAllocator: waiters in arrival order, but a later request may go first if it
+     * takes nothing an earlier waiter is short of. Grants fire as GRANTED events, and the time
+     * requests spend blocked on each resource is counted in simulated ms.
+     */
+    private final class SimAllocator {
+        final int[] available = new int[RESOURCES.length];
+        final Deque<Waiter> waiters = new ArrayDeque<>();
+        final long[] grants = new long[RESOURCES.length];
+        final long[] blockedMs = new long[RESOURCES.length];
+        final LatencyHistogram[] waitTimes = new LatencyHistogram[RESOURCES.length];
+
+        SimAllocator(int agvs, int bays, int bayCapacity) {
+            available[ResourceAllocator.Resource.AGV.ordinal()] = agvs;
+            available[ResourceAllocator.Resource.LOADING_BAY.ordinal()] = bays;
+            available[ResourceAllocator.Resource.BAY_CAPACITY.ordinal()] = bayCapacity;
+            for (int i = 0; i < RESOURCES.length; i++) {
+                waitTimes[i] = new LatencyHistogram();
+            }
+        }
+
+        void acquire(Waiter waiter) {
+            waiter.lastCheck = clock.now();
+            waiters.add(waiter);
+            grantWaiters();
+        }
+
+        void release(int agvs, int bays, int bayCapacity) {
+            available[ResourceAllocator.Resource.AGV.ordinal()] += agvs;
+            available[ResourceAllocator.Resource.LOADING_BAY.ordinal()] += bays;
+            available[ResourceAllocator.Resource.BAY_CAPACITY.ordinal()] += bayCapacity;
+            grantWaiters();
+        }
+
+        // A broken-down AGV; if every permit is held, the next release only pays it back
+        void withdraw(ResourceAllocator.Resource resource) {
+            available[resource.ordinal()]--;
+        }
+
+        // In arrival order; a request that cannot be granted reserves what it is short of
+        void grantWaiters() {
+            boolean[] reserved = new boolean[RESOURCES.length];
+            Iterator<Waiter> it = waiters.iterator();
+            while (it.hasNext()) {
+                Waiter waiter = it.next();
+                waiter.chargeBlockedTime(clock.now());
+                if (!waiter.conflicts(reserved) && waiter.fits(available)) {
+                    it.remove();
+                    grant(waiter);
+                    schedule(0, Kind.GRANTED, waiter.unit, 0, waiter);
+                } else {
+                    waiter.reserveShortfall(available, reserved);
+                }
+            }
+        }
+
+        private void grant(Waiter waiter) {
+            for (int i = 0; i < RESOURCES.length; i++) {
+                if (waiter.needs(i) > 0) {
+                    available[i] -= waiter.needs(i);
+                    grants[i]++;
+                    blockedMs[i] += waiter.blocked[i];
+                    waitTimes[i].record(waiter.blocked[i]);
+                }
+            }
+        }
+
+        // Same layout as ResourceAllocator.getSummary, in simulated ms
+        String getSummary() {
+            StringBuilder summary = new StringBuilder();
+            for (ResourceAllocator.Resource resource : RESOURCES) {
+                int i = resource.ordinal();
+                summary.append(summary.length() > 0 ? ", " : "")
+                       .append(String.format("%s %d grants, blocked %d ms (p99 %d ms)", resource.getKey(),
+                               grants[i], blockedMs[i], waitTimes[i].snapshot().getValueAtPercentile(99)));
+            }
+            return summary.toString();
+        }
+    }
+
+    /**
+     * A loader with its container (one AGV, one bay, one slot at the bay), or a truck (one bay),
+     * waiting for its permits since a time
+     */
+    private static final class Waiter {
+        final boolean truck;
+        final int unit;
+        final Container container;
+        final long since;
+        // Time spent short of each resource, and what was short at the last check
+        final long[] blocked = new long[RESOURCES.length];
+        final boolean[] shortOf = new boolean[RESOURCES.length];
+        long lastCheck;
+
+        Waiter(boolean truck, int unit, Container container, long since) {
+            this.truck = truck;
+            this.unit = unit;
+            this.container = container;
+            this.since = since;
+            this.lastCheck = since;
+        }
+
+        int needs(int resource) {
+            return truck && resource != ResourceAllocator.Resource.LOADING_BAY.ordinal() ? 0 : 1;
+        }
+
+        boolean fits(int[] available) {
+            for (int i = 0; i < RESOURCES.length; i++) {
+                if (needs(i) > available[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean conflicts(boolean[] reserved) {
+            for (int i = 0; i < RESOURCES.length; i++) {
+                if (needs(i) > 0 && reserved[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void reserveShortfall(int[] available, boolean[] reserved) {
+            for (int i = 0; i < RESOURCES.length; i++) {
+                shortOf[i] = needs(i) > available[i];
+                if (shortOf[i]) {
+                    reserved[i] = true;
+                }
+            }
+        }
+
+        void chargeBlockedTime(long now) {
+            for (int i = 0; i < RESOURCES.length; i++) {
+                if (shortOf[i]) {
+                    blocked[i] += now - lastCheck;
+                }
+            }
+            lastCheck = now;
+        }
+    }
+}
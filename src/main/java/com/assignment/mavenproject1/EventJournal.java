@@ -0,0 +1,302 @@
+package com.assignment.mavenproject1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only binary journal of one run's pipeline events (see JournalEvent), for offline
+ * analysis of a run instead of its console text.
+ *
+ * Each thread writes through its own Writer into a chunk of the file it alone owns (256 KB,
+ * mapped and faulted in ahead of time by a pretoucher thread), and an event is then four plain
+ * stores into mapped memory - no lock, no system call, no allocation. Claiming the next chunk
+ * is a poll of a lock-free queue. The kernel writes the pages back. Slots a thread never
+ * reached stay zero and readers skip them.
+ *
+ * File format (little-endian): a 64-byte header, then chunks of CHUNK_RECORDS records.
+ *   header: "SWEJ", version (2), record size (2), records per chunk (4), clock (1: 0 wall,
+ *           1 simulated), start epoch ms (8), then written by close(): chunks claimed (8),
+ *           records written (8, -1 while open), records dropped (8); then the run's pickers,
+ *           packers, labellers, sorters, AGVs, trucks, loading bays and bay capacity (2 each)
+ *   record: time ms since the start (8), event code (1), stage (1), AGV or truck number (2),
+ *           thread id (4), order id (4), container id (4), wait ms (4), service ms (4)
+ * The stage is the one the event closes, or the rejecting stage; wait and service are that
+ * stage's trace (-1 where it was not traced). Container events carry their first box's order.
+ */
+public final class EventJournal {
+
+    public enum Clock { WALL, SIMULATED }
+
+    public static final int HEADER_BYTES = 64;
+    public static final int RECORD_BYTES = 32;
+    public static final int CHUNK_RECORDS = 8192;
+    public static final int CHUNK_BYTES = CHUNK_RECORDS * RECORD_BYTES;
+    public static final int VERSION = 1;
+    static final byte[] MAGIC = {'S', 'W', 'E', 'J'};
+    // Chunks the pretoucher keeps mapped and faulted in ahead of the writers
+    private static final int READY_CHUNKS = 2;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // No file; every call returns at once
+    public static final EventJournal DISABLED = new EventJournal(null, null, Clock.WALL, null);
+
+    private final String path;
+    private final FileChannel channel;
+    private final Clock clock;
+    // Servers per stage and bay limits, for the analyzer (see BottleneckAnalyzer)
+    private final Scenario scenario;
+    private final long startMs;
+    // Wall clock times are journalled relative to the start, simulated times as they are
+    private final long origin;
+    private final AtomicLong chunksClaimed = new AtomicLong();
+    private final List<Writer> writers = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Writer> localWriter = ThreadLocal.withInitial(() -> {
+        Writer writer = new Writer(Thread.currentThread());
+        writers.add(writer);
+        return writer;
+    });
+    private final Queue<MappedByteBuffer> pretouched = new ConcurrentLinkedQueue<>();
+    private final Pretoucher pretoucher;
+    private volatile boolean closed = false;
+
+    private EventJournal(String path, FileChannel channel, Clock clock, Scenario scenario) {
+        this.path = path;
+        this.channel = channel;
+        this.clock = clock;
+        this.scenario = scenario;
+        this.startMs = System.currentTimeMillis();
+        this.origin = clock == Clock.WALL ? startMs : 0;
+        this.pretoucher = channel != null ? new Pretoucher("EventJournal-" + path) : null;
+    }
+
+    /**
+     * Create (or truncate) the journal file; WALL for threaded runs, SIMULATED for discrete-event runs
+     */
+    public static EventJournal open(String path, Clock clock, Scenario scenario) {
+        try {
+            FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            EventJournal journal = new EventJournal(path, channel, clock, scenario);
+            journal.writeHeader(0, -1, 0);
+            journal.pretoucher.start();
+            return journal;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot open event journal " + path + ": " + e.getMessage());
+        }
+    }
+
+    // A stage has finished with an order: accepted, picked, packed, labelled or sorted
+    public void order(JournalEvent event, Order order, long timeMs) {
+        if (channel == null) {
+            return;
+        }
+        PipelineStage stage = event.getStage();
+        localWriter.get().append(event, stage, 0, order.getOrderId(), 0, timeMs,
+                                 order.getWaitTime(stage), order.getServiceTime(stage));
+    }
+
+    public void rejected(Order order, PipelineStage stage, long timeMs) {
+        if (channel == null) {
+            return;
+        }
+        localWriter.get().append(JournalEvent.ORDER_REJECTED, stage, 0, order.getOrderId(), 0, timeMs,
+                                 order.getWaitTime(stage), order.getServiceTime(stage));
+    }
+
+    // A container was sealed, loaded by AGV `unit` or left on truck `unit` (0 for sealing)
+    public void container(JournalEvent event, Container container, int unit, long timeMs) {
+        if (channel == null) {
+            return;
+        }
+        PipelineStage stage = event.getStage();
+        Order first = container.getBoxCount() > 0 ? container.getBox(0).getOrder() : null;
+        localWriter.get().append(event, stage, unit, first != null ? first.getOrderId() : 0,
+                                 container.getContainerId(), timeMs,
+                                 first != null ? first.getWaitTime(stage) : -1,
+                                 first != null ? first.getServiceTime(stage) : -1);
+    }
+
+    // An AGV or truck (numbered from 1) broke down or was repaired
+    public void unit(JournalEvent event, int unit, long timeMs) {
+        if (channel == null) {
+            return;
+        }
+        localWriter.get().append(event, null, unit, 0, 0, timeMs, -1, -1);
+    }
+
+    /**
+     * Record the totals in the header and close the file; call once every stage has stopped.
+     * Events after this are dropped.
+     */
+    public void close() {
+        if (channel == null || closed) {
+            return;
+        }
+        closed = true;
+        pretoucher.wake();
+        try {
+            pretoucher.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long written = 0;
+        long dropped = 0;
+        for (Writer writer : writers) {
+            written += writer.written;
+            dropped += writer.dropped;
+        }
+        try {
+            writeHeader(chunksClaimed.get(), written, dropped);
+            channel.close();
+            Log.info("EventJournal: {} events from {} threads to {} ({} KB){}", written, writers.size(), path,
+                     (HEADER_BYTES + chunksClaimed.get() * CHUNK_BYTES) / 1024,
+                     dropped > 0 ? ", " + dropped + " dropped" : "");
+        } catch (IOException e) {
+            Log.warn("EventJournal: Could not finish {} - {}", path, e.getMessage());
+        }
+    }
+
+    private void writeHeader(long chunks, long written, long dropped) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC)
+              .putShort((short) VERSION)
+              .putShort((short) RECORD_BYTES)
+              .putInt(CHUNK_RECORDS)
+              .put((byte) clock.ordinal())
+              .putLong(startMs)
+              .putLong(chunks)
+              .putLong(written)
+              .putLong(dropped)
+              .putShort((short) scenario.pickers)
+              .putShort((short) scenario.packers)
+              .putShort((short) scenario.labellers)
+              .putShort((short) scenario.sorters)
+              .putShort((short) scenario.agvs)
+              .putShort((short) scenario.trucks)
+              .putShort((short) scenario.loadingBays)
+              .putShort((short) scenario.bayCapacity);
+        header.clear();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+    public boolean isEnabled() { return channel != null; }
+    public String getPath() { return path; }
+    public Clock getClock() { return clock; }
+
+    @Override
+    public String toString() {
+        return channel == null ? "off" : path + " (" + clock.name().toLowerCase() + " clock)";
+    }
+
+    // Next chunk of the file, mapped; IOException when the file cannot grow or is closed
+    private MappedByteBuffer mapChunk() throws IOException {
+        long index = chunksClaimed.getAndIncrement();
+        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + index * CHUNK_BYTES, CHUNK_BYTES);
+        chunk.order(ByteOrder.LITTLE_ENDIAN);
+        return chunk;
+    }
+
+    /**
+     * One thread's chunk of the file. Only the owning thread writes; the totals are read by close()
+     */
+    private final class Writer {
+        // Bytes 8-15 of every record this thread writes, before the event, stage and unit are or-ed in
+        private final long threadBits;
+        private MappedByteBuffer chunk;
+        private int position = CHUNK_BYTES;
+        private boolean failed = false;
+        private long written = 0;
+        private long dropped = 0;
+
+        Writer(Thread thread) {
+            this.threadBits = thread.getId() << 32;
+        }
+
+        // The record as four long stores (little-endian, so the byte layout above)
+        void append(JournalEvent event, PipelineStage stage, int unit, int orderId, int containerId,
+                    long timeMs, long waitMs, long serviceMs) {
+            if (position == CHUNK_BYTES && !claimChunk()) {
+                dropped++;
+                return;
+            }
+            MappedByteBuffer out = chunk;
+            int at = position;
+            out.putLong(at, timeMs - origin);
+            out.putLong(at + 8, threadBits | (unit & 0xFFFFL) << 16
+                    | (stage != null ? stage.ordinal() : 0xFF) << 8 | event.getCode());
+            out.putLong(at + 16, (long) containerId << 32 | (orderId & 0xFFFFFFFFL));
+            out.putLong(at + 24, serviceMs << 32 | (waitMs & 0xFFFFFFFFL));
+            position = at + RECORD_BYTES;
+            written++;
+        }
+
+        private boolean claimChunk() {
+            if (failed || closed) {
+                return false;
+            }
+            MappedByteBuffer next = pretouched.poll();
+            pretoucher.wake();
+            try {
+                chunk = next != null ? next : mapChunk();
+                position = 0;
+                return true;
+            } catch (IOException e) {
+                // Disk full or the file closed under us - this thread stops journalling
+                failed = true;
+                Log.warn("EventJournal: Cannot extend {} - {}", path, e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Maps chunks ahead of the writers and writes a zero to every page of them, so the page
+     * faults of a fresh chunk are taken here rather than on a stage thread. A writer that finds
+     * none ready maps its own.
+     */
+    private final class Pretoucher extends Thread {
+        private static final int PAGE_BYTES = 4096;
+
+        Pretoucher(String name) {
+            super(name);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    if (pretouched.size() >= READY_CHUNKS) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                        continue;
+                    }
+                    MappedByteBuffer chunk = mapChunk();
+                    for (int at = 0; at < CHUNK_BYTES; at += PAGE_BYTES) {
+                        chunk.put(at, (byte) 0);
+                    }
+                    pretouched.offer(chunk);
+                }
+            } catch (IOException e) {
+                // Closed under us, or the file cannot grow - the writers map their own
+            }
+        }
+
+        void wake() {
+            LockSupport.unpark(this);
+        }
+    }
+}
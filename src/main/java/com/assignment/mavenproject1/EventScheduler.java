@@ -0,0 +1,90 @@
+package com.assignment.mavenproject1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Priority-queue event scheduler driving a SimClock
+ */
+public class EventScheduler {
+    private final SimClock clock;
+    private final PriorityQueue<SimEvent> events = new PriorityQueue<>();
+    private long nextSequence = 0;
+    private long eventsProcessed = 0;
+    
+    public EventScheduler(SimClock clock) {
+        this.clock = clock;
+    }
+    
+    public SimEvent schedule(long delayMs, Runnable action) {
+        if (delayMs < 0) {
+            throw new IllegalArgumentException("Negative delay: " + delayMs);
+        }
+        return scheduleAt(clock.now() + delayMs, action);
+    }
+    
+    public SimEvent scheduleAt(long time, Runnable action) {
+        SimEvent event = new SimEvent(time, nextSequence++, action);
+        events.add(event);
+        return event;
+    }
+    
+    // Run events in time order until none are left
+    public void run() {
+        runUntil(Long.MAX_VALUE);
+    }
+    
+    /**
+     * Run the events due at or before the given time; true if later ones are still pending.
+     * Stopping here and calling again fires exactly the events one run() would.
+     */
+    public boolean runUntil(long time) {
+        SimEvent event;
+        while ((event = events.peek()) != null && event.getTime() <= time) {
+            events.poll();
+            if (event.isCancelled()) {
+                continue;
+            }
+            clock.advanceTo(event.getTime());
+            event.fire();
+            eventsProcessed++;
+        }
+        return !events.isEmpty();
+    }
+    
+    // Events still to fire, in firing order (for a checkpoint)
+    public List<SimEvent> pendingEvents() {
+        List<SimEvent> pending = new ArrayList<>(events.size());
+        for (SimEvent event : events) {
+            if (!event.isCancelled()) {
+                pending.add(event);
+            }
+        }
+        Collections.sort(pending);
+        return pending;
+    }
+    
+    /**
+     * Put a checkpointed scheduler back: its clock, counters and pending events with their
+     * original sequence numbers, so ties still fire in the same order. Call on a fresh scheduler.
+     */
+    public void restore(long now, long nextSequence, long eventsProcessed) {
+        clock.advanceTo(now);
+        this.nextSequence = nextSequence;
+        this.eventsProcessed = eventsProcessed;
+    }
+    
+    public SimEvent restoreEvent(long time, long sequence, Runnable action) {
+        SimEvent event = new SimEvent(time, sequence, action);
+        events.add(event);
+        return event;
+    }
+    
+    public long getNextSequence() { return nextSequence; }
+
+    public SimClock getClock() { return clock; }
+    public long getEventsProcessed() { return eventsProcessed; }
+    public int getPendingEvents() { return events.size(); }
+}
@@ -0,0 +1,186 @@
+package com.assignment.mavenproject1;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the same scaled-out picking workload on platform threads and on virtual threads
+ * and reports throughput, peak live threads and memory for each.
+ *
+ * Usage: ExecutionModeComparison [workers=5000] [orders=50000]
+ */
+public class ExecutionModeComparison {
+
+    public static void main(String[] args) throws InterruptedException {
+        int workers = 5000;
+        int orders = 50_000;
+        for (String arg : args) {
+            if (arg.startsWith("workers=")) {
+                workers = Integer.parseInt(arg.substring("workers=".length()));
+            } else if (arg.startsWith("orders=")) {
+                orders = Integer.parseInt(arg.substring("orders=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        System.out.println("ExecutionModeComparison: " + workers + " pickers, " + orders + " orders, Java " +
+                          System.getProperty("java.version"));
+
+        Result platform = run(ExecutionMode.PLATFORM, workers, orders);
+        Result virtual = null;
+        if (ExecutionMode.isVirtualSupported()) {
+            virtual = run(ExecutionMode.VIRTUAL, workers, orders);
+        } else {
+            System.out.println("ExecutionModeComparison: Virtual threads need Java 21+ - VIRTUAL run skipped");
+        }
+
+        System.out.println("\n" + StringUtils.repeat("=", 86));
+        System.out.println(String.format("%-10s %8s %8s %10s %14s %12s %14s %14s",
+                "Mode", "Workers", "Orders", "Wall ms", "Orders/sec", "Peak thr", "Heap MB", "Peak RSS MB"));
+        System.out.println(StringUtils.repeat("-", 86));
+        System.out.println(platform);
+        if (virtual != null) {
+            System.out.println(virtual);
+        }
+        System.out.println(StringUtils.repeat("=", 86));
+    }
+
+    private static Result run(ExecutionMode mode, int workers, int orders) throws InterruptedException {
+        BlockingQueue<Order> queue = new LinkedBlockingQueue<>();
+        for (int i = 1; i <= orders; i++) {
+            queue.add(new Order(i));
+        }
+
+        System.gc();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        threadBean.resetPeakThreadCount();
+        MemorySampler sampler = new MemorySampler();
+        sampler.start();
+
+        AtomicInteger processed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(workers);
+        int started = 0;
+        long start = System.nanoTime();
+
+        try {
+            for (int i = 1; i <= workers; i++) {
+                mode.newThread(Constants.PICKER_THREAD + i, () -> {
+                    try {
+                        while (queue.poll() != null) {
+                            // Same picking time model as PickingStationThread
+                            Thread.sleep(Constants.PROCESSING_TIME_MIN + ThreadLocalRandom.current()
+                                    .nextInt(Constants.PROCESSING_TIME_MAX - Constants.PROCESSING_TIME_MIN));
+                            processed.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+                started++;
+            }
+        } catch (OutOfMemoryError e) {
+            System.out.println("ExecutionModeComparison: " + mode + " could only start " + started +
+                              " threads (" + e.getMessage() + ")");
+            for (int i = started; i < workers; i++) {
+                done.countDown();
+            }
+        }
+
+        done.await();
+        long wallMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        sampler.stopSampling();
+
+        Result result = new Result(mode, started, processed.get(), wallMs,
+                threadBean.getPeakThreadCount(), sampler.peakHeapBytes, sampler.peakRssBytes);
+        System.out.println("ExecutionModeComparison: " + mode + " done in " + wallMs + " ms");
+        return result;
+    }
+
+    private static final class Result {
+        final ExecutionMode mode;
+        final int workers;
+        final int orders;
+        final long wallMs;
+        final int peakThreads;
+        final long peakHeapBytes;
+        final long peakRssBytes;
+
+        Result(ExecutionMode mode, int workers, int orders, long wallMs, int peakThreads,
+               long peakHeapBytes, long peakRssBytes) {
+            this.mode = mode;
+            this.workers = workers;
+            this.orders = orders;
+            this.wallMs = wallMs;
+            this.peakThreads = peakThreads;
+            this.peakHeapBytes = peakHeapBytes;
+            this.peakRssBytes = peakRssBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %8d %8d %10d %14.1f %12d %14.1f %14s",
+                    mode, workers, orders, wallMs, orders * 1000.0 / wallMs, peakThreads,
+                    peakHeapBytes / (1024.0 * 1024.0),
+                    peakRssBytes > 0 ? String.format("%.1f", peakRssBytes / (1024.0 * 1024.0)) : "n/a");
+        }
+    }
+
+    /**
+     * Samples heap usage and (on Linux) process RSS every 20 ms; platform thread stacks
+     * live outside the heap, so RSS is the number that shows their cost.
+     */
+    private static final class MemorySampler extends Thread {
+        private volatile boolean sampling = true;
+        volatile long peakHeapBytes = 0;
+        volatile long peakRssBytes = 0;
+
+        MemorySampler() {
+            super("MemorySampler");
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            Runtime runtime = Runtime.getRuntime();
+            while (sampling) {
+                peakHeapBytes = Math.max(peakHeapBytes, runtime.totalMemory() - runtime.freeMemory());
+                peakRssBytes = Math.max(peakRssBytes, readRssBytes());
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        void stopSampling() throws InterruptedException {
+            sampling = false;
+            join();
+        }
+
+        private static long readRssBytes() {
+            try (BufferedReader reader = new BufferedReader(new FileReader("/proc/self/status"))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                // Not Linux - RSS unavailable
+            }
+            return 0;
+        }
+    }
+}
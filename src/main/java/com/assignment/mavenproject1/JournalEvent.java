@@ -0,0 +1,47 @@
+package com.assignment.mavenproject1;
+
+/**
+ * What an EventJournal record describes. The code is the record's type byte; 0 marks an
+ * unwritten slot. Stage events carry the wait and service time of their pipeline stage.
+ */
+public enum JournalEvent {
+    ORDER_ACCEPTED(1, PipelineStage.INTAKE),
+    ORDER_REJECTED(2, null),        // the stage that rejected it is in the record
+    ORDER_PICKED(3, PipelineStage.PICKING),
+    ORDER_PACKED(4, PipelineStage.PACKING),
+    ORDER_LABELLED(5, PipelineStage.LABELLING),
+    ORDER_SORTED(6, PipelineStage.SORTING),
+    CONTAINER_SEALED(7, PipelineStage.CONTAINER_SEAL),
+    AGV_LOADED(8, PipelineStage.AGV_LOAD),
+    TRUCK_DEPARTED(9, PipelineStage.TRUCK_DEPARTURE), // one record per container aboard
+    AGV_BREAKDOWN(10, null),
+    AGV_REPAIRED(11, null),
+    TRUCK_BREAKDOWN(12, null),
+    TRUCK_REPAIRED(13, null);
+
+    private static final JournalEvent[] BY_CODE = new JournalEvent[16];
+
+    static {
+        for (JournalEvent event : values()) {
+            BY_CODE[event.code] = event;
+        }
+    }
+
+    private final int code;
+    private final PipelineStage stage;
+
+    JournalEvent(int code, PipelineStage stage) {
+        this.code = code;
+        this.stage = stage;
+    }
+
+    public int getCode() { return code; }
+
+    // The stage whose trace the event closes; null for rejections and breakdowns
+    public PipelineStage getStage() { return stage; }
+
+    // null for an unwritten slot or an unknown code
+    public static JournalEvent fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
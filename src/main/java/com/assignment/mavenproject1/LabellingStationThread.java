@@ -0,0 +1,87 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Simplified Labelling Station Thread (one of --labellers=N replicas sharing labellingQueue)
+ */
+public class LabellingStationThread extends Thread {
+    private final int labellerId;
+    private final SimulationContext context;
+    private final RandomStream random;
+    // Written only by this station, read by the final summary
+    private volatile int boxesLabelled = 0;
+    
+    private final String[] destinations = {
+        "Kuala Lumpur", "Selangor", "Penang", "Johor", "Perak"
+    };
+    
+    public LabellingStationThread(SimulationContext context, int labellerId) {
+        super(Constants.LABELLER_THREAD + labellerId);
+        this.labellerId = labellerId;
+        this.context = context;
+        this.random = context.random.stream(getName());
+        context.workerStarted(PipelineStage.LABELLING);
+    }
+    
+    @Override
+    public void run() {
+        Log.info("Labeller-{}: Starting (Thread: {})", labellerId, getName());
+        
+        try {
+            while (true) {
+                Box box = context.labellingQueue.take();
+                
+                if (box == SimulationContext.END_OF_BOXES) {
+                    // Every packer has exited and every box ahead of the marker is taken
+                    if (SimulationContext.passEndOfStream(context.labellingQueue, box)) {
+                        break;
+                    }
+                    continue;
+                }
+                
+                box.getOrder().markStarted(PipelineStage.LABELLING, System.currentTimeMillis());
+                
+                // Simple rejection check
+                if (random.nextDouble() > context.scenario.rejectionRate) {
+                    processBox(box);
+                } else {
+                    context.recordRejection(MetricsRegistry.Metric.REJECTED_AT_LABELLING);
+                    context.journal.rejected(box.getOrder(), PipelineStage.LABELLING, System.currentTimeMillis());
+                    String[] labellingReasons = {"mislabelling", "quality scanner failed", "barcode printing error"};
+                    String reason = labellingReasons[random.nextInt(labellingReasons.length)];
+                    Log.debug("Labeller-{}: Order #{} rejected at labelling ({}) (Thread: {})",
+                              labellerId, box.getOrder().getOrderId(), reason, getName());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            context.workerFinished(PipelineStage.LABELLING);
+        }
+        
+        Log.info("Labeller-{}: Completed - {} boxes labelled (Thread: {})", labellerId, boxesLabelled, getName());
+    }
+    
+    private void processBox(Box box) throws InterruptedException {
+        // Simulate labelling time
+        int labellingTime = context.scenario.processingTime(random);
+        Thread.sleep(labellingTime);
+        
+        String destination = destinations[random.nextInt(destinations.length)];
+        box.assignLabel(destination, context.scenario.labelPrintMs);
+        box.scan(context.scenario.scanMs);
+        
+        boxesLabelled++;
+        context.metrics.increment(MetricsRegistry.Metric.BOXES_LABELLED);
+        long now = System.currentTimeMillis();
+        box.getOrder().markCompleted(PipelineStage.LABELLING, now);
+        box.getOrder().markEnqueued(PipelineStage.SORTING, now);
+        context.journal.order(JournalEvent.ORDER_LABELLED, box.getOrder(), now);
+        context.sortingQueue.put(box);
+        
+        Log.debug("Labeller-{}: Order #{} labelled with {} (Thread: {})",
+                  labellerId, box.getOrder().getOrderId(), box.getTrackingId(), getName());
+    }
+    
+    public int getLabellerId() { return labellerId; }
+    public int getBoxesLabelled() { return boxesLabelled; }
+}
\ No newline at end of file
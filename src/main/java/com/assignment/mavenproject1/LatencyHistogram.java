@@ -0,0 +1,316 @@
+package com.assignment.mavenproject1;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory, log-bucketed latency histogram (HdrHistogram-style bucketing).
+ *
+ * Values below 2^SUB_BUCKET_BITS are counted exactly; above that every power-of-two range
+ * is split into 2^(SUB_BUCKET_BITS-1) linear sub-buckets, so a reported percentile is within
+ * 1/128 (< 0.8%) of the recorded value. Values above the highest trackable value land in the
+ * top bucket; min, max, count and sum are tracked exactly.
+ *
+ * Each recording thread gets its own bucket array (single writer, no CAS or lock);
+ * snapshot() merges them when the histogram is read. A recorder whose thread has exited is
+ * folded into one retired array and dropped, so memory stays bounded by the threads still
+ * recording rather than every thread ever seen (autoscaled pickers, virtual threads).
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;      // exact range 0..255
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;      // sub-buckets per octave
+
+    public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = 60L * 60L * 1000L; // 1 hour in ms
+
+    private final long highestTrackableValue;
+    private final int bucketCount;
+    private final List<Recorder> recorders = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Recorder> localRecorder = ThreadLocal.withInitial(this::newRecorder);
+    // Counts of exited threads; guarded by itself, which also keeps snapshot() from seeing a
+    // recorder both here and in recorders
+    private final long[] retired;
+    private long retiredCount = 0;
+    private long retiredSum = 0;
+    private long retiredMin = Long.MAX_VALUE;
+    private long retiredMax = 0;
+
+    public LatencyHistogram() {
+        this(DEFAULT_HIGHEST_TRACKABLE_VALUE);
+    }
+
+    public LatencyHistogram(long highestTrackableValue) {
+        if (highestTrackableValue < SUB_BUCKET_COUNT) {
+            highestTrackableValue = SUB_BUCKET_COUNT;
+        }
+        this.highestTrackableValue = highestTrackableValue;
+        this.bucketCount = bucketIndex(highestTrackableValue) + 1;
+        this.retired = new long[bucketCount];
+    }
+
+    /**
+     * Record one sample; negative values are counted as 0
+     */
+    public void record(long value) {
+        localRecorder.get().record(Math.max(0, value));
+    }
+
+    public Snapshot snapshot() {
+        synchronized (retired) {
+            retireExitedRecorders();
+            long[] counts = retired.clone();
+            long count = retiredCount;
+            long sum = retiredSum;
+            long min = retiredMin;
+            long max = retiredMax;
+            for (Recorder recorder : recorders) {
+                // Read count first; the buckets may then include a few samples more than count, never fewer
+                long recorderCount = recorder.count;
+                if (recorderCount == 0) {
+                    continue;
+                }
+                for (int i = 0; i < bucketCount; i++) {
+                    counts[i] += recorder.counts.get(i);
+                }
+                count += recorderCount;
+                sum += recorder.sum;
+                min = Math.min(min, recorder.min);
+                max = Math.max(max, recorder.max);
+            }
+            return new Snapshot(counts, count, sum, count == 0 ? 0 : min, max);
+        }
+    }
+
+    public boolean isEmpty() {
+        synchronized (retired) {
+            if (retiredCount > 0) {
+                return false;
+            }
+            for (Recorder recorder : recorders) {
+                if (recorder.count > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    public long getHighestTrackableValue() {
+        return highestTrackableValue;
+    }
+
+    /**
+     * Memory used by the bucket arrays (one per live recording thread, plus the retired one)
+     */
+    public long getFootprintBytes() {
+        synchronized (retired) {
+            retireExitedRecorders();
+            return (long) (recorders.size() + 1) * bucketCount * Long.BYTES;
+        }
+    }
+
+    /**
+     * Count, sum, min, max and the non-empty buckets, merged (for a checkpoint)
+     */
+    void writeTo(DataOutput out) throws IOException {
+        Snapshot snapshot = snapshot();
+        out.writeLong(snapshot.count);
+        if (snapshot.count == 0) {
+            return;
+        }
+        out.writeLong(snapshot.sum);
+        out.writeLong(snapshot.min);
+        out.writeLong(snapshot.max);
+        int used = 0;
+        for (long bucket : snapshot.counts) {
+            used += bucket != 0 ? 1 : 0;
+        }
+        out.writeInt(used);
+        for (int i = 0; i < snapshot.counts.length; i++) {
+            if (snapshot.counts[i] != 0) {
+                out.writeShort(i);
+                out.writeLong(snapshot.counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Add what writeTo wrote to this histogram, as if the samples were recorded by this thread
+     */
+    void readFrom(DataInput in) throws IOException {
+        long count = in.readLong();
+        if (count == 0) {
+            return;
+        }
+        Recorder recorder = localRecorder.get();
+        recorder.sum = recorder.sum + in.readLong();
+        recorder.min = Math.min(recorder.min, in.readLong());
+        recorder.max = Math.max(recorder.max, in.readLong());
+        int used = in.readInt();
+        for (int i = 0; i < used; i++) {
+            int index = in.readUnsignedShort();
+            if (index >= bucketCount) {
+                throw new IOException("Histogram bucket " + index + " out of range");
+            }
+            recorder.counts.lazySet(index, recorder.counts.get(index) + in.readLong());
+        }
+        recorder.count = recorder.count + count;
+    }
+
+    private Recorder newRecorder() {
+        Recorder recorder = new Recorder(Thread.currentThread(), bucketCount);
+        synchronized (retired) {
+            retireExitedRecorders();
+            recorders.add(recorder);
+        }
+        return recorder;
+    }
+
+    // Holding the retired lock. An exited owner has made its last write (isAlive() returning
+    // false happens-after it), so its counts are final and read exactly.
+    private void retireExitedRecorders() {
+        for (Recorder recorder : recorders) {
+            if (recorder.owner.isAlive()) {
+                continue;
+            }
+            recorders.remove(recorder);
+            if (recorder.count == 0) {
+                continue;
+            }
+            for (int i = 0; i < bucketCount; i++) {
+                retired[i] += recorder.counts.get(i);
+            }
+            retiredCount += recorder.count;
+            retiredSum += recorder.sum;
+            retiredMin = Math.min(retiredMin, recorder.min);
+            retiredMax = Math.max(retiredMax, recorder.max);
+        }
+    }
+
+    private int bucketIndexClamped(long value) {
+        return value >= highestTrackableValue ? bucketCount - 1 : bucketIndex(value);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);         // >= SUB_BUCKET_BITS
+        int shift = exponent - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_HALF;     // 0..SUB_BUCKET_HALF-1
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_HALF + subBucket;
+    }
+
+    static long lowestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF + 1;
+        long subBucket = SUB_BUCKET_HALF + offset % SUB_BUCKET_HALF;
+        return subBucket << shift;
+    }
+
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        return lowestValueAt(index) + (1L << shift) - 1;
+    }
+
+    /**
+     * Per-thread bucket array; only the owning thread writes, snapshot() reads
+     */
+    private final class Recorder {
+        final Thread owner;
+        final AtomicLongArray counts;
+        volatile long count = 0;
+        volatile long sum = 0;
+        volatile long min = Long.MAX_VALUE;
+        volatile long max = 0;
+
+        Recorder(Thread owner, int buckets) {
+            this.owner = owner;
+            this.counts = new AtomicLongArray(buckets);
+        }
+
+        void record(long value) {
+            int index = bucketIndexClamped(value);
+            // Single writer - an ordered store is enough, no read-modify-write atomics
+            counts.lazySet(index, counts.get(index) + 1);
+            sum = sum + value;
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+            count = count + 1;
+        }
+    }
+
+    /**
+     * Merged, immutable view of a histogram
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        Snapshot(long[] counts, long count, long sum, long min, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        public long getCount() { return count; }
+        public long getSum() { return sum; }
+        public long getMin() { return min; }
+        public long getMax() { return max; }
+
+        public double getMean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * Value at the given percentile (0-100), reported as the highest value of its bucket
+         * capped at the recorded max
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    if (i == counts.length - 1) {
+                        return max; // overflow bucket - only the exact max is known
+                    }
+                    return Math.max(min, Math.min(highestValueAt(i), max));
+                }
+            }
+            return max;
+        }
+
+        /**
+         * One-line summary used by the final report
+         */
+        public String format(String unit) {
+            return String.format("p50=%d%s p90=%d%s p99=%d%s p99.9=%d%s max=%d%s",
+                    getValueAtPercentile(50), unit, getValueAtPercentile(90), unit,
+                    getValueAtPercentile(99), unit, getValueAtPercentile(99.9), unit, max, unit);
+        }
+    }
+}
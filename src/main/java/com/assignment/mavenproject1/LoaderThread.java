@@ -0,0 +1,106 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Simplified Loader Thread. Takes a sealed container and has the AGV dispatcher pick the AGV
+ * that carries it to the bay; if that AGV breaks down on the way, the container goes on the next one.
+ */
+public class LoaderThread extends Thread {
+    private final int loaderId;
+    private final SimulationContext context;
+    private final RandomStream random;
+    private int containersLoaded = 0;
+    
+    public LoaderThread(SimulationContext context, int loaderId) {
+        super(Constants.LOADER_THREAD + loaderId);
+        this.loaderId = loaderId;
+        this.context = context;
+        this.random = context.random.stream(getName());
+        context.workerStarted(PipelineStage.AGV_LOAD);
+    }
+    
+    @Override
+    public void run() {
+        Log.info("Loader-{}: Starting (Thread: {})", loaderId, getName());
+        
+        try {
+            while (true) {
+                // FIXED dispatch only: wait for this loader's own AGV to be repaired
+                context.agvDispatcher.awaitOwnAGV(loaderId);
+                
+                Container container = context.loadingQueue.take();
+                
+                if (container == SimulationContext.END_OF_CONTAINERS) {
+                    // Every sorter has exited and every container ahead of the marker is taken
+                    if (SimulationContext.passEndOfStream(context.loadingQueue, container)) {
+                        break;
+                    }
+                    continue;
+                }
+                
+                processContainer(container);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            context.workerFinished(PipelineStage.AGV_LOAD);
+        }
+        
+        Log.info("Loader-{}: Completed - {} containers loaded (Thread: {})",
+                 loaderId, containersLoaded, getName());
+    }
+    
+    private void processContainer(Container container) throws InterruptedException {
+        if (context.resources.getAvailable(ResourceAllocator.Resource.BAY_CAPACITY) == 0) {
+            Log.debug("Loader-{}: Loading bay full ({}/{}), waiting... (Thread: {})",
+                      loaderId, context.loadingBayQueue.size(), context.scenario.bayCapacity, getName());
+        }
+        
+        // An AGV, a bay and a container slot at the bay, granted together - nothing is held while waiting
+        context.resources.acquire(1, 1, 1);
+        boolean delivered = false;
+        try {
+            container.markStarted(PipelineStage.AGV_LOAD, System.currentTimeMillis());
+            
+            // Simulate loading time, starting over on another AGV after a breakdown
+            boolean rerouted = false;
+            int agv;
+            while (true) {
+                agv = context.agvDispatcher.assign(loaderId, rerouted);
+                int loadingTime = context.scenario.processingTime(random);
+                boolean loaded;
+                try {
+                    loaded = context.agvDispatcher.load(agv, loadingTime);
+                } finally {
+                    context.agvDispatcher.release(agv);
+                }
+                if (loaded) {
+                    break;
+                }
+                rerouted = true;
+                context.metrics.increment(MetricsRegistry.Metric.AGV_REROUTES);
+                Log.info("Loader-{}: AGV-{} broke down carrying Container #{} - rerouting (Thread: {})",
+                         loaderId, agv + 1, container.getContainerId(), getName());
+            }
+            
+            containersLoaded++;
+            long now = System.currentTimeMillis();
+            container.markCompleted(PipelineStage.AGV_LOAD, now);
+            container.markEnqueued(PipelineStage.TRUCK_DEPARTURE, now);
+            context.journal.container(JournalEvent.AGV_LOADED, container, agv + 1, now);
+            // Trucks recycle the container after departure - read its ID before handing it over
+            int containerId = container.getContainerId();
+            context.moveToBay(container);
+            delivered = true;
+            
+            Log.debug("Loader-{}: Container #{} moved to loading bay ({}/{} capacity) (Thread: {})",
+                      loaderId, containerId, context.loadingBayQueue.size(), context.scenario.bayCapacity, getName());
+            
+        } finally {
+            // The container's slot at the bay stays taken until a truck takes it
+            context.resources.release(1, 1, delivered ? 0 : 1);
+        }
+    }
+    
+    public int getContainersLoaded() { return containersLoaded; }
+    public int getLoaderId() { return loaderId; }
+}
\ No newline at end of file
@@ -0,0 +1,337 @@
+package com.assignment.mavenproject1;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, batched logging for the stage threads.
+ *
+ * Each thread appends records to its own SPSC ring buffer (no shared lock), a background
+ * writer drains all buffers, formats the "{}" placeholders and writes a batch per cycle
+ * to stdout or a file. Disabled levels return before a record is created.
+ *
+ *   -Dswiftcart.log.level=DEBUG|INFO|WARN|ERROR|OFF   (default DEBUG - per-order lines included)
+ *   -Dswiftcart.log.file=path                          (default stdout)
+ */
+public final class Log {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final int BUFFER_CAPACITY = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static volatile Level level = Level.valueOf(
+            System.getProperty("swiftcart.log.level", Level.DEBUG.name()).trim().toUpperCase());
+
+    private static final List<ThreadBuffer> buffers = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<ThreadBuffer> localBuffer = ThreadLocal.withInitial(() -> {
+        ThreadBuffer buffer = new ThreadBuffer(Thread.currentThread());
+        buffers.add(buffer);
+        return buffer;
+    });
+
+    private static final LogWriter writer = new LogWriter(openOutput(System.getProperty("swiftcart.log.file")));
+
+    static {
+        writer.start();
+    }
+
+    private Log() {
+    }
+
+    public static void setLevel(Level newLevel) {
+        level = newLevel;
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static boolean isEnabled(Level candidate) {
+        return candidate != Level.OFF && candidate.ordinal() >= level.ordinal();
+    }
+
+    // ---------------- Logging calls (fixed arities avoid a varargs array) ----------------
+
+    public static void debug(String pattern) { log(Level.DEBUG, pattern, null, null, null, null, null); }
+    public static void debug(String pattern, Object a) { log(Level.DEBUG, pattern, a, null, null, null, null); }
+    public static void debug(String pattern, Object a, Object b) { log(Level.DEBUG, pattern, a, b, null, null, null); }
+    public static void debug(String pattern, Object a, Object b, Object c) { log(Level.DEBUG, pattern, a, b, c, null, null); }
+    public static void debug(String pattern, Object a, Object b, Object c, Object d) { log(Level.DEBUG, pattern, a, b, c, d, null); }
+    public static void debug(String pattern, Object... args) { logArray(Level.DEBUG, pattern, args); }
+
+    public static void info(String pattern) { log(Level.INFO, pattern, null, null, null, null, null); }
+    public static void info(String pattern, Object a) { log(Level.INFO, pattern, a, null, null, null, null); }
+    public static void info(String pattern, Object a, Object b) { log(Level.INFO, pattern, a, b, null, null, null); }
+    public static void info(String pattern, Object a, Object b, Object c) { log(Level.INFO, pattern, a, b, c, null, null); }
+    public static void info(String pattern, Object a, Object b, Object c, Object d) { log(Level.INFO, pattern, a, b, c, d, null); }
+    public static void info(String pattern, Object... args) { logArray(Level.INFO, pattern, args); }
+
+    public static void warn(String pattern) { log(Level.WARN, pattern, null, null, null, null, null); }
+    public static void warn(String pattern, Object a) { log(Level.WARN, pattern, a, null, null, null, null); }
+    public static void warn(String pattern, Object a, Object b) { log(Level.WARN, pattern, a, b, null, null, null); }
+    public static void warn(String pattern, Object a, Object b, Object c) { log(Level.WARN, pattern, a, b, c, null, null); }
+    public static void warn(String pattern, Object... args) { logArray(Level.WARN, pattern, args); }
+
+    public static void error(String pattern) { log(Level.ERROR, pattern, null, null, null, null, null); }
+    public static void error(String pattern, Object a) { log(Level.ERROR, pattern, a, null, null, null, null); }
+    public static void error(String pattern, Object a, Object b) { log(Level.ERROR, pattern, a, b, null, null, null); }
+    public static void error(String pattern, Object... args) { logArray(Level.ERROR, pattern, args); }
+
+    private static void log(Level recordLevel, String pattern, Object a, Object b, Object c, Object d, Object[] rest) {
+        if (!isEnabled(recordLevel)) {
+            return;
+        }
+        localBuffer.get().append(new LogRecord(recordLevel, pattern, a, b, c, d, rest));
+    }
+
+    private static void logArray(Level recordLevel, String pattern, Object[] args) {
+        if (!isEnabled(recordLevel)) {
+            return;
+        }
+        localBuffer.get().append(new LogRecord(recordLevel, pattern, null, null, null, null, args));
+    }
+
+    // ---------------- Flush / shutdown ----------------
+
+    /**
+     * Block until every record logged before this call has been written.
+     * Call before printing reports directly to System.out so they don't interleave.
+     */
+    public static void flush() {
+        // The writer outlives any bad record, but not shutdown(); nothing is written after that
+        while (!writer.isCaughtUp() && writer.isAlive()) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+    }
+
+    public static void shutdown() {
+        flush();
+        writer.stopWriting();
+    }
+
+    private static Writer openOutput(String file) {
+        if (file == null || file.trim().isEmpty()) {
+            return new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        }
+        try {
+            return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8), 1 << 16);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot open log file " + file, e);
+        }
+    }
+
+    /**
+     * One log statement; formatting happens on the writer thread
+     */
+    private static final class LogRecord {
+        final Level level;
+        final long nanoTime;
+        final String pattern;
+        final Object a;
+        final Object b;
+        final Object c;
+        final Object d;
+        final Object[] rest;
+
+        LogRecord(Level level, String pattern, Object a, Object b, Object c, Object d, Object[] rest) {
+            this.level = level;
+            this.nanoTime = System.nanoTime();
+            this.pattern = pattern;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.rest = rest;
+        }
+
+        Object arg(int index) {
+            if (rest != null) {
+                return index < rest.length ? rest[index] : "{}";
+            }
+            switch (index) {
+                case 0: return a;
+                case 1: return b;
+                case 2: return c;
+                case 3: return d;
+                default: return "{}";
+            }
+        }
+
+        void formatTo(StringBuilder out) {
+            if (level == Level.WARN || level == Level.ERROR) {
+                out.append(level).append(' ');
+            }
+            int argIndex = 0;
+            int start = 0;
+            int placeholder;
+            while ((placeholder = pattern.indexOf("{}", start)) >= 0) {
+                out.append(pattern, start, placeholder).append(arg(argIndex++));
+                start = placeholder + 2;
+            }
+            out.append(pattern, start, pattern.length()).append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Per-thread record buffer: the owning thread produces, the writer consumes
+     */
+    private static final class ThreadBuffer {
+        final Thread owner;
+        final SpscRingBuffer<LogRecord> records = new SpscRingBuffer<>(BUFFER_CAPACITY, WaitStrategy.PARKING);
+        volatile long appended = 0;   // written only by owner
+        volatile long written = 0;    // written only by writer
+
+        ThreadBuffer(Thread owner) {
+            this.owner = owner;
+        }
+
+        void append(LogRecord record) {
+            if (!records.offer(record)) {
+                // Buffer full - wake the writer and wait for space (backpressure, no records dropped).
+                // An interrupt (e.g. shutdown stopping the workers) is restored once the record is
+                // in, so a worker's last lines are kept; only a stopped writer drops them.
+                boolean interrupted = false;
+                try {
+                    while (true) {
+                        LockSupport.unpark(writer);
+                        try {
+                            if (records.offer(record, IDLE_PARK_NANOS, TimeUnit.NANOSECONDS)) {
+                                break;
+                            }
+                            if (!writer.isAlive()) {
+                                return;
+                            }
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                } finally {
+                    if (interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+            appended++;
+        }
+    }
+
+    /**
+     * Background writer: drains every thread buffer, orders the batch by time and writes it once
+     */
+    private static final class LogWriter extends Thread {
+        private final Writer out;
+        private volatile boolean writing = true;
+        private final List<LogRecord> batch = new ArrayList<>();
+        private final List<ThreadBuffer> drainedBuffers = new ArrayList<>();
+        private final List<Long> drainedCounts = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder(1 << 16);
+
+        LogWriter(Writer out) {
+            super("LogWriter");
+            this.out = out;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (writing) {
+                try {
+                    if (!drainOnce()) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                } catch (Throwable t) {
+                    // Whatever went wrong with this batch, the threads blocked on a full buffer need the writer
+                    System.err.println("Log: batch failed - " + t);
+                }
+            }
+            drainOnce();
+        }
+
+        private boolean drainOnce() {
+            drainedBuffers.clear();
+            drainedCounts.clear();
+            for (ThreadBuffer buffer : buffers) {
+                long available = buffer.appended - buffer.written;
+                long count = 0;
+                LogRecord record;
+                while (count < available && (record = buffer.records.poll()) != null) {
+                    batch.add(record);
+                    count++;
+                }
+                if (count > 0) {
+                    drainedBuffers.add(buffer);
+                    drainedCounts.add(count);
+                } else if (!buffer.owner.isAlive() && buffer.records.isEmpty()) {
+                    buffers.remove(buffer);
+                }
+            }
+            if (batch.isEmpty()) {
+                return false;
+            }
+
+            try {
+                batch.sort(Comparator.comparingLong(r -> r.nanoTime));
+                for (LogRecord record : batch) {
+                    format(record);
+                }
+                out.write(text.toString());
+                out.flush();
+            } catch (IOException e) {
+                System.err.println("Log: write failed - " + e.getMessage());
+            } finally {
+                text.setLength(0);
+                batch.clear();
+
+                // Only now count the records as written, so flush() waits for the actual write
+                for (int i = 0; i < drainedBuffers.size(); i++) {
+                    ThreadBuffer buffer = drainedBuffers.get(i);
+                    buffer.written = buffer.written + drainedCounts.get(i);
+                }
+            }
+            return true;
+        }
+
+        // An argument whose toString() throws costs its own line, not the writer thread
+        private void format(LogRecord record) {
+            int start = text.length();
+            try {
+                record.formatTo(text);
+            } catch (RuntimeException e) {
+                text.setLength(start);
+                text.append("ERROR Log: cannot format \"").append(record.pattern).append("\" - ")
+                    .append(e).append(System.lineSeparator());
+            }
+        }
+
+        boolean isCaughtUp() {
+            for (ThreadBuffer buffer : buffers) {
+                if (buffer.written < buffer.appended) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void stopWriting() {
+            writing = false;
+            LockSupport.unpark(this);
+            try {
+                join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
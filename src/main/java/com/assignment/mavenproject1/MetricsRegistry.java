@@ -0,0 +1,182 @@
+package com.assignment.mavenproject1;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single home for the simulation counters.
+ *
+ * Each counter is a LongAdder, so stage threads incrementing at the source only touch
+ * their own cell under contention. snapshot() sums every counter once into an immutable
+ * view that reports and live monitoring read from.
+ */
+public class MetricsRegistry {
+
+    /**
+     * Counters in pipeline order (upstream first)
+     */
+    public enum Metric {
+        ORDERS_RECEIVED("orders_received", "Orders generated by intake"),
+        REJECTED_AT_INTAKE("rejected_at_intake", "Orders rejected at intake"),
+        REJECTED_AT_PICKING("rejected_at_picking", "Orders rejected at picking"),
+        ORDERS_PICKED("orders_picked", "Orders picked"),
+        BOXES_PACKED("boxes_packed", "Boxes packed"),
+        REJECTED_AT_PACKING("rejected_at_packing", "Orders rejected at packing"),
+        REJECTED_AT_LABELLING("rejected_at_labelling", "Orders rejected at labelling"),
+        BOXES_LABELLED("boxes_labelled", "Boxes labelled"),
+        ORDERS_PROCESSED("orders_processed", "Orders sorted into a zone batch"),
+        CONTAINERS_CREATED("containers_created", "Containers sealed by the sorter"),
+        CONTAINERS_LOADED("containers_loaded", "Containers loaded onto trucks"),
+        TRUCKS_DISPATCHED("trucks_dispatched", "Truck departures"),
+        AGV_BREAKDOWNS("agv_breakdowns", "AGV breakdowns"),
+        AGV_DOWNTIME_MS("agv_downtime_ms", "AGV downtime in milliseconds"),
+        AGV_REROUTES("agv_reroutes", "Loads moved to another AGV after a breakdown"),
+        PICKERS_ADDED("pickers_added", "Pickers started by the autoscaler"),
+        PICKERS_RETIRED("pickers_retired", "Pickers retired by the autoscaler");
+
+        private final String key;
+        private final String description;
+
+        Metric(String key, String description) {
+            this.key = key;
+            this.description = description;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * Point-in-time values set by a single owner (e.g. the picker autoscaler)
+     */
+    public enum Gauge {
+        ACTIVE_PICKERS("active_pickers", "Pickers currently taking orders"),
+        PICKER_UTILIZATION_PERCENT("picker_utilization_percent", "Share of the last sample the pickers were busy");
+
+        private final String key;
+        private final String description;
+
+        Gauge(String key, String description) {
+            this.key = key;
+            this.description = description;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private static final Metric[] METRICS = Metric.values();
+    private static final Gauge[] GAUGES = Gauge.values();
+
+    private final LongAdder[] counters = new LongAdder[METRICS.length];
+    private final AtomicLongArray gauges = new AtomicLongArray(GAUGES.length);
+
+    public MetricsRegistry() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    public void increment(Metric metric) {
+        counters[metric.ordinal()].increment();
+    }
+
+    public void add(Metric metric, long amount) {
+        counters[metric.ordinal()].add(amount);
+    }
+
+    public void set(Gauge gauge, long value) {
+        gauges.set(gauge.ordinal(), value);
+    }
+
+    public long get(Gauge gauge) {
+        return gauges.get(gauge.ordinal());
+    }
+
+    /**
+     * Current value of one counter; use snapshot() when several values must agree
+     */
+    public long get(Metric metric) {
+        return counters[metric.ordinal()].sum();
+    }
+
+    public long getTotalRejected() {
+        return snapshot().getTotalRejected();
+    }
+
+    /**
+     * Reads the counters downstream-first. An item is always counted upstream before it
+     * is counted downstream, so the view never shows more orders leaving a stage than
+     * entered it (received >= processed + rejected) even while the pipeline is running.
+     */
+    public Snapshot snapshot() {
+        long[] values = new long[METRICS.length];
+        for (int i = METRICS.length - 1; i >= 0; i--) {
+            values[i] = counters[i].sum();
+        }
+        long[] gaugeValues = new long[GAUGES.length];
+        for (int i = 0; i < GAUGES.length; i++) {
+            gaugeValues[i] = gauges.get(i);
+        }
+        return new Snapshot(values, gaugeValues, System.currentTimeMillis());
+    }
+
+    public void reset() {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        for (int i = 0; i < GAUGES.length; i++) {
+            gauges.set(i, 0);
+        }
+    }
+
+    /**
+     * Immutable point-in-time view of every counter
+     */
+    public static final class Snapshot {
+        private final long[] values;
+        private final long[] gaugeValues;
+        private final long timestamp;
+
+        Snapshot(long[] values, long[] gaugeValues, long timestamp) {
+            this.values = values;
+            this.gaugeValues = gaugeValues;
+            this.timestamp = timestamp;
+        }
+
+        public long get(Metric metric) {
+            return values[metric.ordinal()];
+        }
+
+        public long get(Gauge gauge) {
+            return gaugeValues[gauge.ordinal()];
+        }
+
+        public long getTotalRejected() {
+            return get(Metric.REJECTED_AT_INTAKE) + get(Metric.REJECTED_AT_PICKING)
+                    + get(Metric.REJECTED_AT_PACKING) + get(Metric.REJECTED_AT_LABELLING);
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public Metric[] getMetrics() {
+            return METRICS.clone();
+        }
+
+        public Gauge[] getGauges() {
+            return GAUGES.clone();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.assignment.mavenproject1;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP endpoint (JDK HttpServer) exposing live pipeline state.
+ *
+ *   GET /metrics       Prometheus text format
+ *   GET /metrics.json  same values as JSON
+ *
+ * Requests are served on one daemon thread and only read non-blocking state
+ * (queue sizes, available permits, AGV flags, a MetricsRegistry snapshot),
+ * so a scrape never takes a lock a worker thread is waiting on.
+ */
+public class MetricsServer {
+
+    private final SimulationContext context;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long startTime = System.currentTimeMillis();
+
+    private MetricsServer(SimulationContext context, int port) throws IOException {
+        this.context = context;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "MetricsServer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/metrics", exchange -> respond(exchange, "text/plain; version=0.0.4", toPrometheus(collect())));
+        server.createContext("/metrics.json", exchange -> respond(exchange, "application/json", toJson(collect())));
+    }
+
+    public static MetricsServer start(SimulationContext context, int port) {
+        try {
+            MetricsServer metricsServer = new MetricsServer(context, port);
+            metricsServer.server.start();
+            Log.info("MetricsServer: Serving http://localhost:{}/metrics and /metrics.json",
+                     metricsServer.getPort());
+            return metricsServer;
+        } catch (IOException e) {
+            Log.warn("MetricsServer: Could not bind port {} - {}", port, e.getMessage());
+            return null;
+        }
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        Log.info("MetricsServer: Stopped");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // ---------------- Collection ----------------
+
+    private State collect() {
+        State state = new State();
+        state.uptimeMs = System.currentTimeMillis() - startTime;
+        state.running = context.isRunning();
+        state.intakeComplete = context.isIntakeComplete();
+
+        addQueue(state, "pickingQueue", context.pickingQueue);
+        addQueue(state, "packingQueue", context.packingQueue);
+        addQueue(state, "labellingQueue", context.labellingQueue);
+        addQueue(state, "sortingQueue", context.sortingQueue);
+        addQueue(state, "loadingQueue", context.loadingQueue);
+        addQueue(state, "loadingBayQueue", context.loadingBayQueue);
+
+        for (ResourceAllocator.Resource resource : ResourceAllocator.Resource.values()) {
+            addResource(state, resource, context.resources);
+        }
+
+        state.agvOperational = new boolean[context.scenario.agvs];
+        for (int agv = 0; agv < context.scenario.agvs; agv++) {
+            state.agvOperational[agv] = context.isAGVOperational(agv);
+        }
+
+        state.counters = context.metrics.snapshot();
+        return state;
+    }
+
+    private static void addQueue(State state, String name, BlockingQueue<?> queue) {
+        state.queueDepths.put(name, queue.size());
+        // remainingCapacity is Integer.MAX_VALUE for the unbounded linked queues
+        state.queueRemaining.put(name, queue.remainingCapacity());
+    }
+
+    private static void addResource(State state, ResourceAllocator.Resource resource, ResourceAllocator allocator) {
+        state.availablePermits.put(resource.getKey(), allocator.getAvailable(resource));
+        state.queuedAcquirers.put(resource.getKey(), allocator.getWaiting(resource));
+        state.blockedMillis.put(resource.getKey(), allocator.getBlockedMillis(resource));
+    }
+
+    /**
+     * Values read for one response
+     */
+    private static final class State {
+        long uptimeMs;
+        boolean running;
+        boolean intakeComplete;
+        final Map<String, Integer> queueDepths = new LinkedHashMap<>();
+        final Map<String, Integer> queueRemaining = new LinkedHashMap<>();
+        final Map<String, Integer> availablePermits = new LinkedHashMap<>();
+        final Map<String, Integer> queuedAcquirers = new LinkedHashMap<>();
+        final Map<String, Long> blockedMillis = new LinkedHashMap<>();
+        boolean[] agvOperational;
+        MetricsRegistry.Snapshot counters;
+    }
+
+    // ---------------- Rendering ----------------
+
+    static String toPrometheus(State state) {
+        StringBuilder out = new StringBuilder(4096);
+
+        gauge(out, "swiftcart_uptime_seconds", "Seconds since the metrics server started");
+        out.append("swiftcart_uptime_seconds ").append(state.uptimeMs / 1000.0).append('\n');
+        gauge(out, "swiftcart_running", "1 while the simulation is accepting work");
+        out.append("swiftcart_running ").append(state.running ? 1 : 0).append('\n');
+        gauge(out, "swiftcart_intake_complete", "1 once order intake has finished");
+        out.append("swiftcart_intake_complete ").append(state.intakeComplete ? 1 : 0).append('\n');
+
+        gauge(out, "swiftcart_queue_depth", "Items waiting in an inter-stage queue");
+        for (Map.Entry<String, Integer> entry : state.queueDepths.entrySet()) {
+            out.append("swiftcart_queue_depth{queue=\"").append(entry.getKey()).append("\"} ")
+               .append(entry.getValue()).append('\n');
+        }
+        gauge(out, "swiftcart_queue_remaining_capacity", "Free slots in an inter-stage queue");
+        for (Map.Entry<String, Integer> entry : state.queueRemaining.entrySet()) {
+            out.append("swiftcart_queue_remaining_capacity{queue=\"").append(entry.getKey()).append("\"} ")
+               .append(entry.getValue()).append('\n');
+        }
+
+        gauge(out, "swiftcart_resource_available_permits", "Available permits per allocator resource");
+        for (Map.Entry<String, Integer> entry : state.availablePermits.entrySet()) {
+            out.append("swiftcart_resource_available_permits{resource=\"").append(entry.getKey()).append("\"} ")
+               .append(entry.getValue()).append('\n');
+        }
+        gauge(out, "swiftcart_resource_waiting_requests", "Allocator requests waiting that include the resource");
+        for (Map.Entry<String, Integer> entry : state.queuedAcquirers.entrySet()) {
+            out.append("swiftcart_resource_waiting_requests{resource=\"").append(entry.getKey()).append("\"} ")
+               .append(entry.getValue()).append('\n');
+        }
+        out.append("# HELP swiftcart_resource_blocked_seconds_total Time requests spent blocked because the resource was short\n");
+        out.append("# TYPE swiftcart_resource_blocked_seconds_total counter\n");
+        for (Map.Entry<String, Long> entry : state.blockedMillis.entrySet()) {
+            out.append("swiftcart_resource_blocked_seconds_total{resource=\"").append(entry.getKey()).append("\"} ")
+               .append(entry.getValue() / 1000.0).append('\n');
+        }
+
+        gauge(out, "swiftcart_agv_operational", "1 if the AGV is operational, 0 while broken down");
+        for (int agv = 0; agv < state.agvOperational.length; agv++) {
+            out.append("swiftcart_agv_operational{agv=\"").append(agv + 1).append("\"} ")
+               .append(state.agvOperational[agv] ? 1 : 0).append('\n');
+        }
+
+        for (MetricsRegistry.Gauge registryGauge : state.counters.getGauges()) {
+            String name = "swiftcart_" + registryGauge.getKey();
+            gauge(out, name, registryGauge.getDescription());
+            out.append(name).append(' ').append(state.counters.get(registryGauge)).append('\n');
+        }
+
+        // Per-stage throughput and rejections: use rate() on these counters
+        for (MetricsRegistry.Metric metric : state.counters.getMetrics()) {
+            String name = "swiftcart_" + metric.getKey() + "_total";
+            out.append("# HELP ").append(name).append(' ').append(metric.getDescription()).append('\n');
+            out.append("# TYPE ").append(name).append(" counter\n");
+            out.append(name).append(' ').append(state.counters.get(metric)).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static void gauge(StringBuilder out, String name, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" gauge\n");
+    }
+
+    static String toJson(State state) {
+        StringBuilder out = new StringBuilder(2048);
+        out.append("{\n");
+        out.append("  \"timestamp\": ").append(state.counters.getTimestamp()).append(",\n");
+        out.append("  \"uptimeSeconds\": ").append(state.uptimeMs / 1000.0).append(",\n");
+        out.append("  \"running\": ").append(state.running).append(",\n");
+        out.append("  \"intakeComplete\": ").append(state.intakeComplete).append(",\n");
+        out.append("  \"queueDepths\": ").append(jsonObject(state.queueDepths)).append(",\n");
+        out.append("  \"queueRemainingCapacity\": ").append(jsonObject(state.queueRemaining)).append(",\n");
+        out.append("  \"availablePermits\": ").append(jsonObject(state.availablePermits)).append(",\n");
+        out.append("  \"resourceWaitingRequests\": ").append(jsonObject(state.queuedAcquirers)).append(",\n");
+        out.append("  \"resourceBlockedMillis\": ").append(jsonObject(state.blockedMillis)).append(",\n");
+
+        out.append("  \"agvOperational\": [");
+        for (int agv = 0; agv < state.agvOperational.length; agv++) {
+            out.append(agv > 0 ? ", " : "").append(state.agvOperational[agv]);
+        }
+        out.append("],\n");
+
+        out.append("  \"counters\": {");
+        MetricsRegistry.Metric[] metrics = state.counters.getMetrics();
+        for (int i = 0; i < metrics.length; i++) {
+            out.append(i > 0 ? ", " : "").append('"').append(metrics[i].getKey()).append("\": ")
+               .append(state.counters.get(metrics[i]));
+        }
+        out.append("},\n");
+
+        out.append("  \"gauges\": {");
+        MetricsRegistry.Gauge[] gauges = state.counters.getGauges();
+        for (int i = 0; i < gauges.length; i++) {
+            out.append(i > 0 ? ", " : "").append('"').append(gauges[i].getKey()).append("\": ")
+               .append(state.counters.get(gauges[i]));
+        }
+        out.append("},\n");
+
+        double seconds = Math.max(0.001, state.uptimeMs / 1000.0);
+        out.append("  \"throughputPerSecond\": {")
+           .append("\"picking\": ").append(rate(state, MetricsRegistry.Metric.ORDERS_PICKED, seconds))
+           .append(", \"packing\": ").append(rate(state, MetricsRegistry.Metric.BOXES_PACKED, seconds))
+           .append(", \"labelling\": ").append(rate(state, MetricsRegistry.Metric.BOXES_LABELLED, seconds))
+           .append(", \"sorting\": ").append(rate(state, MetricsRegistry.Metric.ORDERS_PROCESSED, seconds))
+           .append(", \"loading\": ").append(rate(state, MetricsRegistry.Metric.CONTAINERS_LOADED, seconds))
+           .append("},\n");
+        out.append("  \"totalRejected\": ").append(state.counters.getTotalRejected()).append('\n');
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static String rate(State state, MetricsRegistry.Metric metric, double seconds) {
+        return String.format(Locale.ROOT, "%.3f", state.counters.get(metric) / seconds);
+    }
+
+    private static String jsonObject(Map<String, ? extends Number> values) {
+        StringBuilder out = new StringBuilder("{");
+        for (Map.Entry<String, ? extends Number> entry : values.entrySet()) {
+            out.append(out.length() > 1 ? ", " : "").append('"').append(entry.getKey()).append("\": ")
+               .append(entry.getValue());
+        }
+        return out.append('}').toString();
+    }
+}
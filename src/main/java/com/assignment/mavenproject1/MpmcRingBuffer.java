@@ -0,0 +1,83 @@
+package com.assignment.mavenproject1;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Multi-producer multi-consumer ring buffer (sequence-per-slot design).
+ * Producers and consumers claim positions with a CAS and hand slots over through
+ * the slot sequence, so no lock is taken and no node is allocated per element.
+ */
+public class MpmcRingBuffer<E> extends RingBufferQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    public MpmcRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    protected boolean tryOffer(E e) {
+        while (true) {
+            long position = enqueuePosition.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    buffer.lazySet(index, e);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false; // full
+            }
+        }
+    }
+
+    @Override
+    protected E tryPoll() {
+        while (true) {
+            long position = dequeuePosition.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    E e = buffer.get(index);
+                    buffer.lazySet(index, null);
+                    sequences.lazySet(index, position + capacity);
+                    return e;
+                }
+            } else if (difference < 0) {
+                return null; // empty
+            }
+        }
+    }
+
+    @Override
+    protected E tryPeek() {
+        return buffer.get((int) (dequeuePosition.get() & mask));
+    }
+
+    @Override
+    public int size() {
+        long dequeued = dequeuePosition.get();
+        long enqueued = enqueuePosition.get();
+        return (int) Math.max(0, Math.min(capacity, enqueued - dequeued));
+    }
+
+    @Override
+    protected List<E> snapshot() {
+        long dequeued = dequeuePosition.get();
+        return collect(buffer, mask, dequeued, enqueuePosition.get());
+    }
+}
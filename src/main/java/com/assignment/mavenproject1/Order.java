@@ -0,0 +1,94 @@
+package com.assignment.mavenproject1;
+
+import java.util.Arrays;
+
+/**
+ * Simplified Order entity
+ */
+public class Order {
+    private final int orderId;
+    private boolean verified;
+    private long timestamp;
+    
+    // Stage trace: [stage * 3 + ENQUEUED|STARTED|COMPLETED], -1 = not reached
+    private static final int ENQUEUED = 0;
+    private static final int STARTED = 1;
+    private static final int COMPLETED = 2;
+    static final int TRACE_SLOTS = PipelineStage.values().length * 3;
+    private final long[] stageTimes = new long[TRACE_SLOTS];
+    
+    public Order(int orderId) {
+        this(orderId, System.currentTimeMillis());
+    }
+    
+    public Order(int orderId, long timestamp) {
+        this.orderId = orderId;
+        this.verified = false;
+        this.timestamp = timestamp;
+        Arrays.fill(stageTimes, -1L);
+    }
+    
+    public void verify(long verifyMs) {
+        // Simulate verification time
+        try {
+            Thread.sleep(verifyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        markVerified();
+    }
+    
+    // Verification result without the simulated delay (used by the discrete-event engine)
+    public void markVerified() {
+        this.verified = true;
+    }
+    
+    // Stage tracing; the threaded stages pass System.currentTimeMillis(), the discrete-event engine its SimClock
+    public void markEnqueued(PipelineStage stage, long timeMs) {
+        stageTimes[stage.ordinal() * 3 + ENQUEUED] = timeMs;
+    }
+    
+    public void markStarted(PipelineStage stage, long timeMs) {
+        stageTimes[stage.ordinal() * 3 + STARTED] = timeMs;
+    }
+    
+    public void markCompleted(PipelineStage stage, long timeMs) {
+        stageTimes[stage.ordinal() * 3 + COMPLETED] = timeMs;
+    }
+    
+    // Time spent queued before the stage picked the order up, -1 if not traced
+    public long getWaitTime(PipelineStage stage) {
+        return elapsed(stage.ordinal() * 3 + ENQUEUED, stage.ordinal() * 3 + STARTED);
+    }
+    
+    // Time the stage spent working on the order, -1 if not traced
+    public long getServiceTime(PipelineStage stage) {
+        return elapsed(stage.ordinal() * 3 + STARTED, stage.ordinal() * 3 + COMPLETED);
+    }
+    
+    // Order creation to truck departure, -1 if the order has not left on a truck
+    public long getEndToEndTime() {
+        return elapsed(PipelineStage.INTAKE.ordinal() * 3 + ENQUEUED,
+                       PipelineStage.TRUCK_DEPARTURE.ordinal() * 3 + COMPLETED);
+    }
+    
+    private long elapsed(int from, int to) {
+        if (stageTimes[from] < 0 || stageTimes[to] < 0) {
+            return -1;
+        }
+        return stageTimes[to] - stageTimes[from];
+    }
+    
+    // One raw trace slot, for a checkpoint (see SimulationCheckpoint)
+    long getTraceTime(int slot) { return stageTimes[slot]; }
+    void setTraceTime(int slot, long timeMs) { stageTimes[slot] = timeMs; }
+    
+    public boolean isVerified() { return verified; }
+    public int getOrderId() { return orderId; }
+    public long getTimestamp() { return timestamp; }
+    
+    @Override
+    public String toString() {
+        return "Order #" + orderId + " [Verified:" + verified + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Simplified Order Intake System
+ */
+public class OrderIntakeThread extends Thread {
+    private final SimulationContext context;
+    private final RandomStream random;
+    private int ordersGenerated = 0;
+    private int ordersAccepted = 0;
+    private final int burstSize;
+    
+    public OrderIntakeThread(SimulationContext context) {
+        this(context, 0);
+    }
+    
+    // burstSize > 0: the first burstSize orders of every intake.burst.every arrive without the interval
+    public OrderIntakeThread(SimulationContext context, int burstSize) {
+        super(Constants.ORDER_THREAD + "1");
+        this.context = context;
+        this.burstSize = burstSize;
+        this.random = context.random.stream(getName());
+    }
+    
+    @Override
+    public void run() {
+        Log.info("OrderIntake: Starting (Thread: {})", getName());
+        
+        try {
+            // Generate exactly orders.total orders regardless of simulation running status
+            while (ordersGenerated < context.scenario.totalOrders) {
+                Order order = new Order(ordersGenerated + 1);
+                order.markEnqueued(PipelineStage.INTAKE, order.getTimestamp());
+                context.metrics.increment(MetricsRegistry.Metric.ORDERS_RECEIVED);
+                
+                // Simple rejection check
+                if (random.nextDouble() > context.scenario.rejectionRate) {
+                    order.markStarted(PipelineStage.INTAKE, System.currentTimeMillis());
+                    order.verify(context.scenario.orderVerifyMs);
+                    if (order.isVerified()) {
+                        long now = System.currentTimeMillis();
+                        order.markCompleted(PipelineStage.INTAKE, now);
+                        order.markEnqueued(PipelineStage.PICKING, now);
+                        context.journal.order(JournalEvent.ORDER_ACCEPTED, order, now);
+                        context.pickingQueue.put(order);
+                        ordersAccepted++;
+                        Log.debug("OrderIntake: Order #{} accepted (Thread: {})",
+                                  order.getOrderId(), getName());
+                    }
+                } else {
+                        context.recordRejection(MetricsRegistry.Metric.REJECTED_AT_INTAKE);
+                        context.journal.rejected(order, PipelineStage.INTAKE, System.currentTimeMillis());
+                        String[] intakeReasons = {"out-of-stock items", "payment verification failed", "invalid shipping address"};
+                        String reason = intakeReasons[random.nextInt(intakeReasons.length)];
+                        Log.debug("OrderIntake: Order #{} rejected at intake ({}) (Thread: {})",
+                                  order.getOrderId(), reason, getName());
+                }
+                
+                ordersGenerated++;
+                
+                // Maintain the order interval (except inside a burst)
+                if (ordersGenerated % context.scenario.intakeBurstEvery >= burstSize) {
+                    Thread.sleep(context.scenario.orderIntervalMs);
+                }
+            }
+            
+            context.markIntakeComplete();
+            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        Log.info("OrderIntake: Completed - {}/{} orders accepted (Thread: {})",
+                 ordersAccepted, ordersGenerated, getName());
+    }
+    
+    public int getOrdersGenerated() { return ordersGenerated; }
+    public int getOrdersAccepted() { return ordersAccepted; }
+}
\ No newline at end of file
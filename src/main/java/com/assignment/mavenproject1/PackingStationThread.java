@@ -0,0 +1,83 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Simplified Packing Station Thread (one of --packers=N replicas sharing packingQueue)
+ */
+public class PackingStationThread extends Thread {
+    private final int packerId;
+    private final SimulationContext context;
+    private final RandomStream random;
+    // Written only by this station, read by the final summary
+    private volatile int boxesPacked = 0;
+    
+    public PackingStationThread(SimulationContext context, int packerId) {
+        super(Constants.PACKER_THREAD + packerId);
+        this.packerId = packerId;
+        this.context = context;
+        this.random = context.random.stream(getName());
+        context.workerStarted(PipelineStage.PACKING);
+    }
+    
+    @Override
+    public void run() {
+        Log.info("Packer-{}: Starting (Thread: {})", packerId, getName());
+        
+        try {
+            while (true) {
+                Order order = context.packingQueue.take();
+                
+                if (order == SimulationContext.END_OF_ORDERS) {
+                    // Every picker has exited and every order ahead of the marker is taken
+                    if (SimulationContext.passEndOfStream(context.packingQueue, order)) {
+                        break;
+                    }
+                    continue;
+                }
+                
+                order.markStarted(PipelineStage.PACKING, System.currentTimeMillis());
+                
+                // REMOVED BLOCKING SEMAPHORE - capacity constraint handled by loaders
+                
+                // Simple rejection check
+                if (random.nextDouble() > context.scenario.rejectionRate) {
+                    processOrder(order);
+                } else {
+                    context.recordRejection(MetricsRegistry.Metric.REJECTED_AT_PACKING);
+                    context.journal.rejected(order, PipelineStage.PACKING, System.currentTimeMillis());
+                    String[] packingReasons = {"packing errors", "damaged packaging", "items don't fit container"};
+                    String reason = packingReasons[random.nextInt(packingReasons.length)];
+                    Log.debug("Packer-{}: Order #{} rejected at packing ({}) (Thread: {})",
+                              packerId, order.getOrderId(), reason, getName());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            context.workerFinished(PipelineStage.PACKING);
+        }
+        
+        Log.info("Packer-{}: Completed - {} boxes packed (Thread: {})", packerId, boxesPacked, getName());
+    }
+    
+    private void processOrder(Order order) throws InterruptedException {
+        // Simulate packing time
+        int packingTime = context.scenario.processingTime(random);
+        Thread.sleep(packingTime);
+        
+        Box box = new Box(order);
+        box.verify(context.scenario.boxVerifyMs);
+        
+        boxesPacked++;
+        context.metrics.increment(MetricsRegistry.Metric.BOXES_PACKED);
+        long now = System.currentTimeMillis();
+        order.markCompleted(PipelineStage.PACKING, now);
+        order.markEnqueued(PipelineStage.LABELLING, now);
+        context.journal.order(JournalEvent.ORDER_PACKED, order, now);
+        context.labellingQueue.put(box);
+        
+        Log.debug("Packer-{}: Order #{} packed (Thread: {})", packerId, order.getOrderId(), getName());
+    }
+    
+    public int getPackerId() { return packerId; }
+    public int getBoxesPacked() { return boxesPacked; }
+}
\ No newline at end of file
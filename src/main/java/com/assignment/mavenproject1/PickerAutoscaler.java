@@ -0,0 +1,162 @@
+package com.assignment.mavenproject1;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Grows and shrinks the picker pool from picking-queue depth and picker utilization.
+ *
+ * Every AUTOSCALE_SAMPLE_MS it compares the backlog per active picker and the share of
+ * the sample the pickers were busy against separate up/down thresholds. A change needs
+ * several consecutive samples on the same side plus a cooldown since the last change,
+ * so the pool doesn't flap. Retired pickers finish the order in hand before exiting.
+ */
+public class PickerAutoscaler extends Thread {
+    private final SimulationContext context;
+    private final int minPickers;
+    private final int maxPickers;
+    private final List<PickingStationThread> allPickers;
+    private final Deque<PickingStationThread> activePickers = new ArrayDeque<>();
+    private int nextPickerId = 1;
+
+    private int upStreak = 0;
+    private int downStreak = 0;
+    private long lastChangeTime = 0;
+    private int scaleUps = 0;
+    private int scaleDowns = 0;
+    private int peakPickers = 0;
+    private double pickerSeconds = 0.0;
+    private long sampledMs = 0;
+
+    // Backlog spikes: time from the queue first exceeding the scale-up level until it is empty again
+    private final LatencyHistogram backlogDrainTimes = new LatencyHistogram();
+    private long spikeStartTime = -1;
+
+    public PickerAutoscaler(SimulationContext context, int minPickers, int maxPickers,
+                            List<PickingStationThread> allPickers) {
+        super("PickerAutoscaler-1");
+        this.context = context;
+        this.minPickers = Math.max(1, minPickers);
+        this.maxPickers = Math.max(this.minPickers, maxPickers);
+        this.allPickers = allPickers;
+        setDaemon(true);
+    }
+
+    /**
+     * Start the initial (minimum) pool; call before starting the autoscaler thread
+     */
+    public void startInitialPickers() {
+        for (int i = 0; i < minPickers; i++) {
+            addPicker();
+        }
+        lastChangeTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void run() {
+        Log.info("PickerAutoscaler: Starting - {}..{} pickers (Thread: {})", minPickers, maxPickers, getName());
+
+        long lastSample = System.nanoTime();
+        long lastBusy = totalBusyNanos();
+        try {
+            // Until the last picker has passed end-of-stream on to the packers
+            while (context.isRunning() && !context.isStageFinished(PipelineStage.PICKING)) {
+                Thread.sleep(Constants.AUTOSCALE_SAMPLE_MS);
+
+                long now = System.nanoTime();
+                long busy = totalBusyNanos();
+                int active = activePickers.size();
+                double utilization = active == 0 ? 0.0
+                        : (double) (busy - lastBusy) / ((double) (now - lastSample) * active);
+                lastSample = now;
+                lastBusy = busy;
+
+                pickerSeconds += active * Constants.AUTOSCALE_SAMPLE_MS / 1000.0;
+                sampledMs += Constants.AUTOSCALE_SAMPLE_MS;
+                evaluate(context.pickingQueue.size(), Math.min(1.0, utilization));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Log.info("PickerAutoscaler: Completed - {} scale-ups, {} scale-downs, peak {} pickers (Thread: {})",
+                 scaleUps, scaleDowns, peakPickers, getName());
+    }
+
+    private void evaluate(int backlog, double utilization) {
+        int active = activePickers.size();
+        long now = System.currentTimeMillis();
+        context.metrics.set(MetricsRegistry.Gauge.PICKER_UTILIZATION_PERCENT, Math.round(utilization * 100));
+
+        boolean overloaded = backlog > active * Constants.AUTOSCALE_UP_BACKLOG_PER_PICKER
+                || utilization > Constants.AUTOSCALE_UP_UTILIZATION;
+        boolean underused = backlog == 0 && utilization < Constants.AUTOSCALE_DOWN_UTILIZATION;
+        upStreak = overloaded ? upStreak + 1 : 0;
+        downStreak = underused ? downStreak + 1 : 0;
+
+        trackBacklogSpike(backlog, active, now);
+
+        boolean cooledDown = now - lastChangeTime >= Constants.AUTOSCALE_COOLDOWN_MS;
+        if (upStreak >= Constants.AUTOSCALE_UP_SAMPLES && active < maxPickers && cooledDown) {
+            PickingStationThread picker = addPicker();
+            scaleUps++;
+            context.metrics.increment(MetricsRegistry.Metric.PICKERS_ADDED);
+            Log.info("PickerAutoscaler: Backlog {} at {}% utilization - added {} ({} pickers)",
+                     backlog, Math.round(utilization * 100), picker.getName(), activePickers.size());
+            upStreak = 0;
+            lastChangeTime = now;
+        } else if (downStreak >= Constants.AUTOSCALE_DOWN_SAMPLES && active > minPickers && cooledDown) {
+            PickingStationThread picker = activePickers.pollLast();
+            picker.retire();
+            scaleDowns++;
+            context.metrics.increment(MetricsRegistry.Metric.PICKERS_RETIRED);
+            context.metrics.set(MetricsRegistry.Gauge.ACTIVE_PICKERS, activePickers.size());
+            Log.info("PickerAutoscaler: Idle queue at {}% utilization - retiring {} ({} pickers)",
+                     Math.round(utilization * 100), picker.getName(), activePickers.size());
+            downStreak = 0;
+            lastChangeTime = now;
+        }
+    }
+
+    private void trackBacklogSpike(int backlog, int active, long now) {
+        if (spikeStartTime < 0 && backlog > active * Constants.AUTOSCALE_UP_BACKLOG_PER_PICKER) {
+            spikeStartTime = now;
+        } else if (spikeStartTime >= 0 && backlog == 0) {
+            backlogDrainTimes.record(now - spikeStartTime);
+            spikeStartTime = -1;
+        }
+    }
+
+    private PickingStationThread addPicker() {
+        PickingStationThread picker = new PickingStationThread(context, nextPickerId++);
+        activePickers.addLast(picker);
+        allPickers.add(picker);
+        peakPickers = Math.max(peakPickers, activePickers.size());
+        context.metrics.set(MetricsRegistry.Gauge.ACTIVE_PICKERS, activePickers.size());
+        context.workers.start(picker);
+        return picker;
+    }
+
+    // Includes retired pickers so the sample-to-sample delta never goes backwards
+    private long totalBusyNanos() {
+        long total = 0;
+        for (PickingStationThread picker : allPickers) {
+            total += picker.getBusyNanos();
+        }
+        return total;
+    }
+
+    public String getSummary() {
+        LatencyHistogram.Snapshot drains = backlogDrainTimes.snapshot();
+        return String.format("%d..%d pickers, peak %d, avg %.2f, %d scale-ups, %d scale-downs, "
+                + "%d backlog spikes drained (p50 %d ms, max %d ms)",
+                minPickers, maxPickers, peakPickers, sampledMs == 0 ? 0.0 : pickerSeconds * 1000.0 / sampledMs,
+                scaleUps, scaleDowns, drains.getCount(), drains.getValueAtPercentile(50), drains.getMax());
+    }
+
+    public int getScaleUps() { return scaleUps; }
+    public int getScaleDowns() { return scaleDowns; }
+    public int getPeakPickers() { return peakPickers; }
+    public LatencyHistogram.Snapshot getBacklogDrainTimes() { return backlogDrainTimes.snapshot(); }
+}
@@ -0,0 +1,132 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Simplified Picking Station Thread
+ */
+public class PickingStationThread extends Thread {
+    private final int pickerId;
+    private final SimulationContext context;
+    private final RandomStream random;
+    private int ordersPicked = 0;
+    
+    // Autoscaling: busy time for utilization sampling, retirement after the current order
+    private volatile long busyNanos = 0;
+    private volatile boolean retiring = false;
+    // retire() wakes the picker only while it is blocked waiting for an order, never mid-order.
+    // runner is the thread executing run() (a virtual thread in VIRTUAL mode). Guarded by waitLock.
+    private final Object waitLock = new Object();
+    private Thread runner;
+    private boolean waitingForOrder = false;
+    
+    public PickingStationThread(SimulationContext context, int pickerId) {
+        super(Constants.PICKER_THREAD + pickerId);
+        this.pickerId = pickerId;
+        this.context = context;
+        this.random = context.random.stream(getName());
+        context.workerStarted(PipelineStage.PICKING);
+    }
+    
+    @Override
+    public void run() {
+        Log.info("Picker-{}: Starting (Thread: {})", pickerId, getName());
+        synchronized (waitLock) {
+            runner = Thread.currentThread();
+        }
+        
+        try {
+            while (!retiring) {
+                Order order = nextOrder();
+                
+                if (order == SimulationContext.END_OF_ORDERS) {
+                    // Intake has finished and every order ahead of the marker is taken
+                    if (SimulationContext.passEndOfStream(context.pickingQueue, order)) {
+                        break;
+                    }
+                    continue;
+                }
+                
+                if (order != null) {
+                    long busyStart = System.nanoTime();
+                    order.markStarted(PipelineStage.PICKING, System.currentTimeMillis());
+                    
+                    // Simple rejection check
+                    if (random.nextDouble() > context.scenario.rejectionRate) {
+                        processOrder(order);
+                    } else {
+                        context.recordRejection(MetricsRegistry.Metric.REJECTED_AT_PICKING);
+                        context.journal.rejected(order, PipelineStage.PICKING, System.currentTimeMillis());
+                        String[] pickingReasons = {"out-of-stock items", "damaged items on shelf", "missing inventory"};
+                        String reason = pickingReasons[random.nextInt(pickingReasons.length)];
+                        Log.debug("Picker-{}: Order #{} rejected at picking ({}) (Thread: {})",
+                                  pickerId, order.getOrderId(), reason, getName());
+                    }
+                    busyNanos = busyNanos + (System.nanoTime() - busyStart);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            context.workerFinished(PipelineStage.PICKING);
+        }
+        
+        Log.info("Picker-{}: {} - {} orders picked (Thread: {})",
+                 pickerId, retiring ? "Retired" : "Completed", ordersPicked, getName());
+    }
+    
+    // Blocks until an order arrives; null once retired
+    private Order nextOrder() throws InterruptedException {
+        synchronized (waitLock) {
+            if (retiring) {
+                return null;
+            }
+            waitingForOrder = true;
+        }
+        try {
+            return context.pickingQueue.take();
+        } catch (InterruptedException e) {
+            if (retiring) {
+                return null;
+            }
+            throw e;
+        } finally {
+            synchronized (waitLock) {
+                waitingForOrder = false;
+                // retire() may have interrupted just as an order arrived - don't abort that order
+                if (retiring) {
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+    
+    private void processOrder(Order order) throws InterruptedException {
+        // Simulate picking time
+        int pickingTime = context.scenario.processingTime(random);
+        Thread.sleep(pickingTime);
+        
+        ordersPicked++;
+        context.metrics.increment(MetricsRegistry.Metric.ORDERS_PICKED);
+        long now = System.currentTimeMillis();
+        order.markCompleted(PipelineStage.PICKING, now);
+        order.markEnqueued(PipelineStage.PACKING, now);
+        context.journal.order(JournalEvent.ORDER_PICKED, order, now);
+        context.packingQueue.put(order);
+        
+        Log.debug("Picker-{}: Order #{} picked (Thread: {})", pickerId, order.getOrderId(), getName());
+    }
+    
+    // Finish the order in hand, then exit (picker pool shrinking)
+    public void retire() {
+        synchronized (waitLock) {
+            retiring = true;
+            if (waitingForOrder) {
+                runner.interrupt();
+            }
+        }
+    }
+    
+    public boolean isRetiring() { return retiring; }
+    public long getBusyNanos() { return busyNanos; }
+    public int getOrdersPicked() { return ordersPicked; }
+    public int getPickerId() { return pickerId; }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Stages an order passes through on its way to a truck.
+ * Each stage is traced with three timestamps: enqueued (handed to the stage),
+ * started (taken by a worker) and completed (handed downstream).
+ */
+public enum PipelineStage {
+    INTAKE("Intake"),
+    PICKING("Picking"),
+    PACKING("Packing"),
+    LABELLING("Labelling"),
+    SORTING("Sorting"),
+    CONTAINER_SEAL("Container seal"),
+    AGV_LOAD("AGV load"),
+    TRUCK_DEPARTURE("Truck departure");
+
+    private final String displayName;
+
+    PipelineStage(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
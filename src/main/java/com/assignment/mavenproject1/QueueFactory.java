@@ -0,0 +1,52 @@
+package com.assignment.mavenproject1;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Builds the inter-stage queues from system properties:
+ *   swiftcart.queue.type      linked (default) | ring
+ *   swiftcart.queue.capacity  ring capacity, rounded up to a power of two
+ *   swiftcart.queue.wait      blocking (default) | spinning | parking
+ * Each setting can be overridden per queue, e.g. -Dswiftcart.queue.sortingQueue.type=linked
+ */
+public class QueueFactory {
+
+    public static final String TYPE_LINKED = "linked";
+    public static final String TYPE_RING = "ring";
+
+    // SPSC only when the topology guarantees one producer thread and one consumer thread
+    public static <E> BlockingQueue<E> create(String name, int producers, int consumers) {
+        return create(name, producers, consumers, Constants.QUEUE_CAPACITY);
+    }
+    
+    // defaultCapacity applies when swiftcart.queue.capacity is not set
+    public static <E> BlockingQueue<E> create(String name, int producers, int consumers, int defaultCapacity) {
+        String type = setting(name, "type", TYPE_LINKED);
+        if (TYPE_LINKED.equalsIgnoreCase(type)) {
+            return new LinkedBlockingQueue<>();
+        }
+        if (!TYPE_RING.equalsIgnoreCase(type)) {
+            throw new IllegalArgumentException("Unknown queue type for " + name + ": " + type);
+        }
+
+        int capacity = Integer.parseInt(setting(name, "capacity", String.valueOf(defaultCapacity)));
+        WaitStrategy waitStrategy = WaitStrategy.parse(setting(name, "wait", WaitStrategy.BLOCKING.name()));
+        if (producers == 1 && consumers == 1) {
+            return new SpscRingBuffer<>(capacity, waitStrategy);
+        }
+        return new MpmcRingBuffer<>(capacity, waitStrategy);
+    }
+
+    public static String describe(BlockingQueue<?> queue) {
+        if (queue instanceof RingBufferQueue) {
+            return queue.getClass().getSimpleName() + "(" + ((RingBufferQueue<?>) queue).getCapacity() + ")";
+        }
+        return queue.getClass().getSimpleName();
+    }
+
+    private static String setting(String queueName, String key, String defaultValue) {
+        String global = System.getProperty("swiftcart.queue." + key, defaultValue);
+        return System.getProperty("swiftcart.queue." + queueName + "." + key, global);
+    }
+}
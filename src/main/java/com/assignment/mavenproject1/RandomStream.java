@@ -0,0 +1,91 @@
+package com.assignment.mavenproject1;
+
+import java.util.SplittableRandom;
+
+/**
+ * The random decisions of one component: processing times, rejections, destinations,
+ * breakdowns. Only the two draws the stages make, so a stream can be seeded, recorded or
+ * replayed (see SimulationRandom) without the stages knowing which.
+ *
+ * A stream belongs to one thread; none of the implementations are thread-safe.
+ */
+public abstract class RandomStream {
+
+    // Uniform in [0, bound)
+    public abstract int nextInt(int bound);
+
+    // Uniform in [0, 1)
+    public abstract double nextDouble();
+
+    // Independent stream from a seed (see SimulationRandom for how component seeds are derived)
+    public static RandomStream seeded(long seed) {
+        return new Splittable(new SplittableRandom(seed));
+    }
+
+    // The sequence of new java.util.Random(seed), e.g. the single seeded Random of a discrete-event run
+    public static JavaRandom javaRandom(long seed) {
+        return new JavaRandom(seed);
+    }
+
+    private static final class Splittable extends RandomStream {
+        private final SplittableRandom random;
+
+        Splittable(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public int nextInt(int bound) { return random.nextInt(bound); }
+
+        @Override
+        public double nextDouble() { return random.nextDouble(); }
+    }
+
+    /**
+     * java.util.Random's 48-bit linear congruential generator as its Javadoc specifies it, draw
+     * for draw, but with the state readable so a checkpoint can save it (see SimulationCheckpoint)
+     */
+    public static final class JavaRandom extends RandomStream {
+        private static final long MULTIPLIER = 0x5DEECE66DL;
+        private static final long ADDEND = 0xBL;
+        private static final long MASK = (1L << 48) - 1;
+        private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+        private long state;
+
+        private JavaRandom(long seed) {
+            this.state = (seed ^ MULTIPLIER) & MASK;
+        }
+
+        private int next(int bits) {
+            state = (state * MULTIPLIER + ADDEND) & MASK;
+            return (int) (state >>> (48 - bits));
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            if (bound <= 0) {
+                throw new IllegalArgumentException("bound must be positive");
+            }
+            int r = next(31);
+            int m = bound - 1;
+            if ((bound & m) == 0) {
+                return (int) ((bound * (long) r) >> 31);
+            }
+            for (int u = r; u - (r = u % bound) + m < 0; u = next(31)) {
+                // Reject the top partial range so every value is equally likely
+            }
+            return r;
+        }
+
+        @Override
+        public double nextDouble() {
+            return (((long) next(26) << 27) + next(27)) * DOUBLE_UNIT;
+        }
+
+        // The 48-bit state, not the seed; restore with setState
+        long getState() { return state; }
+
+        void setState(long state) { this.state = state & MASK; }
+    }
+}
@@ -1,21 +1,28 @@
+package com.assignment.mavenproject1;
+
 /**
  * Simplified Reject Handler
  */
 public class RejectHandler extends Thread {
+    private final SimulationContext context;
     private int rejectedOrdersProcessed = 0;
     
-    public RejectHandler() {
+    public RejectHandler(SimulationContext context) {
         super("RejectHandler-1");
+        this.context = context;
     }
     
     @Override
     public void run() {
-        System.out.println("RejectHandler: Starting (Thread: " + getName() + ")");
+        Log.info("RejectHandler: Starting (Thread: {})", getName());
         
         try {
-            while (SharedResources.isRunning()) {
+            while (context.isRunning()) {
+                // Woken when a stage records a rejection (or on shutdown)
+                context.awaitRejections(rejectedOrdersProcessed);
+                
                 // Simulate processing rejected orders
-                int currentRejected = SharedResources.ordersRejected.get();
+                int currentRejected = (int) context.metrics.getTotalRejected();
                 if (currentRejected > rejectedOrdersProcessed) {
                     int newRejections = currentRejected - rejectedOrdersProcessed;
                     
@@ -24,28 +31,26 @@ public class RejectHandler extends Thread {
                         rejectedOrdersProcessed++;
                         
                         if (rejectedOrdersProcessed % 10 == 0) {
-                            System.out.println("RejectHandler: Processed " + rejectedOrdersProcessed + 
-                                             " rejected orders (Thread: " + getName() + ")");
+                            Log.debug("RejectHandler: Processed {} rejected orders (Thread: {})",
+                                      rejectedOrdersProcessed, getName());
                         }
                     }
                 }
-                
-                Thread.sleep(1000);
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
         
-        System.out.println("RejectHandler: Completed - " + rejectedOrdersProcessed + 
-                          " rejected orders processed (Thread: " + getName() + ")");
+        Log.info("RejectHandler: Completed - {} rejected orders processed (Thread: {})",
+                 rejectedOrdersProcessed, getName());
     }
     
     public void forceProcessRemainingBatch() {
         // Process any remaining rejections
-        int remaining = SharedResources.ordersRejected.get() - rejectedOrdersProcessed;
+        int remaining = (int) context.metrics.getTotalRejected() - rejectedOrdersProcessed;
         if (remaining > 0) {
-            System.out.println("RejectHandler: Force processing " + remaining + 
-                             " remaining rejections (Thread: " + getName() + ")");
+            Log.info("RejectHandler: Force processing {} remaining rejections (Thread: {})",
+                     remaining, getName());
             rejectedOrdersProcessed += remaining;
         }
     }
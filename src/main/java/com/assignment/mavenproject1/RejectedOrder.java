@@ -1,5 +1,7 @@
+package com.assignment.mavenproject1;
+
 /**
- * Simplified Rejected Order (Optional - basic rejection tracking in SharedResources)
+ * Simplified Rejected Order (Optional - basic rejection tracking in SimulationContext)
  */
 public class RejectedOrder {
     private final int orderId;
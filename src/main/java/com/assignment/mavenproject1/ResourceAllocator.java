@@ -0,0 +1,274 @@
+package com.assignment.mavenproject1;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Grants AGV, loading-bay and bay-capacity permits together, all or nothing.
+ *
+ * A caller never holds part of a request while waiting for the rest, so two loaders cannot
+ * each sit on the permit the other needs. Waiters are served in arrival order, but a later
+ * request may go first if it takes nothing an earlier waiter is short of: a truck wanting a
+ * bay is not held up behind a loader waiting for bay capacity that only that truck can free.
+ *
+ * For every resource the allocator records how long requests spent blocked because that
+ * resource was short (ms per request), which is where loader time goes. Permits and wait
+ * figures are published to atomics, so readers (the metrics endpoint) never take the lock.
+ */
+public class ResourceAllocator {
+
+    public enum Resource {
+        AGV("agv"),
+        LOADING_BAY("loading_bay"),
+        BAY_CAPACITY("container_capacity");
+
+        private final String key;
+
+        Resource(String key) {
+            this.key = key;
+        }
+
+        public String getKey() { return key; }
+    }
+
+    private static final Resource[] RESOURCES = Resource.values();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int[] capacity = new int[RESOURCES.length];
+    // Guarded by lock
+    private final int[] available = new int[RESOURCES.length];
+    private final Deque<Request> waiters = new ArrayDeque<>();
+    // Written under the lock, read without it
+    private final AtomicIntegerArray publishedAvailable = new AtomicIntegerArray(RESOURCES.length);
+    private final AtomicIntegerArray waiting = new AtomicIntegerArray(RESOURCES.length);
+    private final AtomicLongArray blockedNanos = new AtomicLongArray(RESOURCES.length);
+    private final AtomicLongArray grants = new AtomicLongArray(RESOURCES.length);
+    private final Map<Resource, LatencyHistogram> waitTimes = new EnumMap<>(Resource.class);
+
+    public ResourceAllocator(int agvs, int bays, int bayCapacity) {
+        capacity[Resource.AGV.ordinal()] = agvs;
+        capacity[Resource.LOADING_BAY.ordinal()] = bays;
+        capacity[Resource.BAY_CAPACITY.ordinal()] = bayCapacity;
+        for (Resource resource : RESOURCES) {
+            available[resource.ordinal()] = capacity[resource.ordinal()];
+            publishedAvailable.set(resource.ordinal(), capacity[resource.ordinal()]);
+            waitTimes.put(resource, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Block until every permit in the request can be taken at once, then take them.
+     * Interruptible; an interrupted request holds nothing.
+     */
+    public void acquire(int agvs, int bays, int bayCapacity) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            Request request = new Request(agvs, bays, bayCapacity, lock.newCondition());
+            enqueue(request);
+            grantWaiters();
+            try {
+                while (!request.granted) {
+                    request.condition.await();
+                }
+            } catch (InterruptedException e) {
+                if (request.granted) {
+                    // Granted while being interrupted: keep the permits, the caller releases them
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                waiters.remove(request);
+                countWaiting(request, -1);
+                // Leaving may let the requests behind this one through
+                grantWaiters();
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(int agvs, int bays, int bayCapacity) {
+        lock.lock();
+        try {
+            available[Resource.AGV.ordinal()] += agvs;
+            available[Resource.LOADING_BAY.ordinal()] += bays;
+            available[Resource.BAY_CAPACITY.ordinal()] += bayCapacity;
+            grantWaiters();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take a permit out of service (a broken-down AGV). If every permit is held, available goes
+     * negative and the next release only pays it back.
+     */
+    public void withdraw(Resource resource) {
+        lock.lock();
+        try {
+            available[resource.ordinal()]--;
+            publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Put a withdrawn permit back in service
+    public void restore(Resource resource) {
+        lock.lock();
+        try {
+            available[resource.ordinal()]++;
+            grantWaiters();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // In arrival order; a request that cannot be granted reserves what it is short of
+    private void grantWaiters() {
+        boolean[] reserved = new boolean[RESOURCES.length];
+        long now = System.nanoTime();
+        Iterator<Request> it = waiters.iterator();
+        while (it.hasNext()) {
+            Request request = it.next();
+            request.chargeBlockedTime(now);
+            if (!request.conflicts(reserved) && request.fits(available)) {
+                it.remove();
+                countWaiting(request, -1);
+                grant(request);
+                request.condition.signal();
+            } else {
+                request.reserveShortfall(available, reserved, now);
+            }
+        }
+        publish();
+    }
+
+    private void grant(Request request) {
+        request.granted = true;
+        for (int i = 0; i < RESOURCES.length; i++) {
+            if (request.needs[i] > 0) {
+                available[i] -= request.needs[i];
+                grants.incrementAndGet(i);
+                blockedNanos.addAndGet(i, request.blocked[i]);
+                waitTimes.get(RESOURCES[i]).record(request.blocked[i] / 1_000_000);
+            }
+        }
+    }
+
+    private void enqueue(Request request) {
+        waiters.addLast(request);
+        countWaiting(request, 1);
+    }
+
+    private void countWaiting(Request request, int delta) {
+        for (int i = 0; i < RESOURCES.length; i++) {
+            if (request.needs[i] > 0) {
+                waiting.addAndGet(i, delta);
+            }
+        }
+    }
+
+    private void publish() {
+        for (int i = 0; i < RESOURCES.length; i++) {
+            publishedAvailable.set(i, available[i]);
+        }
+    }
+
+    public int getAvailable(Resource resource) {
+        return publishedAvailable.get(resource.ordinal());
+    }
+
+    public int getCapacity(Resource resource) {
+        return capacity[resource.ordinal()];
+    }
+
+    // Requests waiting that include the resource
+    public int getWaiting(Resource resource) {
+        return waiting.get(resource.ordinal());
+    }
+
+    public long getBlockedMillis(Resource resource) {
+        return blockedNanos.get(resource.ordinal()) / 1_000_000;
+    }
+
+    public LatencyHistogram.Snapshot getWaitTimes(Resource resource) {
+        return waitTimes.get(resource).snapshot();
+    }
+
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (Resource resource : RESOURCES) {
+            LatencyHistogram.Snapshot waits = waitTimes.get(resource).snapshot();
+            summary.append(summary.length() > 0 ? ", " : "")
+                   .append(String.format("%s %d grants, blocked %d ms (p99 %d ms)",
+                           resource.getKey(), grants.get(resource.ordinal()),
+                           getBlockedMillis(resource), waits.getValueAtPercentile(99)));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * One waiting acquire(); fields guarded by the allocator lock
+     */
+    private static final class Request {
+        final int[] needs = new int[RESOURCES.length];
+        final Condition condition;
+        // Time spent short of each resource, and what was short at the last check
+        final long[] blocked = new long[RESOURCES.length];
+        final boolean[] shortOf = new boolean[RESOURCES.length];
+        long lastCheck = System.nanoTime();
+        boolean granted = false;
+
+        Request(int agvs, int bays, int bayCapacity, Condition condition) {
+            needs[Resource.AGV.ordinal()] = agvs;
+            needs[Resource.LOADING_BAY.ordinal()] = bays;
+            needs[Resource.BAY_CAPACITY.ordinal()] = bayCapacity;
+            this.condition = condition;
+        }
+
+        boolean fits(int[] available) {
+            for (int i = 0; i < needs.length; i++) {
+                if (needs[i] > available[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean conflicts(boolean[] reserved) {
+            for (int i = 0; i < needs.length; i++) {
+                if (needs[i] > 0 && reserved[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void reserveShortfall(int[] available, boolean[] reserved, long now) {
+            for (int i = 0; i < needs.length; i++) {
+                shortOf[i] = needs[i] > available[i];
+                if (shortOf[i]) {
+                    reserved[i] = true;
+                }
+            }
+            lastCheck = now;
+        }
+
+        void chargeBlockedTime(long now) {
+            for (int i = 0; i < needs.length; i++) {
+                if (shortOf[i]) {
+                    blocked[i] += now - lastCheck;
+                }
+            }
+            lastCheck = now;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.assignment.mavenproject1;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, preallocated ring-buffer BlockingQueue.
+ * Subclasses supply the lock-free non-blocking offer/poll; the blocking calls wait
+ * with the configured WaitStrategy. Iteration is a weakly consistent snapshot meant
+ * for monitoring; removing anything but the head is not supported, as a slot in the
+ * middle of the ring cannot be taken out without a lock.
+ */
+public abstract class RingBufferQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    protected final int capacity;
+    protected final int mask;
+    private final WaitStrategy.Waiter notEmpty;
+    private final WaitStrategy.Waiter notFull;
+
+    protected RingBufferQueue(int requestedCapacity, WaitStrategy waitStrategy) {
+        if (requestedCapacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + requestedCapacity);
+        }
+        int size = 1;
+        while (size < requestedCapacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = size - 1;
+        this.notEmpty = waitStrategy.newWaiter();
+        this.notFull = waitStrategy.newWaiter();
+    }
+
+    // Lock-free single attempt, implemented by SPSC / MPMC variants
+    protected abstract boolean tryOffer(E e);
+
+    protected abstract E tryPoll();
+
+    protected abstract E tryPeek();
+
+    protected abstract List<E> snapshot();
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (tryOffer(e)) {
+            notEmpty.signal();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public E poll() {
+        E e = tryPoll();
+        if (e != null) {
+            notFull.signal();
+        }
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        return tryPeek();
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        while (!offer(e)) {
+            notFull.await(() -> size() < capacity, Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        while (!offer(e)) {
+            remaining = notFull.await(() -> size() < capacity, remaining);
+            if (remaining <= 0) {
+                return offer(e);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E e;
+        while ((e = poll()) == null) {
+            notEmpty.await(() -> !isEmpty(), Long.MAX_VALUE);
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        E e;
+        while ((e = poll()) == null) {
+            remaining = notEmpty.await(() -> !isEmpty(), remaining);
+            if (remaining <= 0) {
+                return poll();
+            }
+        }
+        return e;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int drained = 0;
+        E e;
+        while (drained < maxElements && (e = poll()) != null) {
+            c.add(e);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return Collections.unmodifiableList(snapshot()).iterator();
+    }
+
+    // AbstractCollection would remove through the iterator, i.e. from the snapshot, and report success
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException("A ring buffer only removes from the head");
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException("A ring buffer only removes from the head");
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException("A ring buffer only removes from the head");
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException("A ring buffer only removes from the head");
+    }
+
+    // Collects slot contents between two positions, skipping slots a racing consumer already cleared
+    protected static <E> List<E> collect(AtomicReferenceArray<E> buffer, int mask, long from, long to) {
+        List<E> items = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            E e = buffer.get((int) (i & mask));
+            if (e != null) {
+                items.add(e);
+            }
+        }
+        return items;
+    }
+
+    public int getCapacity() { return capacity; }
+}
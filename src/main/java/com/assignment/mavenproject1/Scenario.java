@@ -0,0 +1,161 @@
+package com.assignment.mavenproject1;
+
+/**
+ * The settings of one run, validated and frozen (see ScenarioConfig for the keys and bounds).
+ * Each SimulationContext and DiscreteEventSimulation reads its own, so runs sharing a JVM
+ * can use different scenarios.
+ *
+ * The random-time helpers draw min + nextInt(max - min), one draw per call, so a seeded run
+ * consumes its random stream the same way whatever the values.
+ */
+public final class Scenario {
+
+    private final String name;
+    private final String overrides;
+
+    // Intake
+    public final int orderIntervalMs;
+    public final int totalOrders;
+    public final int intakeBurstEvery;
+    public final double rejectionRate;
+
+    // Stations
+    public final int pickers;
+    public final int packers;
+    public final int labellers;
+    public final int sorters;
+    public final int minPickers;
+    public final int maxPickers;
+
+    // Boxes, containers and queues
+    public final int boxesPerBatch;
+    public final int boxesPerContainer;
+    public final int bayCapacity;
+    public final int containerPoolSize;
+    public final int queueCapacity;
+
+    // AGVs, bays and trucks
+    public final int agvs;
+    public final int loadingBays;
+    public final int trucks;
+    public final int truckCapacity;
+    public final int truckDepartureTimeoutMs;
+    public final int truckLowBacklog;
+    public final int truckRecheckMs;
+    public final int truckTripMinMs;
+    public final int truckTripMaxMs;
+
+    // Failures
+    public final double agvBreakdownProbability;
+    public final int agvCheckMinMs;
+    public final int agvCheckMaxMs;
+    public final int agvRecoveryMs;
+    public final double truckBreakdownProbability;
+    public final int truckRepairMinMs;
+    public final int truckRepairMaxMs;
+
+    // Processing times
+    public final int processingMinMs;
+    public final int processingMaxMs;
+    public final int sortMinMs;
+    public final int sortMaxMs;
+    public final int orderVerifyMs;
+    public final int boxVerifyMs;
+    public final int labelPrintMs;
+    public final int scanMs;
+
+    // Run length
+    public final int simulationDurationMs;
+    public final int drainTimeoutMs;
+
+    Scenario(ScenarioConfig config) {
+        name = config.getName();
+        overrides = config.getOverrides();
+
+        orderIntervalMs = config.getInt("orders.interval.ms");
+        totalOrders = config.getInt("orders.total");
+        intakeBurstEvery = config.getInt("intake.burst.every");
+        rejectionRate = config.get("rejection.rate");
+
+        pickers = config.getInt("pickers");
+        packers = config.getInt("packers");
+        labellers = config.getInt("labellers");
+        sorters = config.getInt("sorters");
+        minPickers = config.getInt("autoscale.min.pickers");
+        maxPickers = config.getInt("autoscale.max.pickers");
+
+        boxesPerBatch = config.getInt("boxes.per.batch");
+        boxesPerContainer = config.getInt("boxes.per.container");
+        bayCapacity = config.getInt("bay.capacity");
+        containerPoolSize = config.getInt("container.pool.size");
+        queueCapacity = config.getInt("queue.capacity");
+
+        agvs = config.getInt("agvs");
+        loadingBays = config.getInt("loading.bays");
+        trucks = config.getInt("trucks");
+        truckCapacity = config.getInt("truck.capacity");
+        truckDepartureTimeoutMs = config.getInt("truck.departure.timeout.ms");
+        truckLowBacklog = config.getInt("truck.low.backlog");
+        truckRecheckMs = config.getInt("truck.recheck.ms");
+        truckTripMinMs = config.getInt("truck.trip.min.ms");
+        truckTripMaxMs = config.getInt("truck.trip.max.ms");
+
+        agvBreakdownProbability = config.get("agv.breakdown.probability");
+        agvCheckMinMs = config.getInt("agv.check.min.ms");
+        agvCheckMaxMs = config.getInt("agv.check.max.ms");
+        agvRecoveryMs = config.getInt("agv.recovery.ms");
+        truckBreakdownProbability = config.get("truck.breakdown.probability");
+        truckRepairMinMs = config.getInt("truck.repair.min.ms");
+        truckRepairMaxMs = config.getInt("truck.repair.max.ms");
+
+        processingMinMs = config.getInt("processing.min.ms");
+        processingMaxMs = config.getInt("processing.max.ms");
+        sortMinMs = config.getInt("sorting.min.ms");
+        sortMaxMs = config.getInt("sorting.max.ms");
+        orderVerifyMs = config.getInt("order.verify.ms");
+        boxVerifyMs = config.getInt("box.verify.ms");
+        labelPrintMs = config.getInt("label.print.ms");
+        scanMs = config.getInt("scan.ms");
+
+        simulationDurationMs = config.getInt("simulation.duration.ms");
+        drainTimeoutMs = config.getInt("drain.timeout.ms");
+    }
+
+    // The compiled-in defaults
+    public static Scenario defaults() {
+        return ScenarioConfig.defaults().toScenario();
+    }
+
+    // Picking, packing, labelling and AGV load time
+    public int processingTime(RandomStream random) {
+        return processingMinMs + random.nextInt(processingMaxMs - processingMinMs);
+    }
+
+    public int sortTime(RandomStream random) {
+        return random.nextInt(sortMaxMs - sortMinMs) + sortMinMs;
+    }
+
+    // Between two rounds of AGV breakdown checks
+    public int agvCheckInterval(RandomStream random) {
+        return random.nextInt(agvCheckMaxMs - agvCheckMinMs) + agvCheckMinMs;
+    }
+
+    public int truckRepairTime(RandomStream random) {
+        return random.nextInt(truckRepairMaxMs - truckRepairMinMs) + truckRepairMinMs;
+    }
+
+    // Delivery round trip, excluding the rest back at the bay
+    public int truckTripTime(RandomStream random) {
+        return random.nextInt(truckTripMaxMs - truckTripMinMs) + truckTripMinMs;
+    }
+
+    public String getName() { return name; }
+
+    // "agvs=6, trucks=6" - settings that differ from the compiled-in defaults
+    public String getOverrides() { return overrides; }
+
+    @Override
+    public String toString() {
+        return overrides.isEmpty() ? name : name + " (" + overrides + ")";
+    }
+}
@@ -0,0 +1,276 @@
+package com.assignment.mavenproject1;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Scenario settings: the sizes, rates and times in Constants, chosen per run instead of
+ * compiled in.
+ *
+ * A scenario is a properties file of key=value lines, either a bundled profile
+ * (scenarios/NAME.properties on the classpath: small, peak-day, 1m-orders) or a file path.
+ * Keys it leaves out keep the compiled-in default, and --key=value on the command line wins
+ * over the file. Every value is checked against its bounds as it is set, and the ranges
+ * against each other before toScenario() freezes them into the Scenario a run reads.
+ *
+ * Usage: SwiftCartMain [--scenario=peak-day] [--orders.total=20000] [--agvs=6] ...
+ */
+public class ScenarioConfig {
+
+    public static final String DEFAULT = "default";
+
+    // Key -> setting, in the order they are listed; defaults are the compiled-in Constants
+    private static final Map<String, Setting> SETTINGS = new LinkedHashMap<>();
+
+    static {
+        // Intake
+        intSetting("orders.interval.ms", 0, 60_000, Constants.ORDER_INTERVAL_MS);
+        intSetting("orders.total", 1, 100_000_000, Constants.TOTAL_ORDERS);
+        intSetting("intake.burst.every", 1, 1_000_000, Constants.INTAKE_BURST_EVERY);
+        doubleSetting("rejection.rate", 0, 1, Constants.REJECTION_RATE);
+
+        // Stations
+        intSetting("pickers", 1, 256, Constants.MAX_CONCURRENT_PICKERS);
+        intSetting("packers", 1, 256, Constants.PACKER_COUNT);
+        intSetting("labellers", 1, 256, Constants.LABELLER_COUNT);
+        intSetting("sorters", 1, 256, Constants.SORTER_COUNT);
+        intSetting("autoscale.min.pickers", 1, 256, Constants.MIN_PICKERS);
+        intSetting("autoscale.max.pickers", 1, 256, Constants.MAX_PICKERS);
+
+        // Boxes, containers and queues
+        intSetting("boxes.per.batch", 1, 1_000, Constants.BOXES_PER_BATCH);
+        intSetting("boxes.per.container", 1, 10_000, Constants.BOXES_PER_CONTAINER);
+        intSetting("bay.capacity", 1, 10_000, Constants.MAX_CONTAINERS_AT_BAY);
+        intSetting("container.pool.size", 0, 1_000_000, Constants.CONTAINER_POOL_SIZE);
+        intSetting("queue.capacity", 2, 1 << 24, Constants.QUEUE_CAPACITY);
+
+        // AGVs, bays and trucks
+        intSetting("agvs", 1, 256, Constants.MAX_AGVS);
+        intSetting("loading.bays", 1, 256, Constants.MAX_LOADING_BAYS);
+        intSetting("trucks", 1, 256, Constants.TRUCK_COUNT);
+        intSetting("truck.capacity", 1, 10_000, Constants.CONTAINERS_PER_TRUCK);
+        intSetting("truck.departure.timeout.ms", 0, 3_600_000, Constants.TRUCK_DEPARTURE_TIMEOUT_MS);
+        intSetting("truck.low.backlog", 0, 10_000, Constants.TRUCK_LOW_BACKLOG);
+        intSetting("truck.recheck.ms", 1, 60_000, Constants.TRUCK_RECHECK_MS);
+        intSetting("truck.trip.min.ms", 0, 3_600_000, Constants.TRUCK_TRIP_MIN_MS);
+        intSetting("truck.trip.max.ms", 1, 3_600_000, Constants.TRUCK_TRIP_MAX_MS);
+
+        // Failures
+        doubleSetting("agv.breakdown.probability", 0, 1, Constants.AGV_BREAKDOWN_PROBABILITY);
+        intSetting("agv.check.min.ms", 0, 3_600_000, Constants.AGV_CHECK_MIN_MS);
+        intSetting("agv.check.max.ms", 1, 3_600_000, Constants.AGV_CHECK_MAX_MS);
+        intSetting("agv.recovery.ms", 0, 3_600_000, Constants.AGV_RECOVERY_TIME);
+        doubleSetting("truck.breakdown.probability", 0, 1, Constants.TRUCK_BREAKDOWN_PROBABILITY);
+        intSetting("truck.repair.min.ms", 0, 3_600_000, Constants.TRUCK_REPAIR_MIN_MS);
+        intSetting("truck.repair.max.ms", 1, 3_600_000, Constants.TRUCK_REPAIR_MAX_MS);
+
+        // Processing times
+        intSetting("processing.min.ms", 0, 60_000, Constants.PROCESSING_TIME_MIN);
+        intSetting("processing.max.ms", 1, 60_000, Constants.PROCESSING_TIME_MAX);
+        intSetting("sorting.min.ms", 0, 60_000, Constants.SORT_TIME_MIN_MS);
+        intSetting("sorting.max.ms", 1, 60_000, Constants.SORT_TIME_MAX_MS);
+        intSetting("order.verify.ms", 0, 60_000, Constants.ORDER_VERIFY_TIME_MS);
+        intSetting("box.verify.ms", 0, 60_000, Constants.BOX_VERIFY_TIME_MS);
+        intSetting("label.print.ms", 0, 60_000, Constants.LABEL_PRINT_TIME_MS);
+        intSetting("scan.ms", 0, 60_000, Constants.SCAN_TIME_MS);
+
+        // Run length
+        intSetting("simulation.duration.ms", 1, Integer.MAX_VALUE, Constants.SIMULATION_DURATION_MS);
+        intSetting("drain.timeout.ms", 1, Integer.MAX_VALUE, Constants.DRAIN_TIMEOUT_MS);
+    }
+
+    private final String name;
+    private final Map<String, Double> values = new LinkedHashMap<>();
+
+    private ScenarioConfig(String name) {
+        this.name = name;
+        for (Setting setting : SETTINGS.values()) {
+            values.put(setting.key, setting.defaultValue);
+        }
+    }
+
+    // The compiled-in defaults
+    public static ScenarioConfig defaults() {
+        return new ScenarioConfig(DEFAULT);
+    }
+
+    /**
+     * A bundled profile by name, or a properties file by path; unknown keys are rejected
+     */
+    public static ScenarioConfig load(String scenario) {
+        ScenarioConfig config = new ScenarioConfig(scenario);
+        if (scenario.equals(DEFAULT)) {
+            return config;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = open(scenario)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read scenario " + scenario + ": " + e.getMessage());
+        }
+        try {
+            for (String key : properties.stringPropertyNames()) {
+                config.set(key, properties.getProperty(key));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Scenario " + scenario + ": " + e.getMessage());
+        }
+        return config;
+    }
+
+    // An independent copy to override further, e.g. one point of a batch sweep
+    public ScenarioConfig copy() {
+        ScenarioConfig copy = new ScenarioConfig(name);
+        copy.values.putAll(values);
+        return copy;
+    }
+
+    /**
+     * The defaults with the overrides of getOverrides() applied, under the given name, e.g. the
+     * scenario a checkpoint was written with
+     */
+    public static ScenarioConfig fromOverrides(String name, String overrides) {
+        ScenarioConfig config = new ScenarioConfig(name);
+        for (String setting : overrides.split(",")) {
+            int equals = setting.indexOf('=');
+            if (equals > 0) {
+                config.set(setting.substring(0, equals).trim(), setting.substring(equals + 1));
+            }
+        }
+        return config;
+    }
+
+    private static InputStream open(String scenario) throws IOException {
+        InputStream bundled = ScenarioConfig.class.getResourceAsStream(
+                "/scenarios/" + scenario.toLowerCase() + ".properties");
+        if (bundled != null) {
+            return bundled;
+        }
+        if (!new File(scenario).isFile()) {
+            throw new IllegalArgumentException("Unknown scenario " + scenario
+                                               + " - expected small, peak-day, 1m-orders or a properties file");
+        }
+        return new FileInputStream(scenario);
+    }
+
+    public static boolean isSetting(String key) {
+        return SETTINGS.containsKey(key);
+    }
+
+    /**
+     * Override one setting; the value must parse and lie within the setting's bounds
+     */
+    public void set(String key, String value) {
+        Setting setting = SETTINGS.get(key);
+        if (setting == null) {
+            throw new IllegalArgumentException("Unknown scenario setting: " + key);
+        }
+        double parsed;
+        try {
+            String trimmed = value.trim().replace("_", "");
+            parsed = setting.integer ? Long.parseLong(trimmed) : Double.parseDouble(trimmed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be " + (setting.integer ? "an integer" : "a number")
+                                               + ", got \"" + value + "\"");
+        }
+        if (!(parsed >= setting.min && parsed <= setting.max)) {
+            throw new IllegalArgumentException(key + " must be between " + format(setting, setting.min)
+                                               + " and " + format(setting, setting.max) + ", got " + value.trim());
+        }
+        values.put(key, parsed);
+    }
+
+    public int getInt(String key) {
+        return (int) get(key);
+    }
+
+    public double get(String key) {
+        Double value = values.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown scenario setting: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Settings that only make sense together: the random ranges and the autoscaler bounds
+     */
+    public void validate() {
+        checkRange("processing.min.ms", "processing.max.ms");
+        checkRange("sorting.min.ms", "sorting.max.ms");
+        checkRange("agv.check.min.ms", "agv.check.max.ms");
+        checkRange("truck.repair.min.ms", "truck.repair.max.ms");
+        checkRange("truck.trip.min.ms", "truck.trip.max.ms");
+        if (get("autoscale.min.pickers") > get("autoscale.max.pickers")) {
+            throw new IllegalArgumentException("autoscale.min.pickers must not exceed autoscale.max.pickers");
+        }
+        if (get("boxes.per.batch") > get("boxes.per.container")) {
+            throw new IllegalArgumentException("boxes.per.batch must not exceed boxes.per.container");
+        }
+    }
+
+    // Times are drawn from [min, max), so the range cannot be empty
+    private void checkRange(String minKey, String maxKey) {
+        if (get(minKey) >= get(maxKey)) {
+            throw new IllegalArgumentException(minKey + " must be less than " + maxKey);
+        }
+    }
+
+    /**
+     * Validate, then freeze the settings for one run
+     */
+    public Scenario toScenario() {
+        validate();
+        return new Scenario(this);
+    }
+
+    public String getName() { return name; }
+
+    // "orders.total=600, agvs=3, ..." - settings that differ from the compiled-in defaults
+    public String getOverrides() {
+        StringBuilder out = new StringBuilder();
+        for (Setting setting : SETTINGS.values()) {
+            double value = values.get(setting.key);
+            if (value != setting.defaultValue) {
+                out.append(out.length() > 0 ? ", " : "").append(setting.key).append('=').append(format(setting, value));
+            }
+        }
+        return out.toString();
+    }
+
+    private static String format(Setting setting, double value) {
+        return setting.integer ? String.valueOf((long) value) : String.valueOf(value);
+    }
+
+    private static void intSetting(String key, int min, int max, int defaultValue) {
+        SETTINGS.put(key, new Setting(key, true, min, max, defaultValue));
+    }
+
+    private static void doubleSetting(String key, double min, double max, double defaultValue) {
+        SETTINGS.put(key, new Setting(key, false, min, max, defaultValue));
+    }
+
+    /**
+     * One key: its bounds and compiled-in default
+     */
+    private static final class Setting {
+        final String key;
+        final boolean integer;
+        final double min;
+        final double max;
+        final double defaultValue;
+
+        Setting(String key, boolean integer, double min, double max, double defaultValue) {
+            this.key = key;
+            this.integer = integer;
+            this.min = min;
+            this.max = max;
+            this.defaultValue = defaultValue;
+        }
+    }
+}
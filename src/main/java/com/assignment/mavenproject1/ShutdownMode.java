@@ -0,0 +1,21 @@
+package com.assignment.mavenproject1;
+
+/**
+ * When a threaded run ends (--shutdown=drain|intake|duration).
+ */
+public enum ShutdownMode {
+    // Every accepted order has left on a truck: end-of-stream reached the last truck
+    DRAIN,
+    // Intake has generated TOTAL_ORDERS; work still in the pipeline is abandoned
+    INTAKE_EXHAUSTED,
+    // Drained, or SIMULATION_DURATION_MS elapsed, whichever comes first
+    DURATION;
+
+    public static ShutdownMode parse(String value) {
+        String mode = value.trim().toUpperCase();
+        if (mode.equals("INTAKE")) {
+            return INTAKE_EXHAUSTED;
+        }
+        return valueOf(mode);
+    }
+}
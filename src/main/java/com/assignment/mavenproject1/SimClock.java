@@ -0,0 +1,24 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Virtual clock for the discrete-event engine.
+ * Time only moves when the scheduler advances it to the next event.
+ */
+public class SimClock {
+    private long now = 0;
+    
+    public long now() {
+        return now;
+    }
+    
+    public void advanceTo(long time) {
+        if (time < now) {
+            throw new IllegalStateException("SimClock cannot move backwards: " + time + " < " + now);
+        }
+        now = time;
+    }
+    
+    public void reset() {
+        now = 0;
+    }
+}
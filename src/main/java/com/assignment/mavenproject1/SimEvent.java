@@ -0,0 +1,41 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Scheduled action in the discrete-event engine.
+ * Events at the same time fire in the order they were scheduled.
+ */
+public class SimEvent implements Comparable<SimEvent> {
+    private final long time;
+    private final long sequence;
+    private final Runnable action;
+    private boolean cancelled = false;
+    
+    public SimEvent(long time, long sequence, Runnable action) {
+        this.time = time;
+        this.sequence = sequence;
+        this.action = action;
+    }
+    
+    public void fire() {
+        if (!cancelled) {
+            action.run();
+        }
+    }
+    
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    public boolean isCancelled() { return cancelled; }
+    public long getTime() { return time; }
+    public long getSequence() { return sequence; }
+    public Runnable getAction() { return action; }
+    
+    @Override
+    public int compareTo(SimEvent other) {
+        if (time != other.time) {
+            return Long.compare(time, other.time);
+        }
+        return Long.compare(sequence, other.sequence);
+    }
+}
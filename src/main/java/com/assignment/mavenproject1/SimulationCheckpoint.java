@@ -0,0 +1,239 @@
+package com.assignment.mavenproject1;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A discrete-event run stopped between two events: the clock, the random state, every pending
+ * event, every order, box and container wherever it is (queue, station, zone assembler, AGV,
+ * bay, truck), the AGV and truck states and every counter and histogram. A run resumed from it
+ * (DiscreteEventSimulation.resume) fires exactly the events the original would have, so a
+ * warmed-up mid-day state can be saved once and any number of what-if runs branched from it.
+ *
+ * Every pending event is data rather than a closure, and every item lives in exactly one
+ * place, so the state is written inline in one pass with no object table. Order traces are
+ * varints relative to the order's creation, so an order in flight costs a few dozen bytes.
+ *
+ * File format (big-endian, like the random trace): "SWCP", version (4), scenario name and
+ * overrides (UTF each), truck and AGV dispatch policies (UTF each), simulated time ms (8), events processed
+ * (8), state length (4), then the state as DiscreteEventSimulation writes it. The file is
+ * written beside its final path and renamed over it, so a run killed mid-write leaves the
+ * previous checkpoint intact.
+ */
+public final class SimulationCheckpoint {
+
+    private static final int MAGIC = 0x53574350; // "SWCP"
+    private static final int VERSION = 4;
+    // Box flags
+    private static final int VERIFIED = 1;
+    private static final int SCANNED = 2;
+    private static final int LABELLED = 4;
+
+    private final String path;
+    private final String scenarioName;
+    private final String overrides;
+    private final TruckDispatchPolicy truckDispatchPolicy;
+    private final AGVDispatcher.Policy agvDispatchPolicy;
+    private final long simulatedTimeMs;
+    private final long eventsProcessed;
+    private final byte[] state;
+
+    private SimulationCheckpoint(String path, String scenarioName, String overrides,
+                                 TruckDispatchPolicy truckDispatchPolicy, AGVDispatcher.Policy agvDispatchPolicy,
+                                 long simulatedTimeMs, long eventsProcessed, byte[] state) {
+        this.path = path;
+        this.scenarioName = scenarioName;
+        this.overrides = overrides;
+        this.truckDispatchPolicy = truckDispatchPolicy;
+        this.agvDispatchPolicy = agvDispatchPolicy;
+        this.simulatedTimeMs = simulatedTimeMs;
+        this.eventsProcessed = eventsProcessed;
+        this.state = state;
+    }
+
+    /**
+     * Read a checkpoint file; any number of runs can then resume from it
+     */
+    public static SimulationCheckpoint load(String path) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readUnsignedShort() != VERSION) {
+                throw new IllegalArgumentException(path + " is not a simulation checkpoint");
+            }
+            String scenarioName = in.readUTF();
+            String overrides = in.readUTF();
+            TruckDispatchPolicy policy = TruckDispatchPolicy.parse(in.readUTF());
+            AGVDispatcher.Policy agvPolicy = AGVDispatcher.Policy.parse(in.readUTF());
+            long simulatedTimeMs = in.readLong();
+            long eventsProcessed = in.readLong();
+            byte[] state = new byte[in.readInt()];
+            in.readFully(state);
+            return new SimulationCheckpoint(path, scenarioName, overrides, policy, agvPolicy, simulatedTimeMs,
+                                            eventsProcessed, state);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read checkpoint " + path + ": " + e.getMessage());
+        }
+    }
+
+    // Returns the bytes written
+    static long write(String path, Scenario scenario, TruckDispatchPolicy policy, AGVDispatcher.Policy agvPolicy,
+                      long simulatedTimeMs, long eventsProcessed, byte[] state) throws IOException {
+        Path target = Paths.get(path).toAbsolutePath();
+        Path partial = target.resolveSibling(target.getFileName() + ".partial");
+        long bytes;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(partial.toFile())))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(scenario.getName());
+            out.writeUTF(scenario.getOverrides());
+            out.writeUTF(policy.name());
+            out.writeUTF(agvPolicy.name());
+            out.writeLong(simulatedTimeMs);
+            out.writeLong(eventsProcessed);
+            out.writeInt(state.length);
+            out.write(state);
+            bytes = out.size();
+        }
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return bytes;
+    }
+
+    // The scenario the checkpointed run used, to apply what-if overrides to
+    public ScenarioConfig getScenarioConfig() {
+        return ScenarioConfig.fromOverrides(scenarioName, overrides);
+    }
+
+    public TruckDispatchPolicy getTruckDispatchPolicy() { return truckDispatchPolicy; }
+    public AGVDispatcher.Policy getAgvDispatchPolicy() { return agvDispatchPolicy; }
+    public long getSimulatedTimeMs() { return simulatedTimeMs; }
+    public long getEventsProcessed() { return eventsProcessed; }
+    public String getPath() { return path; }
+
+    DataInputStream openState() {
+        return new DataInputStream(new ByteArrayInputStream(state));
+    }
+
+    @Override
+    public String toString() {
+        return path + " (" + String.format("%.1f", simulatedTimeMs / 1000.0) + " simulated seconds, "
+               + eventsProcessed + " events)";
+    }
+
+    // ---------------- Items ----------------
+
+    // LEB128: seven bits a byte, low first; small non-negative values take one byte
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    // Id, creation time, verified, a bitmask of the traced slots, then each slot since creation
+    static void writeOrder(DataOutput out, Order order) throws IOException {
+        writeVarLong(out, order.getOrderId());
+        writeVarLong(out, order.getTimestamp());
+        out.writeBoolean(order.isVerified());
+        int traced = 0;
+        for (int slot = 0; slot < Order.TRACE_SLOTS; slot++) {
+            if (order.getTraceTime(slot) >= 0) {
+                traced |= 1 << slot;
+            }
+        }
+        writeVarLong(out, traced);
+        for (int slot = 0; slot < Order.TRACE_SLOTS; slot++) {
+            if (order.getTraceTime(slot) >= 0) {
+                writeVarLong(out, order.getTraceTime(slot) - order.getTimestamp());
+            }
+        }
+    }
+
+    static Order readOrder(DataInput in) throws IOException {
+        Order order = new Order(readVarInt(in), readVarLong(in));
+        if (in.readBoolean()) {
+            order.markVerified();
+        }
+        int traced = readVarInt(in);
+        for (int slot = 0; slot < Order.TRACE_SLOTS; slot++) {
+            if ((traced & 1 << slot) != 0) {
+                order.setTraceTime(slot, order.getTimestamp() + readVarLong(in));
+            }
+        }
+        return order;
+    }
+
+    static void writeBox(DataOutput out, Box box) throws IOException {
+        writeOrder(out, box.getOrder());
+        out.writeByte((box.isVerified() ? VERIFIED : 0) | (box.isScanned() ? SCANNED : 0)
+                      | (box.getDestination() != null ? LABELLED : 0));
+        if (box.getDestination() != null) {
+            out.writeUTF(box.getDestination());
+        }
+    }
+
+    static Box readBox(DataInput in) throws IOException {
+        Box box = new Box(readOrder(in));
+        int flags = in.readByte();
+        if ((flags & VERIFIED) != 0) {
+            box.markVerified();
+        }
+        if ((flags & LABELLED) != 0) {
+            box.applyLabel(in.readUTF());
+        }
+        if ((flags & SCANNED) != 0) {
+            box.markScanned();
+        }
+        return box;
+    }
+
+    static void writeContainer(DataOutput out, Container container) throws IOException {
+        writeVarLong(out, container.getContainerId());
+        writeVarLong(out, container.getCapacity());
+        out.writeBoolean(container.isSealed());
+        writeVarLong(out, container.getBoxCount());
+        for (int i = 0; i < container.getBoxCount(); i++) {
+            writeBox(out, container.getBox(i));
+        }
+    }
+
+    static Container readContainer(DataInput in) throws IOException {
+        Container container = new Container(readVarInt(in), readVarInt(in));
+        boolean sealed = in.readBoolean();
+        int boxes = readVarInt(in);
+        for (int i = 0; i < boxes; i++) {
+            container.addBox(readBox(in));
+        }
+        if (sealed) {
+            container.seal();
+        }
+        return container;
+    }
+}
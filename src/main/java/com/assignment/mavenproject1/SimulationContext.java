@@ -0,0 +1,380 @@
+package com.assignment.mavenproject1;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Everything one threaded simulation shares between its stages: queues, permits, the AGV
+ * fleet, counters, timers, worker tracking and the run/shutdown state. Each stage is given
+ * its context when it is created, and nothing here is static apart from the end-of-stream
+ * markers, so any number of simulations can run side by side in one JVM.
+ */
+public class SimulationContext {
+
+    // End-of-stream markers. The last worker of a stage to exit puts one on the stage's output
+    // queue; a consumer that takes it puts it back before exiting (see passEndOfStream), so one
+    // marker reaches every consumer however many there are. Never mutated, so shared by every context.
+    public static final Order END_OF_ORDERS = new Order(-1, 0);
+    public static final Box END_OF_BOXES = new Box(END_OF_ORDERS);
+    public static final Container END_OF_CONTAINERS = new Container(-1);
+
+    // How often a producer blocked on a full queue with end-of-stream checks for shutdown
+    private static final long END_OF_STREAM_RETRY_MS = 100;
+
+    public final Scenario scenario;
+    // Each stage's random stream, derived from one master seed (or recorded / replayed)
+    public final SimulationRandom random;
+    // Every pipeline event, when the run is journalled (--journal=); DISABLED otherwise
+    public final EventJournal journal;
+
+    // Queues for pipeline stages (linked or ring buffer, see QueueFactory)
+    // intake -> pickers (sized for the largest autoscaled pool)
+    public final BlockingQueue<Order> pickingQueue;
+    // pickers -> packers
+    public final BlockingQueue<Order> packingQueue;
+    // packers -> labellers
+    public final BlockingQueue<Box> labellingQueue;
+    // labellers -> sorters
+    public final BlockingQueue<Box> sortingQueue;
+    // sorters -> loaders (MPMC)
+    public final BlockingQueue<Container> loadingQueue;
+    // loaders -> trucks
+    public final BlockingQueue<Container> loadingBayQueue;
+
+    // Sorter -> per-zone container assembly, shared by every sorter thread
+    public final ConcurrentMap<String, ZoneAssembler> zoneAssemblers = new ConcurrentHashMap<>();
+    public final ContainerIdAllocator containerIds = new ContainerIdAllocator();
+    // Containers come back here once their truck has departed
+    public final ContainerPool containerPool;
+
+    // Live workers per stage, and whether the stage has passed end-of-stream on
+    private final AtomicInteger[] liveWorkers = new AtomicInteger[PipelineStage.values().length];
+    private final AtomicBoolean[] endOfStreamSent = new AtomicBoolean[PipelineStage.values().length];
+    // Sorters that have not yet drained; the one that takes it to zero flushes the zones
+    private final AtomicInteger sortersRunning = new AtomicInteger();
+
+    // Resource management: AGVs, loading bays and container slots at the bays, granted together
+    public final ResourceAllocator resources;
+
+    // Every delayed action (repairs, monitoring ticks) runs on this one timer thread
+    public final TimerService timers =
+            new TimerService("SwiftCartTimer", Constants.TIMER_TICK_MS, Constants.TIMER_WHEEL_SIZE);
+
+    // Counters, incremented by each stage at the source (shared with Statistics)
+    public final MetricsRegistry metrics = new MetricsRegistry();
+
+    // Which AGV carries each container; a broken-down AGV is also out of the allocator's AGV permits
+    public final AGVDispatcher agvDispatcher;
+    // Wall-clock ms of each AGV's current breakdown, for the downtime on repair
+    private final AtomicLongArray agvBrokenSince;
+    // When a part-loaded truck leaves the bay
+    private volatile TruckDispatchPolicy truckDispatchPolicy = TruckDispatchPolicy.LOW_BACKLOG;
+
+    // Starts and tracks this simulation's workers (platform or virtual threads)
+    public final WorkerLauncher workers = new WorkerLauncher();
+
+    // Wakeups for workers idling on something other than a queue. Signalled on the change
+    // (and on shutdown); a signal costs nothing while nobody waits.
+    private final WaitStrategy.Waiter bayChanged = WaitStrategy.BLOCKING.newWaiter();
+    private final WaitStrategy.Waiter rejections = WaitStrategy.BLOCKING.newWaiter();
+
+    // Counted down by the intake thread, and when end-of-stream reaches the last truck
+    private final CountDownLatch intakeDone = new CountDownLatch(1);
+    private final CountDownLatch pipelineDrained = new CountDownLatch(1);
+
+    private final AtomicBoolean simulationRunning = new AtomicBoolean(true);
+
+    public SimulationContext(Scenario scenario) {
+        this(scenario, SimulationRandom.unseeded());
+    }
+
+    public SimulationContext(Scenario scenario, SimulationRandom random) {
+        this(scenario, random, EventJournal.DISABLED);
+    }
+
+    public SimulationContext(Scenario scenario, SimulationRandom random, EventJournal journal) {
+        this.scenario = scenario;
+        this.random = random;
+        this.journal = journal;
+        int pickers = Math.max(scenario.pickers, scenario.maxPickers);
+        pickingQueue = newQueue("pickingQueue", 1, pickers);
+        packingQueue = newQueue("packingQueue", pickers, scenario.packers);
+        labellingQueue = newQueue("labellingQueue", scenario.packers, scenario.labellers);
+        sortingQueue = newQueue("sortingQueue", scenario.labellers, scenario.sorters);
+        loadingQueue = newQueue("loadingQueue", 1 + scenario.agvs, scenario.agvs);
+        loadingBayQueue = newQueue("loadingBayQueue", scenario.agvs, scenario.trucks);
+
+        containerPool = new ContainerPool(scenario.containerPoolSize, scenario.boxesPerContainer);
+        resources = new ResourceAllocator(scenario.agvs, scenario.loadingBays, scenario.bayCapacity);
+        agvDispatcher = new AGVDispatcher(scenario.agvs);
+        agvBrokenSince = new AtomicLongArray(scenario.agvs);
+        for (int i = 0; i < liveWorkers.length; i++) {
+            liveWorkers[i] = new AtomicInteger();
+            endOfStreamSent[i] = new AtomicBoolean(false);
+        }
+
+        Log.info("SimulationContext: Initialized {} - queues {}, {}, {}, {}, {}, {}", scenario,
+                 QueueFactory.describe(pickingQueue), QueueFactory.describe(packingQueue), QueueFactory.describe(labellingQueue), QueueFactory.describe(sortingQueue), QueueFactory.describe(loadingQueue), QueueFactory.describe(loadingBayQueue));
+    }
+
+    private <E> BlockingQueue<E> newQueue(String name, int producers, int consumers) {
+        return QueueFactory.create(name, producers, consumers, scenario.queueCapacity);
+    }
+
+    public void breakdownAGV(int agvId) {
+        if (agvId >= 0 && agvId < scenario.agvs && agvDispatcher.breakdown(agvId)) {
+            agvBrokenSince.set(agvId, System.currentTimeMillis());
+            resources.withdraw(ResourceAllocator.Resource.AGV);
+            Log.info("SimulationContext: AGV-{} broken down", (agvId + 1));
+        }
+    }
+
+    // Returns how long the AGV was down in ms, or -1 if it was not broken (e.g. already repaired)
+    public long repairAGV(int agvId) {
+        if (agvId >= 0 && agvId < scenario.agvs && agvDispatcher.repair(agvId)) {
+            resources.restore(ResourceAllocator.Resource.AGV);
+            Log.info("SimulationContext: AGV-{} repaired", (agvId + 1));
+            return System.currentTimeMillis() - agvBrokenSince.get(agvId);
+        }
+        return -1;
+    }
+
+    public void setTruckDispatchPolicy(TruckDispatchPolicy policy) { truckDispatchPolicy = policy; }
+    public TruckDispatchPolicy getTruckDispatchPolicy() { return truckDispatchPolicy; }
+
+    public void shutdown() {
+        simulationRunning.set(false);
+        bayChanged.signal();
+        rejections.signal();
+        Log.info("SimulationContext: Shutdown signaled");
+    }
+
+    public boolean isRunning() {
+        return simulationRunning.get();
+    }
+
+    // Intake has generated every order: end-of-stream for the pickers
+    public void markIntakeComplete() {
+        endOfStream(PipelineStage.INTAKE);
+        Log.info("SimulationContext: Order intake completed");
+    }
+
+    public boolean isIntakeComplete() {
+        return intakeDone.getCount() == 0;
+    }
+
+    public boolean isPipelineDrained() {
+        return pipelineDrained.getCount() == 0;
+    }
+
+    public void awaitIntakeComplete() throws InterruptedException {
+        intakeDone.await();
+    }
+
+    // True once the last truck has taken end-of-stream, false if the timeout elapsed first
+    public boolean awaitPipelineDrained(long timeoutMs) throws InterruptedException {
+        return pipelineDrained.await(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    public ZoneAssembler assemblerFor(String zone) {
+        ZoneAssembler assembler = zoneAssemblers.get(zone);
+        if (assembler != null) {
+            return assembler;
+        }
+        return zoneAssemblers.computeIfAbsent(zone,
+                z -> new ZoneAssembler(z, containerIds, containerPool, scenario.boxesPerBatch));
+    }
+
+    // Called from a stage worker's constructor, so the stage never looks finished
+    // between creating a worker and starting it
+    public void workerStarted(PipelineStage stage) {
+        liveWorkers[stage.ordinal()].incrementAndGet();
+        if (stage == PipelineStage.SORTING) {
+            sortersRunning.incrementAndGet();
+        }
+    }
+
+    // A sorter has taken end-of-stream; true for the last one, which seals the partial batches
+    public boolean sorterDrained() {
+        return sortersRunning.decrementAndGet() == 0;
+    }
+
+    // Called once when a stage worker's run() exits, after its last hand-off downstream.
+    // The last worker out passes end-of-stream to the next stage.
+    public void workerFinished(PipelineStage stage) {
+        if (liveWorkers[stage.ordinal()].decrementAndGet() == 0) {
+            endOfStream(stage);
+        }
+    }
+
+    // Stages with workers that have not exited, e.g. "Picking (2 workers)", for a stalled drain
+    public String describeUnfinishedStages() {
+        StringBuilder stages = new StringBuilder();
+        for (PipelineStage stage : PipelineStage.values()) {
+            int live = liveWorkers[stage.ordinal()].get();
+            if (live > 0) {
+                stages.append(stages.length() == 0 ? "" : ", ")
+                      .append(stage.getDisplayName()).append(" (").append(live).append(live == 1 ? " worker)" : " workers)");
+            }
+        }
+        return stages.length() == 0 ? "none" : stages.toString();
+    }
+
+    /**
+     * Whether the stage has passed end-of-stream on, i.e. will never hand anything downstream again
+     */
+    public boolean isStageFinished(PipelineStage stage) {
+        return endOfStreamSent[stage.ordinal()].get();
+    }
+
+    // Once per stage, even if a late worker (e.g. an autoscaled picker) starts and exits again
+    private void endOfStream(PipelineStage stage) {
+        if (!endOfStreamSent[stage.ordinal()].compareAndSet(false, true)) {
+            return;
+        }
+        switch (stage) {
+            case INTAKE:
+                sendEndOfStream(pickingQueue, END_OF_ORDERS);
+                intakeDone.countDown();
+                break;
+            case PICKING:
+                sendEndOfStream(packingQueue, END_OF_ORDERS);
+                break;
+            case PACKING:
+                sendEndOfStream(labellingQueue, END_OF_BOXES);
+                break;
+            case LABELLING:
+                sendEndOfStream(sortingQueue, END_OF_BOXES);
+                break;
+            case SORTING:
+                // Containers are sealed by the sorters themselves
+                endOfStreamSent[PipelineStage.CONTAINER_SEAL.ordinal()].set(true);
+                sendEndOfStream(loadingQueue, END_OF_CONTAINERS);
+                break;
+            case AGV_LOAD:
+                sendEndOfStream(loadingBayQueue, END_OF_CONTAINERS);
+                bayChanged.signal();
+                break;
+            case TRUCK_DEPARTURE:
+                pipelineDrained.countDown();
+                Log.info("SimulationContext: Last truck has left - pipeline drained");
+                break;
+            default:
+                break;
+        }
+    }
+
+    // The queue may be full (a small bounded ring), so block until the marker is in: a lost marker
+    // leaves every downstream worker waiting for good. Interrupts are held back until it is
+    // delivered; only once the run has been shut down, when the consumers stop without it, is
+    // a marker that still does not fit given up.
+    private <E> void sendEndOfStream(BlockingQueue<E> queue, E marker) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    if (queue.offer(marker, END_OF_STREAM_RETRY_MS, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                    if (!isRunning()) {
+                        Log.warn("SimulationContext: Shut down with {} full - end-of-stream not delivered",
+                                 QueueFactory.describe(queue));
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * A consumer that takes the end-of-stream marker puts it back for the other consumers.
+     * Returns true if nothing but the marker is left, so this consumer may exit; false if a
+     * live consumer has put work back behind it and it must go on.
+     */
+    public static <E> boolean passEndOfStream(BlockingQueue<E> queue, E marker) throws InterruptedException {
+        queue.put(marker);
+        return queue.size() <= 1;
+    }
+
+    /**
+     * passEndOfStream for the bay: trucks wait on bayChanged rather than on the queue, so a
+     * truck that found the bay empty while the marker was out must be woken when it is back.
+     */
+    public boolean returnEndOfStreamToBay() throws InterruptedException {
+        boolean closed = passEndOfStream(loadingBayQueue, END_OF_CONTAINERS);
+        bayChanged.signal();
+        return closed;
+    }
+
+    // Loader -> bay, waking a truck waiting for a container
+    public void moveToBay(Container container) throws InterruptedException {
+        loadingBayQueue.put(container);
+        bayChanged.signal();
+    }
+
+    // Bay -> truck, freeing the container's slot at the bay for the loaders
+    public Container takeFromBay(long timeout, TimeUnit unit) throws InterruptedException {
+        Container container = loadingBayQueue.poll(timeout, unit);
+        if (container != null && container != END_OF_CONTAINERS) {
+            resources.release(0, 0, 1);
+        }
+        return container;
+    }
+
+    public void awaitContainerAtBay() throws InterruptedException {
+        awaitContainerAtBay(Long.MAX_VALUE);
+    }
+
+    // False if the timeout elapsed with the bay still empty
+    public boolean awaitContainerAtBay(long timeoutMs) throws InterruptedException {
+        return bayChanged.await(() -> !loadingBayQueue.isEmpty() || !isRunning(),
+                                TimeUnit.MILLISECONDS.toNanos(timeoutMs)) > 0;
+    }
+
+    // Sealed containers not yet on a truck: waiting for an AGV, being loaded, or at the bay
+    public int containerBacklog() {
+        return loadingQueue.size() + scenario.bayCapacity
+               - Math.max(0, resources.getAvailable(ResourceAllocator.Resource.BAY_CAPACITY));
+    }
+
+    // Count a rejection and wake the RejectHandler
+    public void recordRejection(MetricsRegistry.Metric stage) {
+        metrics.increment(stage);
+        rejections.signal();
+    }
+
+    // Until more than `processed` rejections have been recorded, or shutdown
+    public void awaitRejections(long processed) throws InterruptedException {
+        rejections.await(() -> metrics.getTotalRejected() > processed || !isRunning(), Long.MAX_VALUE);
+    }
+
+    // Simple AGV management
+    public boolean isAGVOperational(int agvId) {
+        return agvId >= 0 && agvId < scenario.agvs && agvDispatcher.isOperational(agvId);
+    }
+
+    // Simple statistics
+    public void printFinalReport() {
+        MetricsRegistry.Snapshot counts = metrics.snapshot();
+        Log.flush();
+        System.out.println("\n=== FINAL SIMULATION REPORT ===");
+        System.out.println("Orders Processed: " + counts.get(MetricsRegistry.Metric.ORDERS_PROCESSED));
+        System.out.println("Orders Rejected: " + counts.getTotalRejected());
+        System.out.println("Boxes Packed: " + counts.get(MetricsRegistry.Metric.BOXES_PACKED));
+        System.out.println("Containers Sealed: " + counts.get(MetricsRegistry.Metric.CONTAINERS_CREATED));
+        System.out.println("Trucks Dispatched: " + counts.get(MetricsRegistry.Metric.TRUCKS_DISPATCHED));
+        System.out.println("==============================");
+    }
+}
@@ -0,0 +1,283 @@
+package com.assignment.mavenproject1;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Where a threaded run's random decisions come from. One master seed, and an independent
+ * SplittableRandom stream per component derived from it by name ("Picker-3", "Truck-1"), so
+ * a component draws the same sequence whatever order the threads start in. Unseeded runs
+ * pick a master seed at random and print it, so any run can be repeated with --seed.
+ *
+ * RECORD also captures every draw of every stream to a compact binary trace, and REPLAY feeds
+ * a trace back stream by stream, so a before/after comparison makes exactly the same decisions.
+ * A replayed stream that runs out, or draws something the trace cannot supply (the code under
+ * test changed what it draws), carries on from its seeded stream and is reported as diverged.
+ *
+ * Trace format (big-endian): "SWRT", version, master seed, stream count, then per stream its
+ * name, byte length and draws. nextInt(n) = v is the varint of v << 1 (low bit 0, usually one
+ * or two bytes); nextDouble() is the byte 0x01 and the 8-byte double.
+ */
+public final class SimulationRandom {
+
+    public enum Mode { SEEDED, RECORD, REPLAY }
+
+    private static final int MAGIC = 0x53575254; // "SWRT"
+    private static final int VERSION = 1;
+    private static final int DOUBLE_TAG = 0x01;
+
+    private final Mode mode;
+    private final long masterSeed;
+    private final String tracePath;
+    // RECORD and REPLAY: every stream handed out, by name
+    private final ConcurrentMap<String, RandomStream> streams = new ConcurrentHashMap<>();
+    // REPLAY: the recorded draws, by stream name
+    private final Map<String, byte[]> trace;
+
+    private SimulationRandom(Mode mode, long masterSeed, String tracePath, Map<String, byte[]> trace) {
+        this.mode = mode;
+        this.masterSeed = masterSeed;
+        this.tracePath = tracePath;
+        this.trace = trace;
+    }
+
+    public static SimulationRandom seeded(long masterSeed) {
+        return new SimulationRandom(Mode.SEEDED, masterSeed, null, null);
+    }
+
+    // A fresh master seed, reported by toString() so the run can be repeated
+    public static SimulationRandom unseeded() {
+        return seeded(new SplittableRandom().nextLong());
+    }
+
+    public static SimulationRandom record(long masterSeed, String path) {
+        return new SimulationRandom(Mode.RECORD, masterSeed, path, null);
+    }
+
+    /**
+     * Load a trace written by a RECORD run; the master seed comes from the trace
+     */
+    public static SimulationRandom replay(String path) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readUnsignedShort() != VERSION) {
+                throw new IllegalArgumentException(path + " is not a random trace");
+            }
+            long masterSeed = in.readLong();
+            int count = in.readInt();
+            Map<String, byte[]> trace = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                byte[] draws = new byte[in.readInt()];
+                in.readFully(draws);
+                trace.put(name, draws);
+            }
+            return new SimulationRandom(Mode.REPLAY, masterSeed, path, trace);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read random trace " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * The stream of one component; the name must be stable from run to run (the thread name)
+     */
+    public RandomStream stream(String component) {
+        if (mode == Mode.SEEDED) {
+            return RandomStream.seeded(seedFor(component));
+        }
+        String name = component;
+        for (int duplicate = 2; streams.containsKey(name); duplicate++) {
+            name = component + "#" + duplicate;
+        }
+        RandomStream seeded = RandomStream.seeded(seedFor(name));
+        RandomStream stream = mode == Mode.RECORD ? new Recorder(seeded) : new Replayer(name, trace.get(name), seeded);
+        RandomStream existing = streams.putIfAbsent(name, stream);
+        // Two components of the same name created at once - take the next suffix
+        return existing == null ? stream : stream(component);
+    }
+
+    // FNV-1a of the name over the master seed, then the SplitMix64 finalizer
+    private long seedFor(String component) {
+        long hash = masterSeed ^ 0xcbf29ce484222325L;
+        for (int i = 0; i < component.length(); i++) {
+            hash = (hash ^ component.charAt(i)) * 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * After the run: RECORD writes the trace, REPLAY reports any stream that diverged from it
+     */
+    public void finish() {
+        if (mode == Mode.RECORD) {
+            writeTrace();
+        } else if (mode == Mode.REPLAY) {
+            List<String> diverged = new ArrayList<>();
+            long replayed = 0;
+            for (RandomStream stream : streams.values()) {
+                Replayer replayer = (Replayer) stream;
+                replayed += replayer.replayed;
+                if (replayer.diverged) {
+                    diverged.add(replayer.name);
+                }
+            }
+            Collections.sort(diverged);
+            if (diverged.isEmpty()) {
+                Log.info("SimulationRandom: Replayed {} draws from {} streams of {}", replayed, streams.size(), tracePath);
+            } else {
+                Log.warn("SimulationRandom: {} of {} streams diverged from {} and continued on their seeded streams: {}",
+                         diverged.size(), streams.size(), tracePath, diverged);
+            }
+        }
+    }
+
+    private void writeTrace() {
+        List<String> names = new ArrayList<>(streams.keySet());
+        Collections.sort(names);
+        long draws = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tracePath)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(masterSeed);
+            out.writeInt(names.size());
+            for (String name : names) {
+                Recorder recorder = (Recorder) streams.get(name);
+                out.writeUTF(name);
+                out.writeInt(recorder.out.size());
+                recorder.out.writeTo(out);
+                draws += recorder.draws;
+            }
+            Log.info("SimulationRandom: Recorded {} draws from {} streams to {} ({} bytes)",
+                     draws, names.size(), tracePath, out.size());
+        } catch (IOException e) {
+            Log.warn("SimulationRandom: Could not write random trace {} - {}", tracePath, e.getMessage());
+        }
+    }
+
+    public Mode getMode() { return mode; }
+    public long getMasterSeed() { return masterSeed; }
+
+    @Override
+    public String toString() {
+        switch (mode) {
+            case RECORD:
+                return "seed " + masterSeed + ", recording to " + tracePath;
+            case REPLAY:
+                return "replaying " + tracePath + " (seed " + masterSeed + ")";
+            default:
+                return "seed " + masterSeed;
+        }
+    }
+
+    /**
+     * Draws from the seeded stream and appends each one to the trace
+     */
+    private static final class Recorder extends RandomStream {
+        private final RandomStream source;
+        // Only the owning thread writes; read once the run has finished
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        private long draws = 0;
+
+        Recorder(RandomStream source) {
+            this.source = source;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            int value = source.nextInt(bound);
+            long bits = (long) value << 1;
+            while ((bits & ~0x7FL) != 0) {
+                out.write((int) ((bits & 0x7F) | 0x80));
+                bits >>>= 7;
+            }
+            out.write((int) bits);
+            draws++;
+            return value;
+        }
+
+        @Override
+        public double nextDouble() {
+            double value = source.nextDouble();
+            long bits = Double.doubleToLongBits(value);
+            out.write(DOUBLE_TAG);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (bits >>> shift));
+            }
+            draws++;
+            return value;
+        }
+    }
+
+    /**
+     * Draws from the trace until it runs out or no longer fits, then from the seeded stream
+     */
+    private static final class Replayer extends RandomStream {
+        private final String name;
+        private final byte[] draws;
+        private final RandomStream fallback;
+        private int position = 0;
+        private boolean diverged;
+        private long replayed = 0;
+
+        Replayer(String name, byte[] draws, RandomStream fallback) {
+            this.name = name;
+            this.draws = draws;
+            this.fallback = fallback;
+            // A component the recorded run did not have
+            this.diverged = draws == null;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            if (!diverged && position < draws.length && (draws[position] & 1) == 0) {
+                long bits = 0;
+                int at = position;
+                for (int shift = 0; at < draws.length; shift += 7) {
+                    byte b = draws[at++];
+                    bits |= (long) (b & 0x7F) << shift;
+                    if (b >= 0) {
+                        break;
+                    }
+                }
+                long value = bits >>> 1;
+                if (value < bound) {
+                    position = at;
+                    replayed++;
+                    return (int) value;
+                }
+            }
+            diverged = true;
+            return fallback.nextInt(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!diverged && position + 9 <= draws.length && draws[position] == DOUBLE_TAG) {
+                long bits = 0;
+                for (int i = 1; i <= 8; i++) {
+                    bits = (bits << 8) | (draws[position + i] & 0xFF);
+                }
+                position += 9;
+                replayed++;
+                return Double.longBitsToDouble(bits);
+            }
+            diverged = true;
+            return fallback.nextDouble();
+        }
+    }
+}
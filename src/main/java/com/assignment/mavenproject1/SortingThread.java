@@ -0,0 +1,126 @@
+package com.assignment.mavenproject1;
+
+import java.util.*;
+
+/**
+ * Simplified Sorting Thread (one of --sorters=N replicas sharing sortingQueue).
+ * Boxes are sorted in parallel and handed to their zone's ZoneAssembler, so containers
+ * for different zones are assembled concurrently. The last sorter to drain seals the
+ * leftover boxes of every zone.
+ */
+public class SortingThread extends Thread {
+    private final int sorterId;
+    private final SimulationContext context;
+    private final RandomStream random;
+    // Written only by this sorter, read by the final summary
+    private volatile int containersCreated = 0;
+    private volatile int boxesSorted = 0;
+    
+    public SortingThread(SimulationContext context, int sorterId) {
+        super(Constants.SORTER_THREAD + sorterId);
+        this.sorterId = sorterId;
+        this.context = context;
+        this.random = context.random.stream(getName());
+        context.workerStarted(PipelineStage.SORTING);
+    }
+    
+    @Override
+    public void run() {
+        Log.info("Sorter-{}: Starting (Thread: {})", sorterId, getName());
+    
+        try {
+            while (true) {
+                Box box = context.sortingQueue.take();
+    
+                if (box == SimulationContext.END_OF_BOXES) {
+                    // Every labeller has exited and every box ahead of the marker is taken
+                    if (SimulationContext.passEndOfStream(context.sortingQueue, box)) {
+                        break;
+                    }
+                    continue;
+                }
+    
+                processBox(box);
+            }
+            // Every labeller has finished; the last sorter out seals the partial batches
+            if (context.sorterDrained()) {
+                processRemainingBatches();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            context.workerFinished(PipelineStage.SORTING);
+        }
+    
+        Log.info("Sorter-{}: Completed - {} boxes sorted, {} containers created (Thread: {})",
+                 sorterId, boxesSorted, containersCreated, getName());
+    }
+    
+    private void processBox(Box box) throws InterruptedException {
+        box.getOrder().markStarted(PipelineStage.SORTING, System.currentTimeMillis());
+    
+        // Simulate sorting time
+        Thread.sleep(context.scenario.sortTime(random));
+    
+        // Sorted into its zone batch - now waiting for the container to fill
+        long now = System.currentTimeMillis();
+        box.getOrder().markCompleted(PipelineStage.SORTING, now);
+        box.getOrder().markEnqueued(PipelineStage.CONTAINER_SEAL, now);
+        context.journal.order(JournalEvent.ORDER_SORTED, box.getOrder(), now);
+    
+        String zone = box.getZone();
+        Container container = context.assemblerFor(zone).addBox(box);
+        boxesSorted++;
+    
+        // Increment orders processed when box is successfully sorted
+        context.metrics.increment(MetricsRegistry.Metric.ORDERS_PROCESSED);
+    
+        Log.debug("Sorter-{}: Box from Order #{} sorted to {} (Thread: {})",
+                  sorterId, box.getOrder().getOrderId(), zone, getName());
+    
+        // The box filled its zone's container (by default 5 batches of 6)
+        if (container != null) {
+            sealContainer(zone, container);
+        }
+    }
+    
+    private void sealContainer(String zone, Container container) throws InterruptedException {
+        container.markStarted(PipelineStage.CONTAINER_SEAL, System.currentTimeMillis());
+        container.seal();
+        long now = System.currentTimeMillis();
+        container.markCompleted(PipelineStage.CONTAINER_SEAL, now);
+        container.markEnqueued(PipelineStage.AGV_LOAD, now);
+        context.journal.container(JournalEvent.CONTAINER_SEALED, container, 0, now);
+    
+        containersCreated++;
+        context.metrics.increment(MetricsRegistry.Metric.CONTAINERS_CREATED);
+        Log.debug("Sorter-{}: Container #{} for {} sealed and sent to loading queue with {} boxes (Thread: {})",
+                  sorterId, container.getContainerId(), zone, container.getBoxCount(), getName());
+    
+        // Ownership passes to the loaders (and later back to the pool) - no access after this
+        context.loadingQueue.put(container);
+    }
+    
+    private void processRemainingBatches() throws InterruptedException {
+        // Zone order fixed so the leftover containers are queued the same way every run
+        List<String> zones = new ArrayList<>(context.zoneAssemblers.keySet());
+        Collections.sort(zones);
+    
+        Log.info("Sorter-{}: Processing remaining batches for {} zones (Thread: {})",
+                 sorterId, zones.size(), getName());
+    
+        for (String zone : zones) {
+            Container partial = context.zoneAssemblers.get(zone).flush();
+            if (partial != null) {
+                sealContainer(zone, partial);
+            }
+        }
+    
+        Log.info("Sorter-{}: Finished - total containers created: {}",
+                 sorterId, context.containerIds.getAllocated());
+    }
+    
+    public int getSorterId() { return sorterId; }
+    public int getContainersCreated() { return containersCreated; }
+    public int getBoxesSorted() { return boxesSorted; }
+}
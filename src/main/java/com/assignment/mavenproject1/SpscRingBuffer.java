@@ -0,0 +1,75 @@
+package com.assignment.mavenproject1;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Single-producer single-consumer ring buffer.
+ * Only valid where exactly one thread offers and one thread polls (packer -> labeller,
+ * labeller -> sorter with single stations). No CAS: each side owns its index and
+ * publishes it with a volatile store. An ordered (lazySet) store is not enough: the
+ * signal that follows reads the other side's waiter count, and only a volatile store
+ * keeps that read from overtaking it and missing a waiter that has just gone to sleep.
+ */
+public class SpscRingBuffer<E> extends RingBufferQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLong head = new AtomicLong(); // next slot to read, written by consumer
+    private final AtomicLong tail = new AtomicLong(); // next slot to write, written by producer
+    private long cachedHead = 0; // producer's last view of head
+    private long cachedTail = 0; // consumer's last view of tail
+
+    public SpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    @Override
+    protected boolean tryOffer(E e) {
+        long t = tail.get();
+        if (t - cachedHead >= capacity) {
+            cachedHead = head.get();
+            if (t - cachedHead >= capacity) {
+                return false;
+            }
+        }
+        buffer.lazySet((int) (t & mask), e);
+        tail.set(t + 1);
+        return true;
+    }
+
+    @Override
+    protected E tryPoll() {
+        long h = head.get();
+        if (h >= cachedTail) {
+            cachedTail = tail.get();
+            if (h >= cachedTail) {
+                return null;
+            }
+        }
+        int index = (int) (h & mask);
+        E e = buffer.get(index);
+        buffer.lazySet(index, null);
+        head.set(h + 1);
+        return e;
+    }
+
+    @Override
+    protected E tryPeek() {
+        return buffer.get((int) (head.get() & mask));
+    }
+
+    @Override
+    public int size() {
+        long h = head.get();
+        long t = tail.get();
+        return (int) Math.max(0, Math.min(capacity, t - h));
+    }
+
+    @Override
+    protected List<E> snapshot() {
+        long h = head.get();
+        return collect(buffer, mask, h, tail.get());
+    }
+}
@@ -0,0 +1,121 @@
+package com.assignment.mavenproject1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures what replicating the packing, labelling and sorting stations buys.
+ *
+ * Runs the discrete-event pipeline once per packers x labellers x sorters combination with the
+ * same seed and intake rate, and reports simulated makespan, sorted orders per simulated
+ * second, the speedup over the first combination and where orders queue.
+ * Intake defaults to 100 ms so the single-station pipeline is saturated.
+ *
+ * Usage: StationScalingStudy [scenario=default] [packers=1,2,4] [labellers=1,2,4] [sorters=1] [interval=100] [seed=42]
+ */
+public class StationScalingStudy {
+
+    public static void main(String[] args) {
+        int[] packers = {1, 2, 4};
+        int[] labellers = {1, 2, 4};
+        int[] sorters = {1};
+        long interval = 100;
+        long seed = 42;
+        ScenarioConfig config = ScenarioConfig.defaults();
+        for (String arg : args) {
+            if (arg.startsWith("scenario=")) {
+                config = ScenarioConfig.load(arg.substring("scenario=".length()));
+            } else if (arg.startsWith("packers=")) {
+                packers = parseCounts(arg.substring("packers=".length()));
+            } else if (arg.startsWith("labellers=")) {
+                labellers = parseCounts(arg.substring("labellers=".length()));
+            } else if (arg.startsWith("sorters=")) {
+                sorters = parseCounts(arg.substring("sorters=".length()));
+            } else if (arg.startsWith("interval=")) {
+                interval = Long.parseLong(arg.substring("interval=".length()));
+            } else if (arg.startsWith("seed=")) {
+                seed = Long.parseLong(arg.substring("seed=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        Scenario scenario = config.toScenario();
+
+        List<Result> results = new ArrayList<>();
+        for (int packerCount : packers) {
+            for (int labellerCount : labellers) {
+                for (int sorterCount : sorters) {
+                    results.add(run(scenario, packerCount, labellerCount, sorterCount, interval, seed));
+                }
+            }
+        }
+
+        Log.flush();
+        System.out.println("\n" + StringUtils.repeat("=", 118));
+        System.out.println("StationScalingStudy: scenario " + scenario.getName() + ", " + scenario.totalOrders + " orders every " + interval +
+                          " ms, " + scenario.pickers + " pickers, seed " + seed);
+        System.out.println(String.format("%-8s %-10s %-8s %12s %12s %9s %14s %14s %14s %10s",
+                "Packers", "Labellers", "Sorters", "Makespan s", "Orders/sec", "Speedup",
+                "Pack wait p99", "Label wait p99", "Sort wait p99", "E2E p99"));
+        System.out.println(StringUtils.repeat("-", 118));
+        double baseline = results.get(0).ordersPerSecond();
+        for (Result result : results) {
+            System.out.println(result.format(baseline));
+        }
+        System.out.println(StringUtils.repeat("=", 118));
+        Log.shutdown();
+    }
+
+    private static Result run(Scenario scenario, int packers, int labellers, int sorters, long interval, long seed) {
+        Statistics statistics = new Statistics(scenario);
+        DiscreteEventSimulation simulation = new DiscreteEventSimulation(scenario, statistics, seed);
+        simulation.setStationCounts(packers, labellers, sorters);
+        simulation.setOrderIntervalMs(interval);
+        simulation.run();
+        return new Result(packers, labellers, sorters, simulation.getSimulatedTimeMs(), statistics);
+    }
+
+    private static int[] parseCounts(String list) {
+        String[] parts = list.split(",");
+        int[] counts = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            counts[i] = Integer.parseInt(parts[i].trim());
+        }
+        return counts;
+    }
+
+    private static final class Result {
+        final int packers;
+        final int labellers;
+        final int sorters;
+        final long makespanMs;
+        final int ordersSorted;
+        final long packingWaitP99;
+        final long labellingWaitP99;
+        final long sortingWaitP99;
+        final long endToEndP99;
+
+        Result(int packers, int labellers, int sorters, long makespanMs, Statistics statistics) {
+            this.packers = packers;
+            this.labellers = labellers;
+            this.sorters = sorters;
+            this.makespanMs = makespanMs;
+            this.ordersSorted = statistics.getOrdersProcessed();
+            this.packingWaitP99 = statistics.getStageWaitSnapshot(PipelineStage.PACKING).getValueAtPercentile(99);
+            this.labellingWaitP99 = statistics.getStageWaitSnapshot(PipelineStage.LABELLING).getValueAtPercentile(99);
+            this.sortingWaitP99 = statistics.getStageWaitSnapshot(PipelineStage.SORTING).getValueAtPercentile(99);
+            this.endToEndP99 = statistics.getOrderEndToEndSnapshot().getValueAtPercentile(99);
+        }
+
+        double ordersPerSecond() {
+            return ordersSorted * 1000.0 / Math.max(1, makespanMs);
+        }
+
+        String format(double baseline) {
+            return String.format("%-8d %-10d %-8d %12.1f %12.2f %8.2fx %14d %14d %14d %10d",
+                    packers, labellers, sorters, makespanMs / 1000.0, ordersPerSecond(), ordersPerSecond() / baseline,
+                    packingWaitP99, labellingWaitP99, sortingWaitP99, endToEndP99);
+        }
+    }
+}
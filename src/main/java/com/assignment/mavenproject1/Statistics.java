@@ -0,0 +1,393 @@
+package com.assignment.mavenproject1;
+
+import com.assignment.mavenproject1.MetricsRegistry.Metric;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe statistics collection for SwiftCart simulation
+ */
+public class Statistics {
+    
+    // Order, rejection and AGV counters (incremented at the source by the stages)
+    private final MetricsRegistry metrics;
+    // Containers a truck can carry, for the load factor
+    private final int truckCapacity;
+    
+    // AGV breakdown distribution
+    private final LatencyHistogram agvDowntimes = new LatencyHistogram();
+    
+    // Truck timing statistics (fixed-memory histograms, recorded lock-free per thread)
+    private final LatencyHistogram truckLoadingTimes = new LatencyHistogram();
+    private final LatencyHistogram truckWaitTimes = new LatencyHistogram();
+    // Containers per trip, and time from reaching the bay to leaving on a truck
+    private final LatencyHistogram truckLoads = new LatencyHistogram();
+    private final LatencyHistogram containerDwellTimes = new LatencyHistogram();
+    
+    // Per-order stage tracing, recorded when an order leaves on a truck
+    private final LatencyHistogram[] stageWaitTimes = newStageHistograms();
+    private final LatencyHistogram[] stageServiceTimes = newStageHistograms();
+    private final LatencyHistogram orderEndToEndTimes = new LatencyHistogram();
+    
+    // Simulation timing
+    private final AtomicLong simulationStartTime = new AtomicLong(0);
+    private final AtomicLong simulationEndTime = new AtomicLong(0);
+    
+    public Statistics() {
+        this(new MetricsRegistry(), Constants.CONTAINERS_PER_TRUCK);
+    }
+    
+    public Statistics(Scenario scenario) {
+        this(new MetricsRegistry(), scenario.truckCapacity);
+    }
+    
+    // Threaded mode shares SimulationContext.metrics with the stage threads
+    public Statistics(SimulationContext context) {
+        this(context.metrics, context.scenario.truckCapacity);
+    }
+    
+    private Statistics(MetricsRegistry metrics, int truckCapacity) {
+        this.metrics = metrics;
+        this.truckCapacity = truckCapacity;
+    }
+    
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+    
+    public void startSimulation() {
+        simulationStartTime.set(System.currentTimeMillis());
+    }
+    
+    public void endSimulation() {
+        simulationEndTime.set(System.currentTimeMillis());
+    }
+    
+    // Order tracking methods
+    public void incrementOrdersReceived() { metrics.increment(Metric.ORDERS_RECEIVED); }
+    public void incrementOrdersProcessed() { metrics.increment(Metric.ORDERS_PROCESSED); }
+    public void incrementOrdersPicked() { metrics.increment(Metric.ORDERS_PICKED); }
+    public void incrementBoxesPacked() { metrics.increment(Metric.BOXES_PACKED); }
+    public void incrementBoxesLabelled() { metrics.increment(Metric.BOXES_LABELLED); }
+    public void incrementContainersSealed() { metrics.increment(Metric.CONTAINERS_CREATED); }
+    public void incrementContainersLoaded() { metrics.increment(Metric.CONTAINERS_LOADED); }
+    
+    // Rejection tracking methods
+    public void incrementOrdersRejectedAtIntake() { metrics.increment(Metric.REJECTED_AT_INTAKE); }
+    public void incrementOrdersRejectedAtPicking() { metrics.increment(Metric.REJECTED_AT_PICKING); }
+    public void incrementOrdersRejectedAtPacking() { metrics.increment(Metric.REJECTED_AT_PACKING); }
+    public void incrementOrdersRejectedAtLabelling() { metrics.increment(Metric.REJECTED_AT_LABELLING); }
+    
+    // AGV breakdown tracking methods
+    public void recordAGVBreakdown() {
+        metrics.increment(Metric.AGV_BREAKDOWNS);
+    }
+
+    public void recordAGVReroute() {
+        metrics.increment(Metric.AGV_REROUTES);
+    }
+    
+    public void addAGVDowntime(long downtimeMs) {
+        metrics.add(Metric.AGV_DOWNTIME_MS, downtimeMs);
+        agvDowntimes.record(downtimeMs);
+    }
+    
+    // Truck timing methods
+    public void addTruckLoadingTime(long loadingTimeMs) {
+        truckLoadingTimes.record(loadingTimeMs);
+    }
+    
+    public void addTruckWaitTime(long waitTimeMs) {
+        truckWaitTimes.record(waitTimeMs);
+    }
+    
+    // A truck left with this many containers
+    public void recordTruckDeparture(int containers) {
+        metrics.increment(Metric.TRUCKS_DISPATCHED);
+        truckLoads.record(containers);
+    }
+    
+    // Order tracing - record the stage timings of every order in a departing container
+    public void recordShippedContainer(Container container) {
+        for (int i = 0; i < container.getBoxCount(); i++) {
+            recordOrderTrace(container.getBox(i).getOrder());
+        }
+        if (container.getBoxCount() > 0) {
+            // Every order in the container reached the bay and left with it
+            Order order = container.getBox(0).getOrder();
+            long atBay = order.getWaitTime(PipelineStage.TRUCK_DEPARTURE);
+            long aboard = order.getServiceTime(PipelineStage.TRUCK_DEPARTURE);
+            if (atBay >= 0 && aboard >= 0) {
+                containerDwellTimes.record(atBay + aboard);
+            }
+        }
+    }
+    
+    public void recordOrderTrace(Order order) {
+        for (PipelineStage stage : PipelineStage.values()) {
+            long wait = order.getWaitTime(stage);
+            if (wait >= 0) {
+                stageWaitTimes[stage.ordinal()].record(wait);
+            }
+            long service = order.getServiceTime(stage);
+            if (service >= 0) {
+                stageServiceTimes[stage.ordinal()].record(service);
+            }
+        }
+        long endToEnd = order.getEndToEndTime();
+        if (endToEnd >= 0) {
+            orderEndToEndTimes.record(endToEnd);
+        }
+    }
+    
+    private static LatencyHistogram[] newStageHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[PipelineStage.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+    
+    // Mean share of truck capacity used per trip
+    public double getTruckLoadFactor() {
+        return truckLoads.snapshot().getMean() / truckCapacity;
+    }
+    
+    public double getAverageLoadingTime() {
+        return truckLoadingTimes.snapshot().getMean();
+    }
+    
+    public void printFinalReport() {
+        // One snapshot so every figure in the report comes from the same view
+        MetricsRegistry.Snapshot counts = metrics.snapshot();
+        
+        System.out.println("\n" + StringUtils.repeat("=", 80));
+        System.out.println(StringUtils.center("SWIFTCART FINAL SIMULATION REPORT", 80));
+        System.out.println(StringUtils.center("Basic + Additional Requirements", 80));
+        System.out.println(StringUtils.repeat("=", 80));
+
+        // System clearance status
+        System.out.println("SYSTEM CLEARANCE STATUS:");
+        System.out.println("  Orders Received:      " + counts.get(Metric.ORDERS_RECEIVED));
+        System.out.println("  Boxes Packed:         " + counts.get(Metric.BOXES_PACKED));
+        System.out.println("  Orders Processed:     " + counts.get(Metric.ORDERS_PROCESSED));
+        System.out.println("  Containers Created:   " + counts.get(Metric.CONTAINERS_CREATED));
+        System.out.println("  Containers Loaded:    " + counts.get(Metric.CONTAINERS_LOADED));
+        System.out.println("  Trucks Dispatched:    " + counts.get(Metric.TRUCKS_DISPATCHED));
+
+        // Rejection statistics
+        System.out.println("\nREJECTION STATISTICS:");
+        System.out.println("  Total Rejected Orders: " + counts.getTotalRejected());
+        System.out.println("  Order Success Rate:     " + String.format("%.1f%%", getOrderSuccessRate(counts)));
+        System.out.println("  Rejection Breakdown:    " + getRejectionBreakdown(counts));
+
+        // AGV breakdown statistics
+        System.out.println("\nAGV BREAKDOWN STATISTICS:");
+        if (counts.get(Metric.AGV_BREAKDOWNS) == 0) {
+            System.out.println("  No AGV breakdowns recorded");
+        } else {
+            System.out.println("  Total Breakdowns:       " + counts.get(Metric.AGV_BREAKDOWNS));
+            System.out.println("  Total Downtime:         " + String.format("%.2f seconds", counts.get(Metric.AGV_DOWNTIME_MS) / 1000.0));
+            System.out.println("  Downtime Percentiles:   " + agvDowntimes.snapshot().format(" ms"));
+            System.out.println("  Rerouted Loads:         " + counts.get(Metric.AGV_REROUTES));
+        }
+
+        // Truck timing statistics
+        System.out.println("\nTRUCK LOADING STATISTICS:");
+        if (truckLoadingTimes.isEmpty()) {
+            System.out.println("  No truck loading data recorded");
+        } else {
+            LatencyHistogram.Snapshot loading = truckLoadingTimes.snapshot();
+            System.out.printf("  Minimum Loading Time: %d ms%n", loading.getMin());
+            System.out.printf("  Maximum Loading Time: %d ms%n", loading.getMax());
+            System.out.printf("  Average Loading Time: %.2f ms%n", loading.getMean());
+            System.out.println("  Percentiles:          " + loading.format(" ms"));
+        }
+
+        System.out.println("\nTRUCK WAIT STATISTICS:");
+        if (truckWaitTimes.isEmpty()) {
+            System.out.println("  No truck wait data recorded");
+        } else {
+            LatencyHistogram.Snapshot wait = truckWaitTimes.snapshot();
+            System.out.printf("  Minimum Wait Time:    %d ms%n", wait.getMin());
+            System.out.printf("  Maximum Wait Time:    %d ms%n", wait.getMax());
+            System.out.printf("  Average Wait Time:    %.2f ms%n", wait.getMean());
+            System.out.println("  Percentiles:          " + wait.format(" ms"));
+        }
+
+        System.out.println("\nTRUCK DISPATCH STATISTICS:");
+        if (truckLoads.isEmpty()) {
+            System.out.println("  No truck departures recorded");
+        } else {
+            LatencyHistogram.Snapshot loads = truckLoads.snapshot();
+            System.out.println("  Trips:                " + loads.getCount());
+            System.out.printf("  Containers per Trip:  %.2f (max %d)%n", loads.getMean(), loads.getMax());
+            System.out.printf("  Load Factor:          %.1f%% of %d containers%n", getTruckLoadFactor() * 100, truckCapacity);
+            System.out.println("  Container Dwell:      " + containerDwellTimes.snapshot().format(" ms"));
+        }
+
+        printOrderLatencyReport();
+
+        System.out.println(StringUtils.repeat("=", 80));
+        System.out.println(StringUtils.center("SIMULATION COMPLETED", 80));
+        System.out.println(StringUtils.repeat("=", 80));
+    }
+    
+    private void printOrderLatencyReport() {
+        System.out.println("\nORDER LATENCY BY STAGE (ms):");
+        if (orderEndToEndTimes.isEmpty()) {
+            System.out.println("  No shipped orders traced");
+            return;
+        }
+        System.out.println(String.format("  %-16s %8s %8s %8s %8s %8s %8s",
+                "Stage", "Wait p50", "p99", "max", "Svc p50", "p99", "max"));
+        for (PipelineStage stage : PipelineStage.values()) {
+            LatencyHistogram.Snapshot wait = stageWaitTimes[stage.ordinal()].snapshot();
+            LatencyHistogram.Snapshot service = stageServiceTimes[stage.ordinal()].snapshot();
+            System.out.println(String.format("  %-16s %8d %8d %8d %8d %8d %8d", stage.getDisplayName(),
+                    wait.getValueAtPercentile(50), wait.getValueAtPercentile(99), wait.getMax(),
+                    service.getValueAtPercentile(50), service.getValueAtPercentile(99), service.getMax()));
+        }
+        LatencyHistogram.Snapshot endToEnd = orderEndToEndTimes.snapshot();
+        System.out.println("  Orders Traced:        " + endToEnd.getCount());
+        System.out.println("  Order-to-Truck:       " + endToEnd.format(" ms"));
+    }
+    
+    /**
+     * Every counter and histogram, for a checkpoint (see SimulationCheckpoint); the wall-clock
+     * start and end are not saved, a resumed run times itself
+     */
+    void writeTo(DataOutput out) throws IOException {
+        MetricsRegistry.Snapshot counts = metrics.snapshot();
+        Metric[] all = counts.getMetrics();
+        out.writeShort(all.length);
+        for (Metric metric : all) {
+            out.writeUTF(metric.getKey());
+            out.writeLong(counts.get(metric));
+        }
+        for (LatencyHistogram histogram : histograms()) {
+            histogram.writeTo(out);
+        }
+    }
+    
+    // Add checkpointed counts to this (fresh) Statistics
+    void readFrom(DataInput in) throws IOException {
+        int metricCount = in.readUnsignedShort();
+        for (int i = 0; i < metricCount; i++) {
+            String key = in.readUTF();
+            long value = in.readLong();
+            for (Metric metric : Metric.values()) {
+                if (metric.getKey().equals(key)) {
+                    metrics.add(metric, value);
+                }
+            }
+        }
+        for (LatencyHistogram histogram : histograms()) {
+            histogram.readFrom(in);
+        }
+    }
+    
+    // In checkpoint order
+    private LatencyHistogram[] histograms() {
+        int stages = PipelineStage.values().length;
+        LatencyHistogram[] all = new LatencyHistogram[6 + 2 * stages];
+        all[0] = agvDowntimes;
+        all[1] = truckLoadingTimes;
+        all[2] = truckWaitTimes;
+        all[3] = truckLoads;
+        all[4] = containerDwellTimes;
+        all[5] = orderEndToEndTimes;
+        System.arraycopy(stageWaitTimes, 0, all, 6, stages);
+        System.arraycopy(stageServiceTimes, 0, all, 6 + stages, stages);
+        return all;
+    }
+    
+    // Calculate truck statistics
+    public long getMinLoadingTime() {
+        return truckLoadingTimes.snapshot().getMin();
+    }
+    
+    public long getMaxLoadingTime() {
+        return truckLoadingTimes.snapshot().getMax();
+    }
+    
+    public long getMinWaitTime() {
+        return truckWaitTimes.snapshot().getMin();
+    }
+    
+    public long getMaxWaitTime() {
+        return truckWaitTimes.snapshot().getMax();
+    }
+    
+    public double getAverageWaitTime() {
+        return truckWaitTimes.snapshot().getMean();
+    }
+    
+    // Merged histogram views (percentiles, counts)
+    public LatencyHistogram.Snapshot getTruckLoadingSnapshot() { return truckLoadingTimes.snapshot(); }
+    public LatencyHistogram.Snapshot getTruckWaitSnapshot() { return truckWaitTimes.snapshot(); }
+    public LatencyHistogram.Snapshot getTruckLoadSnapshot() { return truckLoads.snapshot(); }
+    public LatencyHistogram.Snapshot getContainerDwellSnapshot() { return containerDwellTimes.snapshot(); }
+    public LatencyHistogram.Snapshot getAGVDowntimeSnapshot() { return agvDowntimes.snapshot(); }
+    public LatencyHistogram.Snapshot getStageWaitSnapshot(PipelineStage stage) { return stageWaitTimes[stage.ordinal()].snapshot(); }
+    public LatencyHistogram.Snapshot getStageServiceSnapshot(PipelineStage stage) { return stageServiceTimes[stage.ordinal()].snapshot(); }
+    public LatencyHistogram.Snapshot getOrderEndToEndSnapshot() { return orderEndToEndTimes.snapshot(); }
+    
+    // Calculate simulation duration
+    public long getSimulationDuration() {
+        long endTime = simulationEndTime.get();
+        if (endTime == 0) {
+            endTime = System.currentTimeMillis();
+        }
+        return endTime - simulationStartTime.get();
+    }
+    
+    // Calculate success rate
+    public double getOrderSuccessRate() {
+        return getOrderSuccessRate(metrics.snapshot());
+    }
+    
+    private static double getOrderSuccessRate(MetricsRegistry.Snapshot counts) {
+        long received = counts.get(Metric.ORDERS_RECEIVED);
+        if (received == 0) return 0.0;
+        return (double) counts.get(Metric.ORDERS_PROCESSED) / received * 100.0;
+    }
+    
+    // Get rejection breakdown
+    public String getRejectionBreakdown() {
+        return getRejectionBreakdown(metrics.snapshot());
+    }
+    
+    private static String getRejectionBreakdown(MetricsRegistry.Snapshot counts) {
+        long total = counts.getTotalRejected();
+        if (total == 0) return "No rejections";
+        
+        long intake = counts.get(Metric.REJECTED_AT_INTAKE);
+        long picking = counts.get(Metric.REJECTED_AT_PICKING);
+        long packing = counts.get(Metric.REJECTED_AT_PACKING);
+        long labelling = counts.get(Metric.REJECTED_AT_LABELLING);
+        return String.format("Intake:%d(%.1f%%), Picking:%d(%.1f%%), Packing:%d(%.1f%%), Labelling:%d(%.1f%%)",
+                intake, (double) intake / total * 100.0,
+                picking, (double) picking / total * 100.0,
+                packing, (double) packing / total * 100.0,
+                labelling, (double) labelling / total * 100.0);
+    }
+    
+    // Getters
+    public int getOrdersReceived() { return (int) metrics.get(Metric.ORDERS_RECEIVED); }
+    public int getOrdersProcessed() { return (int) metrics.get(Metric.ORDERS_PROCESSED); }
+    public int getBoxesPacked() { return (int) metrics.get(Metric.BOXES_PACKED); }
+    public int getContainersSealed() { return (int) metrics.get(Metric.CONTAINERS_CREATED); }
+    public int getContainersLoaded() { return (int) metrics.get(Metric.CONTAINERS_LOADED); }
+    public int getTrucksDispatched() { return (int) metrics.get(Metric.TRUCKS_DISPATCHED); }
+    public int getTotalRejectedOrders() { return (int) metrics.getTotalRejected(); }
+    public int getOrdersRejectedAtIntake() { return (int) metrics.get(Metric.REJECTED_AT_INTAKE); }
+    public int getOrdersRejectedAtPicking() { return (int) metrics.get(Metric.REJECTED_AT_PICKING); }
+    public int getOrdersRejectedAtPacking() { return (int) metrics.get(Metric.REJECTED_AT_PACKING); }
+    public int getOrdersRejectedAtLabelling() { return (int) metrics.get(Metric.REJECTED_AT_LABELLING); }
+    public int getAGVBreakdownCount() { return (int) metrics.get(Metric.AGV_BREAKDOWNS); }
+    public long getTotalAGVDowntime() { return metrics.get(Metric.AGV_DOWNTIME_MS); }
+}
@@ -1,3 +1,5 @@
+package com.assignment.mavenproject1;
+
 /**
  * Simplified String utility class
  */
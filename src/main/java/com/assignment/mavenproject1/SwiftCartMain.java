@@ -0,0 +1,283 @@
+package com.assignment.mavenproject1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Simplified SwiftCart Main Class
+ */
+public class SwiftCartMain {
+    
+    private static Scenario scenario;
+    private static SimulationContext context;
+    private static ThreadedSimulation simulation;
+    // Options for the context, read before it is created
+    private static ExecutionMode executionMode;
+    private static AGVDispatcher.Policy agvPolicy = AGVDispatcher.Policy.FLEET;
+    private static TruckDispatchPolicy truckPolicy = TruckDispatchPolicy.LOW_BACKLOG;
+    private static int metricsPort = -1;
+    private static boolean autoscalePickers = false;
+    private static int intakeBurstSize = 0;
+    private static ShutdownMode shutdownMode = ShutdownMode.DRAIN;
+    // --seed, --record, --replay; a fresh master seed otherwise
+    private static SimulationRandom random;
+    private static Long seed;
+    private static boolean discreteEvent;
+    // --journal=path: every pipeline event to a binary journal (see EventJournal)
+    private static EventJournal journal = EventJournal.DISABLED;
+    // --checkpoint=path with --checkpoint-at=ms and/or --checkpoint-every=ms (simulated), and
+    // --resume=path; discrete-event runs only (see SimulationCheckpoint)
+    private static String checkpointPath;
+    private static long checkpointAtMs = -1;
+    private static long checkpointEveryMs = 0;
+    private static boolean stopAtCheckpoint = false;
+    private static SimulationCheckpoint resumeFrom;
+    
+    public static void main(String[] args) {
+        System.out.println(StringUtils.repeat("=", 70));
+        System.out.println(StringUtils.center("SWIFTCART E-COMMERCE SIMULATION", 70));
+        System.out.println(StringUtils.center("Multiple Trip Truck System", 70));
+        System.out.println(StringUtils.repeat("=", 70));
+        
+        try {
+            parseArguments(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("SwiftCartMain: Invalid arguments - " + e.getMessage());
+            System.exit(2);
+        }
+        
+        if (discreteEvent) {
+            runDiscreteEventSimulation();
+            return;
+        }
+        
+        initializeSimulation();
+        simulation.run();
+        journal.close();
+        
+        Log.flush();
+        simulation.getStatistics().printFinalReport();
+        simulation.printFinalSummary();
+        Log.info("SwiftCartMain: Shutdown completed");
+        Log.shutdown();
+    }
+    
+    // Scenario (or the checkpoint's) first, so options and --key=value overrides apply on top of it
+    private static void parseArguments(String[] args) {
+        ScenarioConfig config = ScenarioConfig.defaults();
+        boolean scenarioGiven = false;
+        for (String arg : args) {
+            if (arg.startsWith("--scenario=")) {
+                config = ScenarioConfig.load(arg.substring("--scenario=".length()));
+                scenarioGiven = true;
+            } else if (arg.startsWith("--resume=")) {
+                resumeFrom = SimulationCheckpoint.load(arg.substring("--resume=".length()));
+            }
+        }
+        if (resumeFrom != null) {
+            if (scenarioGiven) {
+                throw new IllegalArgumentException("--resume takes its scenario from the checkpoint; change single settings with --key=value");
+            }
+            config = resumeFrom.getScenarioConfig();
+            truckPolicy = resumeFrom.getTruckDispatchPolicy();
+            agvPolicy = resumeFrom.getAgvDispatchPolicy();
+        }
+        discreteEvent = Arrays.asList(args).contains("--des");
+        
+        String recordPath = null;
+        String replayPath = null;
+        String journalPath = null;
+        // Options that only the threaded engine reads; a --des run must not silently ignore them
+        List<String> threadedOnly = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--scenario=") || arg.startsWith("--resume=") || arg.equals("--des")) {
+                continue;
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()).trim());
+            } else if (arg.startsWith("--record=")) {
+                recordPath = arg.substring("--record=".length());
+            } else if (arg.startsWith("--replay=")) {
+                replayPath = arg.substring("--replay=".length());
+            } else if (arg.startsWith("--journal=")) {
+                journalPath = arg.substring("--journal=".length());
+            } else if (arg.startsWith("--checkpoint=")) {
+                checkpointPath = arg.substring("--checkpoint=".length());
+            } else if (arg.startsWith("--checkpoint-at=")) {
+                checkpointAtMs = Long.parseLong(arg.substring("--checkpoint-at=".length()).trim());
+            } else if (arg.startsWith("--checkpoint-every=")) {
+                checkpointEveryMs = Long.parseLong(arg.substring("--checkpoint-every=".length()).trim());
+            } else if (arg.equals("--stop-at-checkpoint")) {
+                stopAtCheckpoint = true;
+            } else if (arg.startsWith("--threads=")) {
+                threadedOnly.add("--threads");
+                executionMode = ExecutionMode.parse(arg.substring("--threads=".length()));
+            } else if (arg.startsWith("--metrics-port=")) {
+                threadedOnly.add("--metrics-port");
+                metricsPort = Integer.parseInt(arg.substring("--metrics-port=".length()));
+            } else if (arg.startsWith("--shutdown=")) {
+                threadedOnly.add("--shutdown");
+                shutdownMode = ShutdownMode.parse(arg.substring("--shutdown=".length()));
+            } else if (arg.startsWith("--agv-dispatch=")) {
+                agvPolicy = AGVDispatcher.Policy.parse(arg.substring("--agv-dispatch=".length()));
+            } else if (arg.startsWith("--truck-dispatch=")) {
+                truckPolicy = TruckDispatchPolicy.parse(arg.substring("--truck-dispatch=".length()));
+            } else if (arg.startsWith("--intake-burst=")) {
+                threadedOnly.add("--intake-burst");
+                intakeBurstSize = Integer.parseInt(arg.substring("--intake-burst=".length()));
+            } else if (arg.startsWith("--autoscale-pickers")) {
+                // --autoscale-pickers or --autoscale-pickers=min,max
+                threadedOnly.add("--autoscale-pickers");
+                autoscalePickers = true;
+                if (arg.startsWith("--autoscale-pickers=")) {
+                    String[] bounds = arg.substring("--autoscale-pickers=".length()).split(",");
+                    config.set("autoscale.min.pickers", bounds[0]);
+                    config.set("autoscale.max.pickers", bounds[bounds.length - 1]);
+                }
+            } else if (arg.startsWith("--") && arg.indexOf('=') > 2) {
+                // Scenario override, e.g. --orders.total=20000 or --packers=2
+                String key = arg.substring(2, arg.indexOf('='));
+                if (!ScenarioConfig.isSetting(key)) {
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+                config.set(key, arg.substring(arg.indexOf('=') + 1));
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        
+        scenario = config.toScenario();
+        
+        if (recordPath != null && replayPath != null) {
+            throw new IllegalArgumentException("--record and --replay cannot be combined");
+        }
+        if (discreteEvent && (recordPath != null || replayPath != null)) {
+            throw new IllegalArgumentException("--record and --replay apply to threaded runs; repeat a --des run with --seed");
+        }
+        if (discreteEvent && !threadedOnly.isEmpty()) {
+            throw new IllegalArgumentException("--des runs do not take " + String.join(", ", threadedOnly) + " (threaded runs only)");
+        }
+        if (!discreteEvent && (checkpointPath != null || resumeFrom != null)) {
+            throw new IllegalArgumentException("--checkpoint and --resume apply to --des runs");
+        }
+        if (checkpointPath != null && checkpointAtMs < 0 && checkpointEveryMs <= 0) {
+            throw new IllegalArgumentException("--checkpoint needs --checkpoint-at=ms or --checkpoint-every=ms of simulated time");
+        }
+        if (checkpointPath == null && (checkpointAtMs >= 0 || checkpointEveryMs > 0 || stopAtCheckpoint)) {
+            throw new IllegalArgumentException("--checkpoint-at, --checkpoint-every and --stop-at-checkpoint need --checkpoint=path");
+        }
+        if (replayPath != null) {
+            if (seed != null) {
+                throw new IllegalArgumentException("--replay takes its seed from the trace; drop --seed");
+            }
+            random = SimulationRandom.replay(replayPath);
+        } else if (recordPath != null) {
+            random = SimulationRandom.record(seed != null ? seed : SimulationRandom.unseeded().getMasterSeed(), recordPath);
+        } else {
+            random = seed != null ? SimulationRandom.seeded(seed) : SimulationRandom.unseeded();
+        }
+        if (journalPath != null) {
+            journal = EventJournal.open(journalPath, discreteEvent ? EventJournal.Clock.SIMULATED : EventJournal.Clock.WALL, scenario);
+        }
+    }
+    
+    private static void initializeSimulation() {
+        Log.info("SwiftCartMain: Initializing...");
+        context = new SimulationContext(scenario, random, journal);
+        if (executionMode != null) {
+            context.workers.setMode(executionMode);
+        }
+        context.agvDispatcher.setPolicy(agvPolicy);
+        context.setTruckDispatchPolicy(truckPolicy);
+        
+        simulation = new ThreadedSimulation(context);
+        simulation.setAutoscalePickers(autoscalePickers);
+        simulation.setIntakeBurstSize(intakeBurstSize);
+        simulation.setShutdownMode(shutdownMode);
+        simulation.setMetricsPort(metricsPort);
+        printParameters();
+    }
+    
+    // Same pipeline on a virtual clock - no threads, no sleeping
+    private static void runDiscreteEventSimulation() {
+        Log.info("SwiftCartMain: Discrete-event mode");
+        Statistics statistics = new Statistics(scenario);
+        statistics.startSimulation();
+        printParameters();
+        
+        DiscreteEventSimulation simulation;
+        if (resumeFrom != null) {
+            try {
+                simulation = DiscreteEventSimulation.resume(resumeFrom, scenario, statistics);
+            } catch (IllegalArgumentException e) {
+                System.err.println("SwiftCartMain: Cannot resume - " + e.getMessage());
+                System.exit(2);
+                return;
+            }
+            // Otherwise the run carries on with the checkpoint's random state
+            if (seed != null) {
+                simulation.reseed(seed);
+            }
+        } else {
+            simulation = seed != null
+                    ? new DiscreteEventSimulation(scenario, statistics, seed)
+                    : new DiscreteEventSimulation(scenario, statistics);
+        }
+        simulation.setTruckDispatchPolicy(truckPolicy);
+        simulation.setAgvDispatchPolicy(agvPolicy);
+        simulation.setJournal(journal);
+        if (checkpointPath != null) {
+            simulation.setCheckpoints(checkpointPath, checkpointAtMs >= 0 ? checkpointAtMs : checkpointEveryMs,
+                                      checkpointEveryMs, stopAtCheckpoint);
+        }
+        simulation.run();
+        journal.close();
+        
+        statistics.endSimulation();
+        Log.flush();
+        if (simulation.isStopped()) {
+            System.out.println("Stopped at " + (simulation.getSimulatedTimeMs() / 1000.0)
+                    + " simulated seconds; continue with --des --resume=" + checkpointPath);
+        } else {
+            statistics.printFinalReport();
+            System.out.println("Resource Waits: " + simulation.getResourceSummary());
+            System.out.println("AGV Fleet: " + simulation.getAgvSummary());
+        }
+        Log.shutdown();
+    }
+    
+    private static void printParameters() {
+        Log.flush();
+        System.out.println("Parameters:");
+        System.out.println("  Scenario: " + scenario);
+        System.out.println("  Orders: " + scenario.totalOrders);
+        System.out.println("  Interval: " + scenario.orderIntervalMs + "ms" + (intakeBurstSize > 0
+                ? " (bursts of " + intakeBurstSize + " every " + scenario.intakeBurstEvery + " orders)" : ""));
+        System.out.println("  Pickers: " + (autoscalePickers
+                ? "autoscaled " + scenario.minPickers + ".." + scenario.maxPickers : String.valueOf(scenario.pickers)));
+        System.out.println("  Packers: " + scenario.packers + ", Labellers: " + scenario.labellers
+                + ", Sorters: " + scenario.sorters);
+        System.out.println("  AGVs: " + scenario.agvs + " (" + agvPolicy + " dispatch), Loading Bays: "
+                + scenario.loadingBays);
+        System.out.println("  Trucks: " + scenario.trucks + " x " + scenario.truckCapacity + " containers ("
+                + truckPolicy + " dispatch)");
+        if (!discreteEvent) {
+            System.out.println("  Shutdown: " + shutdownMode + (shutdownMode == ShutdownMode.DURATION
+                    ? " (at most " + (scenario.simulationDurationMs / 1000) + " seconds)" : ""));
+        }
+        System.out.println("  Random: " + (discreteEvent ? (seed != null ? "seed " + seed
+                : resumeFrom != null ? "carried on from the checkpoint" : "unseeded") : random));
+        System.out.println("  Journal: " + journal);
+        if (resumeFrom != null) {
+            System.out.println("  Resumed: " + resumeFrom);
+        }
+        if (checkpointPath != null) {
+            System.out.println("  Checkpoint: " + checkpointPath + (checkpointAtMs >= 0 ? " at " + checkpointAtMs + "ms" : "")
+                    + (checkpointEveryMs > 0 ? " every " + checkpointEveryMs + "ms" : "")
+                    + (stopAtCheckpoint ? ", then stop" : ""));
+        }
+        if (!discreteEvent) {
+            System.out.println("  Threads: " + (context != null ? context.workers.getMode() : ExecutionMode.PLATFORM));
+        }
+    }
+}
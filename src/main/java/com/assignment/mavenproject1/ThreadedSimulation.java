@@ -0,0 +1,223 @@
+package com.assignment.mavenproject1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
+
+/**
+ * One threaded run of the pipeline over its own SimulationContext: starts every stage,
+ * waits for the shutdown monitor to end the run, and keeps the workers for the final summary.
+ * Nothing is static, so several can run at once (see BatchRunner).
+ */
+public class ThreadedSimulation {
+
+    private final SimulationContext context;
+    private final Statistics statistics;
+
+    private OrderIntakeThread orderIntakeThread;
+    // Written by the autoscaler thread when picker autoscaling is on
+    private final List<PickingStationThread> pickingThreads = new CopyOnWriteArrayList<>();
+    private final List<PackingStationThread> packingThreads = new ArrayList<>();
+    private final List<LabellingStationThread> labellingThreads = new ArrayList<>();
+    private final List<SortingThread> sortingThreads = new ArrayList<>();
+    private final List<LoaderThread> loaderThreads = new ArrayList<>();
+    private TruckThread dispatcherTruck;
+    private RejectHandler rejectHandler;
+    private AGVFailureSimulator agvFailureSimulator;
+    private ThreadsShutdown shutdownManager;
+    private MetricsServer metricsServer;
+    private PickerAutoscaler pickerAutoscaler;
+
+    private boolean autoscalePickers = false;
+    private int intakeBurstSize = 0;
+    private ShutdownMode shutdownMode = ShutdownMode.DRAIN;
+    private int metricsPort = -1;
+
+    public ThreadedSimulation(SimulationContext context) {
+        this.context = context;
+        this.statistics = new Statistics(context);
+    }
+
+    // Options; call before run()
+    public void setAutoscalePickers(boolean autoscalePickers) { this.autoscalePickers = autoscalePickers; }
+    public void setIntakeBurstSize(int intakeBurstSize) { this.intakeBurstSize = intakeBurstSize; }
+    public void setShutdownMode(ShutdownMode shutdownMode) { this.shutdownMode = shutdownMode; }
+    public void setMetricsPort(int metricsPort) { this.metricsPort = metricsPort; }
+
+    /**
+     * Start every stage and block until the shutdown monitor has stopped them
+     */
+    public void run() {
+        statistics.startSimulation();
+        if (metricsPort >= 0) {
+            metricsServer = MetricsServer.start(context, metricsPort);
+        }
+        try {
+            startAllThreads();
+            waitForCompletion();
+        } catch (Exception e) {
+            System.err.println("ThreadedSimulation: Error: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            performShutdown();
+        }
+    }
+
+    private void startAllThreads() {
+        Log.info("ThreadedSimulation: Starting threads...");
+
+        // Ends the run on drain / intake exhaustion / time limit (--shutdown=)
+        shutdownManager = ThreadsShutdown.startShutdownMonitoring(context, statistics, shutdownMode);
+
+        // Start background systems
+        rejectHandler = new RejectHandler(context);
+        context.workers.start(rejectHandler);
+
+        agvFailureSimulator = new AGVFailureSimulator(context, statistics);
+        context.workers.start(agvFailureSimulator);
+
+        // Start main processing threads
+        orderIntakeThread = new OrderIntakeThread(context, intakeBurstSize);
+        context.workers.start(orderIntakeThread);
+
+        Scenario scenario = context.scenario;
+        if (autoscalePickers) {
+            pickerAutoscaler = new PickerAutoscaler(context, scenario.minPickers, scenario.maxPickers, pickingThreads);
+            pickerAutoscaler.startInitialPickers();
+            pickerAutoscaler.start();
+        } else {
+            for (int i = 1; i <= scenario.pickers; i++) {
+                PickingStationThread picker = new PickingStationThread(context, i);
+                pickingThreads.add(picker);
+                context.workers.start(picker);
+            }
+        }
+
+        for (int i = 1; i <= scenario.packers; i++) {
+            PackingStationThread packer = new PackingStationThread(context, i);
+            packingThreads.add(packer);
+            context.workers.start(packer);
+        }
+
+        for (int i = 1; i <= scenario.labellers; i++) {
+            LabellingStationThread labeller = new LabellingStationThread(context, i);
+            labellingThreads.add(labeller);
+            context.workers.start(labeller);
+        }
+
+        for (int i = 1; i <= scenario.sorters; i++) {
+            SortingThread sorter = new SortingThread(context, i);
+            sortingThreads.add(sorter);
+            context.workers.start(sorter);
+        }
+
+        for (int i = 1; i <= scenario.agvs; i++) {
+            LoaderThread loader = new LoaderThread(context, i);
+            loaderThreads.add(loader);
+            context.workers.start(loader);
+        }
+
+        dispatcherTruck = TruckThread.startTruckDispatchSystem(context, statistics);
+
+        Log.info("ThreadedSimulation: All threads started");
+    }
+
+    private void waitForCompletion() {
+        try {
+            if (shutdownManager != null) {
+                shutdownManager.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void performShutdown() {
+        Log.info("ThreadedSimulation: Performing shutdown...");
+
+        if (rejectHandler != null) {
+            rejectHandler.forceProcessRemainingBatch();
+        }
+
+        if (agvFailureSimulator != null) {
+            agvFailureSimulator.forceRecoverAllAGVs();
+        }
+
+        if (metricsServer != null) {
+            metricsServer.stop();
+        }
+        // Every stage has stopped drawing: write the trace, or report where a replay diverged
+        context.random.finish();
+        Log.info("ThreadedSimulation: Shutdown completed");
+    }
+
+    public void printFinalSummary() {
+        Log.flush();
+        System.out.println("\n" + StringUtils.repeat("=", 50));
+        System.out.println("FINAL SUMMARY");
+        System.out.println(StringUtils.repeat("=", 50));
+
+        if (orderIntakeThread != null) {
+            System.out.println("Orders Generated: " + orderIntakeThread.getOrdersGenerated());
+            System.out.println("Orders Accepted: " + orderIntakeThread.getOrdersAccepted());
+        }
+
+        int totalPicked = pickingThreads.stream().mapToInt(PickingStationThread::getOrdersPicked).sum();
+        System.out.println("Orders Picked: " + totalPicked);
+        if (pickerAutoscaler != null) {
+            System.out.println("Picker Autoscaler: " + pickerAutoscaler.getSummary());
+        }
+
+        if (!packingThreads.isEmpty()) {
+            int totalPacked = packingThreads.stream().mapToInt(PackingStationThread::getBoxesPacked).sum();
+            System.out.println("Boxes Packed: " + totalPacked + perStation(packingThreads.size(),
+                    i -> packingThreads.get(i).getName() + " " + packingThreads.get(i).getBoxesPacked()));
+        }
+
+        if (!labellingThreads.isEmpty()) {
+            int totalLabelled = labellingThreads.stream().mapToInt(LabellingStationThread::getBoxesLabelled).sum();
+            System.out.println("Boxes Labelled: " + totalLabelled + perStation(labellingThreads.size(),
+                    i -> labellingThreads.get(i).getName() + " " + labellingThreads.get(i).getBoxesLabelled()));
+        }
+
+        if (!sortingThreads.isEmpty()) {
+            int totalSorted = sortingThreads.stream().mapToInt(SortingThread::getBoxesSorted).sum();
+            int totalContainers = sortingThreads.stream().mapToInt(SortingThread::getContainersCreated).sum();
+            System.out.println("Boxes Sorted: " + totalSorted + perStation(sortingThreads.size(),
+                    i -> sortingThreads.get(i).getName() + " " + sortingThreads.get(i).getBoxesSorted()));
+            System.out.println("Containers Created: " + totalContainers + perStation(sortingThreads.size(),
+                    i -> sortingThreads.get(i).getName() + " " + sortingThreads.get(i).getContainersCreated()));
+        }
+
+        int totalLoaded = loaderThreads.stream().mapToInt(LoaderThread::getContainersLoaded).sum();
+        System.out.println("Containers Loaded: " + totalLoaded);
+        System.out.println("AGV Fleet: " + context.agvDispatcher.getSummary());
+        System.out.println("Container Pool: " + context.containerPool.getAllocated() + " allocated, "
+                + context.containerPool.getRecycled() + " recycled after departure");
+        System.out.println("Resource Waits: " + context.resources.getSummary());
+        MetricsRegistry.Snapshot counts = context.metrics.snapshot();
+        System.out.println("Total Truck Dispatches: " + counts.get(MetricsRegistry.Metric.TRUCKS_DISPATCHED));
+        System.out.println("Orders Rejected: " + counts.getTotalRejected());
+
+        System.out.println(StringUtils.repeat("=", 50));
+    }
+
+    // " (Packer-1 40, Packer-2 38)" when a stage is replicated, nothing for a single station
+    private static String perStation(int stations, IntFunction<String> station) {
+        if (stations < 2) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(" (");
+        for (int i = 0; i < stations; i++) {
+            out.append(i > 0 ? ", " : "").append(station.apply(i));
+        }
+        return out.append(')').toString();
+    }
+
+    public SimulationContext getContext() { return context; }
+    public Statistics getStatistics() { return statistics; }
+    public boolean isAutoscalePickers() { return autoscalePickers; }
+    public int getIntakeBurstSize() { return intakeBurstSize; }
+    public ShutdownMode getShutdownMode() { return shutdownMode; }
+}
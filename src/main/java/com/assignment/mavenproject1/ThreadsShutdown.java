@@ -0,0 +1,116 @@
+package com.assignment.mavenproject1;
+
+import java.util.List;
+
+/**
+ * Simplified Threads Shutdown.
+ * Waits for the event that ends the run (see ShutdownMode) instead of a fixed timer:
+ * end-of-stream reaching the last truck, or intake finishing. Whatever is still
+ * running at that point is interrupted. A drain that stalls (a worker died before
+ * workerFinished, or a marker was lost) gives up after drain.timeout.ms.
+ */
+public class ThreadsShutdown extends Thread {
+    // How long each worker gets to exit after being interrupted
+    private static final long WORKER_JOIN_MS = 2000;
+    
+    private final SimulationContext context;
+    private final Statistics statistics;
+    private final ShutdownMode mode;
+    
+    public ThreadsShutdown(SimulationContext context, Statistics statistics, ShutdownMode mode) {
+        super("SimulationShutdown");
+        this.setDaemon(true);
+        this.context = context;
+        this.statistics = statistics;
+        this.mode = mode;
+    }
+    
+    @Override
+    public void run() {
+        Log.info("ThreadsShutdown: Waiting for {} (Thread: {})", mode, getName());
+
+        try {
+            switch (mode) {
+                case INTAKE_EXHAUSTED:
+                    context.awaitIntakeComplete();
+                    Log.info("ThreadsShutdown: Intake exhausted - abandoning work still in the pipeline");
+                    break;
+                case DURATION:
+                    if (!context.awaitPipelineDrained(context.scenario.simulationDurationMs)) {
+                        Log.info("ThreadsShutdown: {} s elapsed before the pipeline drained - starting shutdown",
+                                 context.scenario.simulationDurationMs / 1000);
+                    }
+                    break;
+                default:
+                    if (!context.awaitPipelineDrained(context.scenario.drainTimeoutMs)) {
+                        Log.warn("ThreadsShutdown: Pipeline not drained after {} s - still running: {} - forcing shutdown",
+                                 context.scenario.drainTimeoutMs / 1000, context.describeUnfinishedStages());
+                    }
+                    break;
+            }
+
+            // Signal shutdown to stop AGV breakdown simulation and the monitors
+            context.shutdown();
+            forceRepairAllAGVs();
+
+            stopWorkerThreads();
+            // Repairs still pending are moot now
+            context.timers.stop();
+
+            Log.info("ThreadsShutdown: Completing shutdown");
+
+            // The caller prints the report once this thread has finished
+            statistics.endSimulation();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Recorded like a timed repair, so an AGV broken at the end still counts its downtime
+    private void forceRepairAllAGVs() {
+        for (int agvId = 0; agvId < context.scenario.agvs; agvId++) {
+            AGVFailureSimulator.repair(context, statistics, agvId);
+        }
+    }
+
+    // After a drain only the background workers (RejectHandler, AGVFailureSimulator) are left
+    private void stopWorkerThreads() throws InterruptedException {
+        List<Thread> threads = context.workers.getWorkers();
+        int interrupted = 0;
+        for (Thread thread : threads) {
+            if (thread.isAlive()) {
+                Log.debug("ThreadsShutdown: Interrupting {}", thread.getName());
+                thread.interrupt();
+                interrupted++;
+            }
+        }
+        Log.info("ThreadsShutdown: {} of {} worker threads still running, interrupted", interrupted, threads.size());
+
+        boolean hasStuckThreads = false;
+        for (Thread thread : threads) {
+            thread.join(WORKER_JOIN_MS);
+            if (thread.isAlive()) {
+                Log.warn("ThreadsShutdown: WARNING - Thread still running: {}", thread.getName());
+                hasStuckThreads = true;
+            }
+        }
+
+        if (!hasStuckThreads) {
+            Log.info("ThreadsShutdown: All worker threads successfully stopped");
+        } else {
+            Log.info("ThreadsShutdown: Some threads still running - continuing with shutdown");
+        }
+    }
+    
+    public static ThreadsShutdown startShutdownMonitoring(SimulationContext context, Statistics statistics) {
+        return startShutdownMonitoring(context, statistics, ShutdownMode.DRAIN);
+    }
+    
+    public static ThreadsShutdown startShutdownMonitoring(SimulationContext context, Statistics statistics,
+                                                          ShutdownMode mode) {
+        ThreadsShutdown shutdown = new ThreadsShutdown(context, statistics, mode);
+        shutdown.start();
+        return shutdown;
+    }
+}
@@ -0,0 +1,280 @@
+package com.assignment.mavenproject1;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hashed timing wheel running every delayed action (repairs, monitoring ticks, timeouts) on one
+ * daemon thread, instead of a thread per action that only sleeps.
+ *
+ * schedule() and cancel() are O(1) from any thread: they push onto a lock-free queue that the
+ * timer thread drains into the wheel on its next tick. Each tick the timer thread runs the
+ * bucket for that tick; a timeout further away than one turn of the wheel waits out its
+ * remaining rounds in its bucket. Timeouts fire at most one tick late plus the time taken by
+ * the tasks ahead of them, so tasks must be short (flip a flag, signal, reschedule).
+ */
+public class TimerService {
+
+    private static final int NEW = 0;
+    private static final int STARTED = 1;
+    private static final int STOPPED = 2;
+
+    // Pending timeouts moved into the wheel per tick, so a flood of schedules cannot stall expiry
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final String name;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(NEW);
+    // Deadlines and ticks count from here
+    private final long startNanos = System.nanoTime();
+    private volatile Thread worker;
+
+    // Written by the timer thread only
+    private long tick = 0;
+    private final AtomicLong fired = new AtomicLong();
+    // How late each timeout fired, in ms
+    private final LatencyHistogram lateness = new LatencyHistogram();
+
+    /**
+     * @param tickMs    resolution; a timeout fires within one tick after its delay
+     * @param wheelSize buckets, rounded up to a power of two; one turn covers tickMs * wheelSize
+     */
+    public TimerService(String name, long tickMs, int wheelSize) {
+        this.name = name;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMs));
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Run the task on the timer thread after delayMs. Ignored once the service is stopped.
+     */
+    public Timeout schedule(long delayMs, Runnable task) {
+        start();
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMs));
+        Timeout timeout = new Timeout(this, task, deadline);
+        if (state.get() != STOPPED) {
+            pending.add(timeout);
+        }
+        return timeout;
+    }
+
+    // The timer thread starts on the first schedule()
+    private void start() {
+        if (state.get() != NEW || !state.compareAndSet(NEW, STARTED)) {
+            return;
+        }
+        tick = (System.nanoTime() - startNanos) / tickNanos;
+        Thread thread = new Thread(this::runWheel, name);
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    /**
+     * Stop the timer thread; timeouts not yet fired never will be
+     */
+    public void stop() throws InterruptedException {
+        if (state.getAndSet(STOPPED) == STARTED) {
+            Thread thread = worker;
+            thread.interrupt();
+            thread.join();
+        }
+    }
+
+    private void runWheel() {
+        while (state.get() == STARTED) {
+            long now = awaitNextTick();
+            if (now < 0) {
+                break;
+            }
+            removeCancelled();
+            transferPending();
+            wheel[(int) (tick & mask)].expire(now);
+            tick++;
+        }
+    }
+
+    // Sleep until the end of the current tick; returns nanos since start, or -1 when stopped
+    private long awaitNextTick() {
+        long tickEnd = tickNanos * (tick + 1);
+        while (true) {
+            long now = System.nanoTime() - startNanos;
+            long sleepMs = (tickEnd - now + 999_999) / 1_000_000;
+            if (sleepMs <= 0) {
+                return now;
+            }
+            try {
+                Thread.sleep(sleepMs);
+            } catch (InterruptedException e) {
+                if (state.get() == STOPPED) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.WAITING) {
+                continue;
+            }
+            long dueTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (dueTick - tick) / wheel.length;
+            // Already overdue: run on this tick
+            wheel[(int) (Math.max(dueTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void fire(Timeout timeout, long now) {
+        if (!timeout.state.compareAndSet(Timeout.WAITING, Timeout.FIRED)) {
+            return;
+        }
+        fired.incrementAndGet();
+        lateness.record(Math.max(0, now - timeout.deadline) / 1_000_000);
+        try {
+            timeout.task.run();
+        } catch (RuntimeException e) {
+            Log.warn("TimerService: Task failed - {}", e.toString());
+        }
+    }
+
+    // Timeouts waiting to fire (approximate while schedules are in flight)
+    public long getPending() {
+        long waiting = pending.size();
+        for (Bucket bucket : wheel) {
+            waiting += bucket.size;
+        }
+        return waiting;
+    }
+
+    public long getFired() {
+        return fired.get();
+    }
+
+    public LatencyHistogram.Snapshot getLateness() {
+        return lateness.snapshot();
+    }
+
+    /**
+     * Handle for one scheduled task
+     */
+    public static final class Timeout {
+        static final int WAITING = 0;
+        static final int FIRED = 1;
+        static final int CANCELLED = 2;
+
+        private final TimerService timer;
+        private final Runnable task;
+        // Nanos after the timer started
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        // Wheel position, timer thread only
+        long remainingRounds;
+        Bucket bucket;
+        Timeout next;
+        Timeout prev;
+
+        Timeout(TimerService timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        // False if the task has already run (or is running) or was cancelled before
+        public boolean cancel() {
+            if (!state.compareAndSet(WAITING, CANCELLED)) {
+                return false;
+            }
+            // Unlinked from its bucket by the timer thread on the next tick
+            timer.cancelled.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts hashed to one slot; timer thread only
+     */
+    private final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+        private int size;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+            size++;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.next = timeout.prev = null;
+            timeout.bucket = null;
+            size--;
+        }
+
+        // Fire what is due this turn; the rest wait one more round
+        void expire(long now) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    fire(timeout, now);
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.assignment.mavenproject1;
+
+/**
+ * When a part-loaded truck leaves the bay (--truck-dispatch=).
+ *
+ * Every policy leaves at the truck capacity, and with whatever is aboard once the loaders
+ * have finished. Short of that:
+ *   FULL        - waits until the truck is full: fewest trips, longest container dwell
+ *   TIMEOUT     - leaves truck.departure.timeout.ms after its first container went aboard
+ *   LOW_BACKLOG - leaves once at most truck.low.backlog sealed containers are on their way to the
+ *                 bay or waiting there, i.e. when staying would not fill it soon
+ */
+public enum TruckDispatchPolicy {
+    FULL,
+    TIMEOUT,
+    LOW_BACKLOG;
+
+    // "full", "timeout", "low-backlog"
+    public static TruckDispatchPolicy parse(String value) {
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+
+    /**
+     * @param loaded   containers aboard (at least one)
+     * @param waitedMs since the first of them went aboard
+     * @param backlog  sealed containers waiting for an AGV, on an AGV or at the bay
+     */
+    public boolean shouldDepart(Scenario scenario, int loaded, long waitedMs, int backlog) {
+        if (loaded >= scenario.truckCapacity) {
+            return true;
+        }
+        switch (this) {
+            case TIMEOUT:
+                return waitedMs >= scenario.truckDepartureTimeoutMs;
+            case LOW_BACKLOG:
+                return backlog <= scenario.truckLowBacklog;
+            default:
+                return false;
+        }
+    }
+
+    // How long a part-loaded truck may wait for the next container before asking again
+    public long recheckMs(Scenario scenario, long waitedMs) {
+        switch (this) {
+            case TIMEOUT:
+                return Math.max(1, scenario.truckDepartureTimeoutMs - waitedMs);
+            case LOW_BACKLOG:
+                // A container between a loader's take() and its bay slot is briefly counted nowhere
+                return scenario.truckRecheckMs;
+            default:
+                return Long.MAX_VALUE;
+        }
+    }
+}
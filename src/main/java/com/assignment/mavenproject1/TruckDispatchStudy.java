@@ -0,0 +1,99 @@
+package com.assignment.mavenproject1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the truck dispatch policies.
+ *
+ * Runs the discrete-event pipeline once per policy with the same seed and intake rate, and
+ * reports trips, containers per trip, load factor, how long containers dwell between reaching
+ * the bay and leaving on a truck, order-to-truck p99 and simulated makespan.
+ *
+ * Usage: TruckDispatchStudy [scenario=default] [policies=full,timeout,low-backlog] [interval=500] [seed=42]
+ * interval defaults to the scenario's orders.interval.ms.
+ */
+public class TruckDispatchStudy {
+
+    public static void main(String[] args) {
+        List<TruckDispatchPolicy> policies = new ArrayList<>();
+        long interval = -1;
+        long seed = 42;
+        ScenarioConfig config = ScenarioConfig.defaults();
+        for (String arg : args) {
+            if (arg.startsWith("scenario=")) {
+                config = ScenarioConfig.load(arg.substring("scenario=".length()));
+            } else if (arg.startsWith("policies=")) {
+                for (String policy : arg.substring("policies=".length()).split(",")) {
+                    policies.add(TruckDispatchPolicy.parse(policy));
+                }
+            } else if (arg.startsWith("interval=")) {
+                interval = Long.parseLong(arg.substring("interval=".length()));
+            } else if (arg.startsWith("seed=")) {
+                seed = Long.parseLong(arg.substring("seed=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+        Scenario scenario = config.toScenario();
+        if (interval < 0) {
+            interval = scenario.orderIntervalMs;
+        }
+        if (policies.isEmpty()) {
+            for (TruckDispatchPolicy policy : TruckDispatchPolicy.values()) {
+                policies.add(policy);
+            }
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (TruckDispatchPolicy policy : policies) {
+            results.add(run(scenario, policy, interval, seed));
+        }
+
+        Log.flush();
+        System.out.println("\n" + StringUtils.repeat("=", 104));
+        System.out.println("TruckDispatchStudy: scenario " + scenario.getName() + ", " + scenario.totalOrders + " orders every " + interval +
+                          " ms, " + scenario.truckCapacity + " containers per truck, seed " + seed);
+        System.out.println(String.format("%-12s %7s %12s %9s %13s %13s %13s %12s",
+                "Policy", "Trips", "Cont/trip", "Load %", "Dwell p50", "Dwell p99", "E2E p99", "Makespan s"));
+        System.out.println(StringUtils.repeat("-", 104));
+        for (Result result : results) {
+            System.out.println(result.format());
+        }
+        System.out.println(StringUtils.repeat("=", 104));
+        Log.shutdown();
+    }
+
+    private static Result run(Scenario scenario, TruckDispatchPolicy policy, long interval, long seed) {
+        Statistics statistics = new Statistics(scenario);
+        DiscreteEventSimulation simulation = new DiscreteEventSimulation(scenario, statistics, seed);
+        simulation.setTruckDispatchPolicy(policy);
+        simulation.setOrderIntervalMs(interval);
+        simulation.run();
+        return new Result(policy, simulation.getSimulatedTimeMs(), statistics);
+    }
+
+    private static final class Result {
+        final TruckDispatchPolicy policy;
+        final long makespanMs;
+        final LatencyHistogram.Snapshot loads;
+        final LatencyHistogram.Snapshot dwell;
+        final double loadFactor;
+        final long endToEndP99;
+
+        Result(TruckDispatchPolicy policy, long makespanMs, Statistics statistics) {
+            this.policy = policy;
+            this.makespanMs = makespanMs;
+            this.loads = statistics.getTruckLoadSnapshot();
+            this.dwell = statistics.getContainerDwellSnapshot();
+            this.loadFactor = statistics.getTruckLoadFactor();
+            this.endToEndP99 = statistics.getOrderEndToEndSnapshot().getValueAtPercentile(99);
+        }
+
+        String format() {
+            return String.format("%-12s %7d %12.2f %8.1f%% %13d %13d %13d %12.1f",
+                    policy, loads.getCount(), loads.getMean(), loadFactor * 100,
+                    dwell.getValueAtPercentile(50), dwell.getValueAtPercentile(99), endToEndP99, makespanMs / 1000.0);
+        }
+    }
+}
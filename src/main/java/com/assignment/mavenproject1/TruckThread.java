@@ -0,0 +1,257 @@
+package com.assignment.mavenproject1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Truck Thread - one per truck in the scenario (trucks, default TRUCK_COUNT). A truck docks while containers are waiting at the bay, takes
+ * as many as it has room for, and undocks; the dispatch policy decides whether it leaves on a
+ * trip or waits off the bay for more (up to truck.capacity per trip).
+ */
+public class TruckThread extends Thread {
+    private final int truckId;
+    private final SimulationContext context;
+    private final RandomStream random;
+    private int tripsCompleted = 0;
+    private int totalContainersDelivered = 0;
+    private boolean isDispatcher = false;
+    private volatile boolean isOperational = true;
+    private final WaitStrategy.Waiter repaired = WaitStrategy.BLOCKING.newWaiter();
+    // Set once this truck has taken the end-of-stream marker off the bay
+    private boolean bayClosed = false;
+    private final Statistics statistics;
+    // Containers aboard for the next trip, and when the first went aboard
+    private final Container[] cargo;
+    private int loaded = 0;
+    private long firstLoadedAt;
+    
+    // Dispatcher only: trucks started so far, itself included
+    private final AtomicInteger trucksCreated = new AtomicInteger(1);
+    
+    public TruckThread(SimulationContext context, int truckId, boolean isDispatcher, Statistics statistics) {
+        super(Constants.TRUCK_THREAD + truckId);
+        this.truckId = truckId;
+        this.context = context;
+        this.random = context.random.stream(getName());
+        this.cargo = new Container[context.scenario.truckCapacity];
+        this.isDispatcher = isDispatcher;
+        this.statistics = statistics;
+        context.workerStarted(PipelineStage.TRUCK_DEPARTURE);
+    }
+    
+    @Override
+    public void run() {
+        try {
+            if (isDispatcher) {
+                startDispatcherMonitoring();
+            }
+            
+            // Continuous operation until the last container has left the bay
+            while (true) {
+                
+                // Check if truck is operational
+                if (!isOperational) {
+                    repaired.await(() -> isOperational, Long.MAX_VALUE); // Woken by the repair
+                    continue;
+                }
+                
+                // Simulate random truck breakdown
+                if (random.nextDouble() < context.scenario.truckBreakdownProbability) {
+                    simulateBreakdown();
+                    continue;
+                }
+                
+                loadFromBay();
+                
+                if (loaded > 0 && shouldDepart()) {
+                    deliverAndReturn();
+                } else if (bayClosed || !context.isRunning()) {
+                    // Empty, and the loaders have finished
+                    break;
+                } else if (loaded == 0 || context.loadingBayQueue.isEmpty()) {
+                    // Woken when a loader drops one off; a part-loaded truck checks its policy again
+                    context.awaitContainerAtBay(loaded == 0 ? Long.MAX_VALUE
+                            : context.getTruckDispatchPolicy().recheckMs(context.scenario,
+                                    System.currentTimeMillis() - firstLoadedAt));
+                }
+            }
+            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            context.workerFinished(PipelineStage.TRUCK_DEPARTURE);
+        }
+        
+        Log.info("Truck-{}: Completed all operations - {} containers delivered in {} trips (Thread: {})",
+                 truckId, totalContainersDelivered, tripsCompleted, getName());
+    }
+    
+    private void startDispatcherMonitoring() {
+        // Created here rather than on the timer so they count as live trucks before this one can exit
+        List<TruckThread> newTrucks = new ArrayList<>();
+        for (int i = 2; i <= context.scenario.trucks; i++) {
+            newTrucks.add(new TruckThread(context, i, false, statistics));
+        }
+        // Start the rest of the fleet, with a brief delay between them
+        for (int i = 2; i <= context.scenario.trucks; i++) {
+            TruckThread newTruck = newTrucks.get(i - 2);
+            context.timers.schedule((i - 2) * 500L, () -> {
+                context.workers.start(newTruck);
+                trucksCreated.incrementAndGet();
+                Log.info("Truck-{}: Created Truck-{} (Total: {} trucks active) (Thread: {})",
+                         truckId, newTruck.getTruckId(), trucksCreated.get(), Thread.currentThread().getName());
+            });
+        }
+        
+        // Monitor and show bay status periodically
+        context.timers.schedule(5000, this::logBayStatus);
+    }
+    
+    // Every 5 seconds until the pipeline has drained
+    private void logBayStatus() {
+        if (!context.isRunning() || context.isPipelineDrained()) {
+            return;
+        }
+        int containersInBay = context.loadingBayQueue.size();
+        int availableBays = context.resources.getAvailable(ResourceAllocator.Resource.LOADING_BAY);
+
+        if (containersInBay > 0 || availableBays < context.scenario.loadingBays) {
+            Log.debug("Bay Status: {} containers waiting, {}/{} bays occupied by trucks (Thread: {})",
+                      containersInBay, (context.scenario.loadingBays - availableBays), context.scenario.loadingBays,
+                      Thread.currentThread().getName());
+        }
+        context.timers.schedule(5000, this::logBayStatus);
+    }
+    
+    private void simulateBreakdown() {
+        isOperational = false;
+        context.journal.unit(JournalEvent.TRUCK_BREAKDOWN, truckId, System.currentTimeMillis());
+        Log.info("Truck-{}: Broken down (Thread: {})", truckId, getName());
+        
+        // Schedule repair (truck.repair.min.ms..truck.repair.max.ms)
+        context.timers.schedule(context.scenario.truckRepairTime(random), () -> {
+            isOperational = true;
+            repaired.signal();
+            context.journal.unit(JournalEvent.TRUCK_REPAIRED, truckId, System.currentTimeMillis());
+            Log.info("Truck-{}: Repaired and returned to bay (Thread: {})",
+                     truckId, Thread.currentThread().getName());
+        });
+    }
+    
+    // Dock while containers are waiting, take as many as there is room for, and undock
+    private void loadFromBay() throws InterruptedException {
+        // Nothing at the bay - don't occupy one, the loaders need a free bay to drop containers off
+        if (context.loadingBayQueue.isEmpty() || loaded == cargo.length) {
+            return;
+        }
+
+        long waitStartTime = System.currentTimeMillis();
+
+        // Check if bays are full first
+        if (context.resources.getAvailable(ResourceAllocator.Resource.LOADING_BAY) == 0) {
+            Log.debug("Truck-{}: All {} loading bays occupied, waiting for free bay... (Thread: {})",
+                      truckId, context.scenario.loadingBays, getName());
+        }
+
+        // BLOCK and wait until a bay becomes available (no timeout)
+        context.resources.acquire(0, 1, 0); // This will block until a bay is free
+
+        try {
+            long waitTime = System.currentTimeMillis() - waitStartTime;
+            if (waitTime > 1000) { // Only record significant wait times
+                statistics.addTruckWaitTime(waitTime);
+                Log.debug("Truck-{}: Waited {} seconds for loading bay (Thread: {})",
+                          truckId, (waitTime/1000.0), getName());
+            }
+
+            // Wait briefly for the first container (another truck may have taken it), then take only what is there
+            long timeoutMs = 2000;
+            while (loaded < cargo.length) {
+                Container container = context.takeFromBay(timeoutMs, TimeUnit.MILLISECONDS);
+                timeoutMs = 0;
+
+                if (container == SimulationContext.END_OF_CONTAINERS) {
+                    // Loaders have finished; leave the marker for the other trucks
+                    bayClosed = context.returnEndOfStreamToBay();
+                    break;
+                }
+                if (container == null) {
+                    break;
+                }
+
+                long loadingStartTime = System.currentTimeMillis();
+                container.markStarted(PipelineStage.TRUCK_DEPARTURE, loadingStartTime);
+
+                // Simulate loading time for one container
+                int loadingDelay = random.nextInt(200) + 100;
+                Thread.sleep(loadingDelay);
+
+                statistics.addTruckLoadingTime(System.currentTimeMillis() - loadingStartTime);
+                statistics.incrementContainersLoaded();
+                if (loaded == 0) {
+                    firstLoadedAt = loadingStartTime;
+                }
+                cargo[loaded++] = container;
+
+                Log.debug("Truck-{}: Loaded Container #{} ({}/{} aboard) (Thread: {})",
+                          truckId, container.getContainerId(), loaded, cargo.length, getName());
+            }
+
+        } finally {
+            context.resources.release(0, 1, 0);
+            Log.debug("Truck-{}: Released loading bay ({}/{} bays now available) (Thread: {})",
+                      truckId, context.resources.getAvailable(ResourceAllocator.Resource.LOADING_BAY),
+                      context.scenario.loadingBays, getName());
+        }
+    }
+    
+    // Loaders finished or shutting down: leave with what is aboard
+    private boolean shouldDepart() {
+        return bayClosed || !context.isRunning()
+               || context.getTruckDispatchPolicy().shouldDepart(context.scenario, loaded,
+                       System.currentTimeMillis() - firstLoadedAt, context.containerBacklog());
+    }
+    
+    private void deliverAndReturn() throws InterruptedException {
+        // Simulate departure to delivery hub
+        Log.debug("Truck-{}: Departing for delivery trip #{} with {} containers (Thread: {})",
+                  truckId, (tripsCompleted + 1), loaded, getName());
+        
+        // Every container leaves with this truck - close the trace of every order in it
+        long departureTime = System.currentTimeMillis();
+        for (int i = 0; i < loaded; i++) {
+            cargo[i].markCompleted(PipelineStage.TRUCK_DEPARTURE, departureTime);
+            context.journal.container(JournalEvent.TRUCK_DEPARTED, cargo[i], truckId, departureTime);
+            statistics.recordShippedContainer(cargo[i]);
+            // Departed - the container can be reused by the sorters
+            context.containerPool.release(cargo[i]);
+            cargo[i] = null;
+        }
+        statistics.recordTruckDeparture(loaded);
+        tripsCompleted++;
+        totalContainersDelivered += loaded;
+        loaded = 0;
+        
+        // Simulate delivery time (truck.trip.min.ms..truck.trip.max.ms per trip)
+        Thread.sleep(context.scenario.truckTripTime(random));
+        
+        // Return to loading bay
+        Log.debug("Truck-{}: Returned from delivery, back at bay (Thread: {})", truckId, getName());
+        
+        // Brief rest before next trip
+        Thread.sleep(random.nextInt(200) + 100);
+    }
+    
+    public static TruckThread startTruckDispatchSystem(SimulationContext context, Statistics statistics) {
+        // Start with 1 truck (the dispatcher), which starts the rest
+        TruckThread dispatcher = new TruckThread(context, 1, true, statistics);
+        context.workers.start(dispatcher);
+        return dispatcher;
+    }
+    
+    public int getTruckId() { return truckId; }
+    public int getTotalContainersDelivered() { return totalContainersDelivered; }
+    public int getTripsCompleted() { return tripsCompleted; }
+}
\ No newline at end of file
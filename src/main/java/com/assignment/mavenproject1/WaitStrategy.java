@@ -0,0 +1,102 @@
+package com.assignment.mavenproject1;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * How a ring-buffer queue waits when it is empty (consumers) or full (producers).
+ * BLOCKING sleeps on a condition and costs producers nothing while nobody waits,
+ * SPINNING burns a core for the lowest handoff latency, PARKING naps in short intervals.
+ */
+public enum WaitStrategy {
+    BLOCKING,
+    SPINNING,
+    PARKING;
+
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final int SPINS_BEFORE_YIELD = 100;
+
+    public static WaitStrategy parse(String value) {
+        return valueOf(value.trim().toUpperCase());
+    }
+
+    /**
+     * Wait state for one side (not-empty or not-full) of a queue
+     */
+    public Waiter newWaiter() {
+        return new Waiter(this);
+    }
+
+    public static final class Waiter {
+        private final WaitStrategy strategy;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition signalled = lock.newCondition();
+
+        private Waiter(WaitStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        /**
+         * Wait until the condition holds or the timeout expires.
+         * @return remaining nanos (> 0 if satisfied in time), or <= 0 on timeout
+         */
+        public long await(BooleanSupplier condition, long timeoutNanos) throws InterruptedException {
+            long deadline = System.nanoTime() + timeoutNanos;
+            long remaining = timeoutNanos;
+            int spins = 0;
+
+            if (strategy == BLOCKING) {
+                lock.lockInterruptibly();
+                // Counted once the lock is held, so an interrupt while locking cannot leak a waiter
+                waiting.incrementAndGet();
+                try {
+                    while (!condition.getAsBoolean()) {
+                        if (remaining <= 0) {
+                            return remaining;
+                        }
+                        remaining = signalled.awaitNanos(remaining);
+                    }
+                    return Math.max(1, remaining);
+                } finally {
+                    waiting.decrementAndGet();
+                    lock.unlock();
+                }
+            }
+
+            while (!condition.getAsBoolean()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return remaining;
+                }
+                if (strategy == PARKING) {
+                    LockSupport.parkNanos(this, Math.min(PARK_NANOS, remaining));
+                } else if (++spins % SPINS_BEFORE_YIELD == 0) {
+                    Thread.yield();
+                }
+            }
+            return Math.max(1, deadline - System.nanoTime());
+        }
+
+        // Wake waiters after the condition may have become true; free when nobody is waiting.
+        // The change must have been published with a volatile write or CAS: a waiter counts
+        // itself before checking the condition, so either it sees the change or this sees it.
+        public void signal() {
+            if (strategy == BLOCKING && waiting.get() > 0) {
+                lock.lock();
+                try {
+                    signalled.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
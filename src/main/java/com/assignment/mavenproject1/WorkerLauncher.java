@@ -0,0 +1,47 @@
+package com.assignment.mavenproject1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Starts stage workers on platform or virtual threads.
+ * Worker classes stay Thread subclasses: in VIRTUAL mode their run() body is executed
+ * by a virtual thread carrying the same name, and that carrier is what gets tracked.
+ * Each SimulationContext has its own launcher, so concurrent runs track their own workers.
+ */
+public class WorkerLauncher {
+
+    private volatile ExecutionMode mode = ExecutionMode.PLATFORM;
+    private final List<Thread> workers = new CopyOnWriteArrayList<>();
+
+    public void setMode(ExecutionMode requested) {
+        if (requested == ExecutionMode.VIRTUAL && !ExecutionMode.isVirtualSupported()) {
+            Log.info("WorkerLauncher: Virtual threads need Java 21+ (running {}) - using platform threads",
+                     System.getProperty("java.version"));
+            mode = ExecutionMode.PLATFORM;
+            return;
+        }
+        mode = requested;
+        Log.info("WorkerLauncher: Execution mode {}", mode);
+    }
+
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    // Start a stage worker and track the thread actually running it
+    public Thread start(Thread worker) {
+        Thread running = worker;
+        if (mode == ExecutionMode.VIRTUAL) {
+            running = mode.newThread(worker.getName(), worker);
+        }
+        workers.add(running);
+        running.start();
+        return running;
+    }
+
+    public List<Thread> getWorkers() {
+        return new ArrayList<>(workers);
+    }
+}
@@ -0,0 +1,86 @@
+package com.assignment.mavenproject1;
+
+/**
+ * Batch and container assembly for a single zone.
+ *
+ * Boxes go straight into the slots of the zone's open container; a batch is each run of
+ * boxesPerBatch slots, and the container is ready when its slots are full (by default
+ * BOXES_PER_CONTAINER boxes in batches of BOXES_PER_BATCH, i.e. five batches). Nothing is copied or allocated per box, and containers come from a
+ * ContainerPool. Sorters working on different zones never touch the same assembler, so
+ * assembly runs in parallel across zones; sorters on the same zone hold this assembler's
+ * monitor only for the slot write.
+ */
+public class ZoneAssembler {
+    private final String zone;
+    private final ContainerIdAllocator containerIds;
+    private final ContainerPool containerPool;
+    private final int boxesPerBatch;
+    private Container open;
+    private int boxesAdded = 0;
+    private int batchesCompleted = 0;
+    private int containersAssembled = 0;
+
+    public ZoneAssembler(String zone, ContainerIdAllocator containerIds, ContainerPool containerPool) {
+        this(zone, containerIds, containerPool, Constants.BOXES_PER_BATCH);
+    }
+    
+    public ZoneAssembler(String zone, ContainerIdAllocator containerIds, ContainerPool containerPool, int boxesPerBatch) {
+        this.zone = zone;
+        this.containerIds = containerIds;
+        this.containerPool = containerPool;
+        this.boxesPerBatch = boxesPerBatch;
+    }
+
+    /**
+     * Add a sorted box; returns the container when this box fills it
+     */
+    public synchronized Container addBox(Box box) {
+        if (open == null) {
+            open = containerPool.acquire(containerIds.next());
+        }
+        open.addBox(box);
+        boxesAdded++;
+        if (open.getBoxCount() % boxesPerBatch == 0) {
+            batchesCompleted++;
+        }
+        if (!open.isFull()) {
+            return null;
+        }
+        containersAssembled++;
+        Container full = open;
+        open = null;
+        return full;
+    }
+
+    /**
+     * The partly filled container (including a partial final batch), or null if empty.
+     * Call once no more boxes can arrive for this zone.
+     */
+    public synchronized Container flush() {
+        Container partial = open;
+        open = null;
+        if (partial == null) {
+            return null;
+        }
+        if (partial.getBoxCount() % boxesPerBatch != 0) {
+            batchesCompleted++;
+        }
+        containersAssembled++;
+        return partial;
+    }
+
+    // The partly filled container and the counters, for a checkpoint (see SimulationCheckpoint)
+    synchronized Container getOpen() { return open; }
+
+    synchronized void restore(Container open, int boxesAdded, int batchesCompleted, int containersAssembled) {
+        this.open = open;
+        this.boxesAdded = boxesAdded;
+        this.batchesCompleted = batchesCompleted;
+        this.containersAssembled = containersAssembled;
+    }
+
+    public String getZone() { return zone; }
+    public synchronized int getBoxesAdded() { return boxesAdded; }
+    public synchronized int getBatchesCompleted() { return batchesCompleted; }
+    public synchronized int getContainersAssembled() { return containersAssembled; }
+}
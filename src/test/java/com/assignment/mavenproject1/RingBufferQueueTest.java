@@ -0,0 +1,161 @@
+package com.assignment.mavenproject1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Stress tests for the ring-buffer queues: every element put is taken exactly once, in order
+ * per producer, under each wait strategy. The queues are kept tiny so producers and consumers
+ * keep finding them full and empty, and a lost wakeup shows up as a timeout instead of a hang.
+ */
+class RingBufferQueueTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void spscPutTakeDeliversEveryElementInOrder(WaitStrategy strategy) {
+        assertTimeoutPreemptively(TIMEOUT, () -> stress(new SpscRingBuffer<>(4, strategy), 1, 1, 200_000));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void mpmcPutTakeDeliversEveryElementOnce(WaitStrategy strategy) {
+        assertTimeoutPreemptively(TIMEOUT, () -> stress(new MpmcRingBuffer<>(4, strategy), 3, 3, 50_000));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void timedOfferAndPollTimeOut(WaitStrategy strategy) throws InterruptedException {
+        RingBufferQueue<Integer> queue = new SpscRingBuffer<>(2, strategy);
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer(1, 10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer(2, 10, TimeUnit.MILLISECONDS));
+        assertFalse(queue.offer(3, 10, TimeUnit.MILLISECONDS));
+        assertEquals(2, queue.size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void interruptedTakeLeavesNoWaiterBehind(WaitStrategy strategy) throws InterruptedException {
+        RingBufferQueue<Integer> queue = new MpmcRingBuffer<>(2, strategy);
+        Thread consumer = new Thread(() -> {
+            try {
+                queue.take();
+            } catch (InterruptedException e) {
+                // Expected
+            }
+        });
+        consumer.start();
+        Thread.sleep(20);
+        consumer.interrupt();
+        consumer.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(consumer.isAlive());
+        assertTrue(queue.offer(1));
+        assertEquals(Integer.valueOf(1), queue.poll());
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void removingAnythingButTheHeadIsRejected(WaitStrategy strategy) {
+        for (RingBufferQueue<Integer> queue : Arrays.<RingBufferQueue<Integer>>asList(
+                new SpscRingBuffer<>(4, strategy), new MpmcRingBuffer<>(4, strategy))) {
+            queue.offer(1);
+            queue.offer(2);
+            assertThrows(UnsupportedOperationException.class, () -> queue.remove(2));
+            assertThrows(UnsupportedOperationException.class, () -> queue.removeAll(Arrays.asList(1)));
+            assertThrows(UnsupportedOperationException.class, () -> queue.retainAll(Arrays.asList(1)));
+            assertThrows(UnsupportedOperationException.class, () -> queue.removeIf(e -> e == 1));
+            Iterator<Integer> iterator = queue.iterator();
+            iterator.next();
+            assertThrows(UnsupportedOperationException.class, iterator::remove);
+            assertEquals(2, queue.size());
+            assertEquals(Integer.valueOf(1), queue.poll());
+        }
+    }
+
+    // Each producer puts perProducer values tagged with its index; each consumer checks that the
+    // values of any one producer arrive in order, and together they must see every value once
+    private static void stress(RingBufferQueue<Long> queue, int producers, int consumers, int perProducer)
+            throws InterruptedException {
+        long total = (long) producers * perProducer;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        boolean[][] seen = new boolean[producers][perProducer];
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            final long tag = (long) p << 32;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.put(tag | i);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }, "Producer-" + p));
+        }
+        long[] share = new long[consumers];
+        for (int c = 0; c < consumers; c++) {
+            share[c] = total / consumers + (c < total % consumers ? 1 : 0);
+        }
+        for (int c = 0; c < consumers; c++) {
+            final long count = share[c];
+            threads.add(new Thread(() -> {
+                int[] last = new int[producers];
+                Arrays.fill(last, -1);
+                try {
+                    for (long n = 0; n < count; n++) {
+                        long value = queue.take();
+                        int producer = (int) (value >>> 32);
+                        int index = (int) value;
+                        if (index <= last[producer]) {
+                            throw new AssertionError("Producer " + producer + " value " + index
+                                                     + " taken after " + last[producer]);
+                        }
+                        last[producer] = index;
+                        synchronized (seen) {
+                            if (seen[producer][index]) {
+                                throw new AssertionError("Producer " + producer + " value " + index + " taken twice");
+                            }
+                            seen[producer][index] = true;
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }, "Consumer-" + c));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        for (int p = 0; p < producers; p++) {
+            for (int i = 0; i < perProducer; i++) {
+                assertTrue(seen[p][i], "Producer " + p + " value " + i + " never taken");
+            }
+        }
+        assertTrue(queue.isEmpty());
+    }
+}